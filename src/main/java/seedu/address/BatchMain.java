@@ -0,0 +1,155 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchReport;
+import seedu.address.logic.BatchRunner;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.AppointmentArchive;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.CompressedBackups;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The entry point for running a file of commands without the GUI, such as to import the next day's appointments.
+ * JavaFX is never started. The data file and how it is stored are taken from the same config and preference files
+ * as the application, which are only read.
+ *
+ * Usage: {@code java -cp addressbook.jar seedu.address.BatchMain [--config=CONFIG_FILE] [--checkpoint=N] COMMAND_FILE}
+ *
+ * The address book is saved once all the commands have run, and also after every N commands if a checkpoint is
+ * given. Exits with {@link #EXIT_SUCCESS} if every command succeeded, {@link #EXIT_COMMANDS_FAILED} if any command
+ * failed, or {@link #EXIT_ERROR} if the commands could not be run or the address book could not be saved.
+ */
+public class BatchMain {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMANDS_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    public static final String MESSAGE_USAGE =
+            "Usage: seedu.address.BatchMain [--config=CONFIG_FILE] [--checkpoint=N] COMMAND_FILE";
+
+    private static final String CONFIG_OPTION = "--config=";
+    private static final String CHECKPOINT_OPTION = "--checkpoint=";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchMain.class);
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out));
+    }
+
+    /**
+     * Runs the command file given in {@code args}, reports the outcome to {@code out}, and returns the exit status.
+     */
+    static int run(String[] args, PrintStream out) {
+        Path commandFilePath = null;
+        Path configFilePath = Config.DEFAULT_CONFIG_FILE;
+        int checkpointInterval = 0;
+        for (String arg : args) {
+            if (arg.startsWith(CONFIG_OPTION) && FileUtil.isValidPath(arg.substring(CONFIG_OPTION.length()))) {
+                configFilePath = Paths.get(arg.substring(CONFIG_OPTION.length()));
+            } else if (arg.startsWith(CHECKPOINT_OPTION)) {
+                checkpointInterval = parseCheckpointInterval(arg.substring(CHECKPOINT_OPTION.length()));
+            } else if (commandFilePath == null && !arg.startsWith("--") && FileUtil.isValidPath(arg)) {
+                commandFilePath = Paths.get(arg);
+            } else {
+                checkpointInterval = -1;
+            }
+        }
+        if (commandFilePath == null || checkpointInterval < 0) {
+            out.println(MESSAGE_USAGE);
+            return EXIT_ERROR;
+        }
+
+        try {
+            Optional<Config> config = ConfigUtil.readConfig(configFilePath);
+            LogsCenter.init(config.orElseGet(Config::new));
+            UserPrefsStorage userPrefsStorage =
+                    new JsonUserPrefsStorage(config.orElseGet(Config::new).getUserPrefsFilePath());
+            UserPrefs userPrefs = userPrefsStorage.readUserPrefs().orElseGet(UserPrefs::new);
+            AddressBookStorage addressBookStorage = MainApp.initAddressBookStorage(userPrefs);
+            Storage storage = new StorageManager(addressBookStorage, userPrefsStorage,
+                    new CompressedBackups(userPrefs.getAddressBookBackupCount()));
+            try {
+                return runCommandFile(commandFilePath, checkpointInterval, userPrefs, addressBookStorage, storage, out);
+            } finally {
+                close(storage);
+            }
+        } catch (DataLoadingException | IOException e) {
+            out.println("Could not run " + commandFilePath + ": " + e.getMessage());
+            return EXIT_ERROR;
+        }
+    }
+
+    /**
+     * Runs the command file at {@code commandFilePath} against the data in {@code storage}, reports the outcome to
+     * {@code out}, and returns the exit status.
+     */
+    private static int runCommandFile(Path commandFilePath, int checkpointInterval, UserPrefs userPrefs,
+                                      AddressBookStorage addressBookStorage, Storage storage, PrintStream out)
+            throws DataLoadingException, IOException {
+        // Unlike the app, an unreadable data file is never replaced, so that it is not overwritten on save
+        ReadOnlyAddressBook initialData = storage.readAddressBook().orElseGet(AddressBook::new);
+        Model model = new ModelManager(initialData, userPrefs);
+        if (addressBookStorage instanceof AppointmentArchive) {
+            model.setAppointmentArchive((AppointmentArchive) addressBookStorage);
+        }
+        if (addressBookStorage instanceof AddressBookHistory) {
+            model.setAddressBookHistory((AddressBookHistory) addressBookStorage);
+        }
+
+        BatchReport report;
+        try (BufferedReader commands = Files.newBufferedReader(commandFilePath)) {
+            report = new BatchRunner(model, storage, checkpointInterval).run(commands);
+        }
+        report.getFailures().forEach(out::println);
+        out.println(report.getSummary());
+        logger.info("Ran command file " + commandFilePath + ": " + report.getSummary());
+        return report.getFailures().isEmpty() ? EXIT_SUCCESS : EXIT_COMMANDS_FAILED;
+    }
+
+    /**
+     * Closes {@code storage}, logging rather than reporting a failure, as the outcome of the run is already known.
+     */
+    private static void close(Storage storage) {
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to close data file " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the number of commands in {@code value} after which to save, or -1 if it is not a positive number.
+     */
+    private static int parseCheckpointInterval(String value) {
+        try {
+            int checkpointInterval = Integer.parseInt(value);
+            return checkpointInterval > 0 ? checkpointInterval : -1;
+        } catch (NumberFormatException nfe) {
+            return -1;
+        }
+    }
+}
@@ -6,28 +6,44 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.JournalSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.PartitionSettings;
+import seedu.address.commons.core.PhaseTimer;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.AddressBookReloader;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.AppointmentArchive;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.CompressedBackups;
+import seedu.address.storage.DataFileWatcher;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedPatientStore;
+import seedu.address.storage.PartitionedAddressBookStorage;
+import seedu.address.storage.SqlAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindAddressBookSaver;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -43,9 +59,18 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected WriteBehindAddressBookSaver addressBookSaver;
+    protected DataFileWatcher dataFileWatcher;
     protected Model model;
     protected Config config;
 
+    private final PhaseTimer startupTimer = new PhaseTimer();
+    private LogicManager logicManager;
+    private AppointmentArchive appointmentArchive;
+    private MappedPatientStore patientStore;
+    // Whether the initial address book was read from the data file, rather than being sample or empty data
+    private volatile boolean isInitialDataStored;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -54,43 +79,184 @@ public class MainApp extends Application {
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        endStartupPhase("config");
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        endStartupPhase("prefs");
 
-        model = initModelManager(storage, userPrefs);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage,
+                new CompressedBackups(userPrefs.getAddressBookBackupCount()));
+        if (addressBookStorage instanceof AppointmentArchive) {
+            appointmentArchive = (AppointmentArchive) addressBookStorage;
+        }
 
-        logic = new LogicManager(model, storage);
+        // The address book is only read once the window is shown, so the model starts out empty
+        model = initModel(userPrefs);
+        if (addressBookStorage instanceof AddressBookHistory) {
+            model.setAddressBookHistory((AddressBookHistory) addressBookStorage);
+        }
+        addressBookSaver = new WriteBehindAddressBookSaver(storage);
+        logicManager = new LogicManager(model, storage, addressBookSaver);
+        logicManager.startLoading();
+        logic = logicManager;
 
         ui = new UiManager(logic);
+        endStartupPhase("logic");
+    }
+
+    /**
+     * Returns an empty model with {@code userPrefs}, which keeps its patients in a memory-mapped file next to the
+     * data file if that is enabled in {@code userPrefs}, so that only the patients in use are held in memory.
+     * The patients are kept in memory instead if the file cannot be opened.
+     */
+    private Model initModel(ReadOnlyUserPrefs userPrefs) {
+        if (!userPrefs.isPatientStoreMapped()) {
+            return new ModelManager(new AddressBook(), userPrefs);
+        }
+
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        Path patientStoreFilePath =
+                addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + MappedPatientStore.FILE_SUFFIX);
+        try {
+            patientStore = new MappedPatientStore(patientStoreFilePath);
+            logger.info("Keeping patients in mapped file : " + patientStoreFilePath);
+            return new ModelManager(new AddressBook(), userPrefs, patientStore);
+        } catch (IOException e) {
+            logger.warning("Failed to open patient file " + patientStoreFilePath + ", keeping patients in memory : "
+                    + StringUtil.getDetails(e));
+            return new ModelManager(new AddressBook(), userPrefs);
+        }
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data file in {@code userPrefs}, which journals changes
+     * instead of rewriting the whole file if the journal is enabled in {@code userPrefs}, or else stores the
+     * appointments in per-month partitions if partitioning is enabled in {@code userPrefs}.
+     * Otherwise, the data file is saved in the format chosen in {@code userPrefs}.
+     * The journal's snapshots and the partitioned patient file are always JSON, which is only compressed if the
+     * format chosen is {@code GZIP_JSON}.
+     */
+    static AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        JournalSettings journalSettings = userPrefs.getJournalSettings();
+        PartitionSettings partitionSettings = userPrefs.getPartitionSettings();
+        DataFileFormat fileFormat = userPrefs.getAddressBookFileFormat();
+        if (!journalSettings.isEnabled() && !partitionSettings.isEnabled()) {
+            switch (fileFormat) {
+            case BINARY:
+                return new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath());
+            case GZIP_JSON:
+                return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath(), true, true);
+            case SQLITE:
+                return new SqlAddressBookStorage(userPrefs.getAddressBookFilePath());
+            default:
+                return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+            }
+        }
+
+        boolean isCompressed = fileFormat == DataFileFormat.GZIP_JSON;
+        if (fileFormat != DataFileFormat.JSON && !isCompressed) {
+            logger.warning("Data file format " + fileFormat + " is not supported with the journal or appointment"
+                    + " partitions, saving the data file as JSON instead");
+        }
+        if (!journalSettings.isEnabled()) {
+            logger.info("Using appointment partitions with settings : " + partitionSettings);
+            return new PartitionedAddressBookStorage(userPrefs.getAddressBookFilePath(), partitionSettings,
+                    isCompressed);
+        }
+        if (partitionSettings.isEnabled()) {
+            logger.warning("Appointment partitions are not supported with the journal, using the journal only");
+        }
+        logger.info("Using journal with settings : " + journalSettings);
+        return new JournalAddressBookStorage(userPrefs.getAddressBookFilePath(), journalSettings, isCompressed);
+    }
+
+    /**
+     * Starts reloading the address book whenever its data file is changed by another process.
+     * Only data files that hold the whole address book on their own can be watched.
+     */
+    private void initDataFileWatcher(ReadOnlyUserPrefs userPrefs) {
+        if (userPrefs.getJournalSettings().isEnabled() || userPrefs.getPartitionSettings().isEnabled()) {
+            logger.warning("Data file cannot be watched when the journal or appointment partitions are enabled");
+            return;
+        }
+
+        AddressBookReloader reloader = new AddressBookReloader(model, storage, Platform::runLater);
+        dataFileWatcher = new DataFileWatcher(storage.getAddressBookFilePath(), reloader::reload);
+        try {
+            dataFileWatcher.start();
+        } catch (IOException e) {
+            logger.warning("Failed to watch data file : " + StringUtil.getDetails(e));
+        }
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Reads the address book from {@code storage} on a background thread, then sets it in the model on the JavaFX
+     * application thread and executes the commands entered while it was loading.
+     */
+    private void loadAddressBookInBackground() {
+        Thread loader = new Thread(() -> {
+            ReadOnlyAddressBook initialData = readInitialAddressBook(storage);
+            endStartupPhase("load");
+            Platform.runLater(() -> setInitialAddressBook(initialData));
+        }, "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyAddressBook readInitialAddressBook(Storage storage) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
         try {
             addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            isInitialDataStored = addressBookOptional.isPresent();
+            return addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            return new AddressBook();
+        } catch (RuntimeException e) {
+            // Loading must still finish, or the commands entered meanwhile would stay queued forever
+            logger.severe("Unexpected error while loading data file at " + storage.getAddressBookFilePath()
+                    + ". Will be starting with an empty AddressBook : " + StringUtil.getDetails(e));
+            return new AddressBook();
         }
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    /**
+     * Replaces the empty address book the app started with by {@code initialData}.
+     * The appointment archive is only set afterwards, as setting the address book discards unloaded appointments.
+     * If {@code initialData} was read from the data file, it is not saved again until it is changed.
+     */
+    private void setInitialAddressBook(ReadOnlyAddressBook initialData) {
+        model.setAddressBook(initialData);
+        if (isInitialDataStored) {
+            addressBookSaver.markSaved(model.getAddressBook());
+        }
+        if (appointmentArchive != null) {
+            model.setAppointmentArchive(appointmentArchive);
+        }
+        logicManager.finishLoading();
+        if (model.getUserPrefs().isAddressBookFileWatched()) {
+            initDataFileWatcher(model.getUserPrefs());
+        }
+        endStartupPhase("apply");
+        logger.info("Started up in " + startupTimer.getSummary());
+    }
+
+    private void endStartupPhase(String phaseName) {
+        logger.info("Startup phase " + phaseName + " took " + startupTimer.endPhase(phaseName).toMillis() + " ms");
     }
 
     private void initLogging(Config config) {
@@ -172,11 +338,33 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        endStartupPhase("ui");
+        loadAddressBookInBackground();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        if (dataFileWatcher != null) {
+            try {
+                dataFileWatcher.close();
+            } catch (IOException e) {
+                logger.warning("Failed to stop watching data file " + StringUtil.getDetails(e));
+            }
+        }
+        addressBookSaver.close();
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to close data file " + StringUtil.getDetails(e));
+        }
+        if (patientStore != null) {
+            try {
+                patientStore.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close patient file " + StringUtil.getDetails(e));
+            }
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,16 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats that the address book data file can be saved in.
+ * Data files in any of these formats can be read, regardless of the format chosen for saving.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON. */
+    JSON,
+    /** JSON compressed with gzip, which is much smaller on disk and in backups. */
+    GZIP_JSON,
+    /** A compact binary snapshot, which is smaller and faster to read and write than JSON. */
+    BINARY,
+    /** An embedded SQLite database, which only writes the patients and appointments that changed on each save. */
+    SQLITE
+}
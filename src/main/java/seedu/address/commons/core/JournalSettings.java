@@ -0,0 +1,127 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the settings of the address book journal.
+ * Guarantees: immutable.
+ */
+public class JournalSettings implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Determines when journal records are forced to the storage device.
+     */
+    public enum SyncPolicy {
+        /** Every save is forced to the storage device before it completes. */
+        ALWAYS,
+        /** Saves are grouped and forced to the storage device once per sync interval. */
+        PERIODIC,
+        /** Records are left to the operating system to write out. */
+        NEVER
+    }
+
+    private static final long DEFAULT_SYNC_INTERVAL_MILLIS = 1000;
+    private static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+    private static final int DEFAULT_HISTORY_SNAPSHOT_LIMIT = 10;
+
+    private final boolean isEnabled;
+    private final SyncPolicy syncPolicy;
+    private final long syncIntervalMillis;
+    private final int compactionThreshold;
+    private final int historySnapshotLimit;
+
+    /**
+     * Constructs a {@code JournalSettings} with the journal disabled and default sync, compaction and history
+     * settings.
+     */
+    public JournalSettings() {
+        isEnabled = false;
+        syncPolicy = SyncPolicy.PERIODIC;
+        syncIntervalMillis = DEFAULT_SYNC_INTERVAL_MILLIS;
+        compactionThreshold = DEFAULT_COMPACTION_THRESHOLD;
+        historySnapshotLimit = DEFAULT_HISTORY_SNAPSHOT_LIMIT;
+    }
+
+    /**
+     * Constructs a {@code JournalSettings} with the specified settings.
+     *
+     * @param compactionThreshold number of journal records after which the journal is compacted into the snapshot.
+     * @param historySnapshotLimit number of compacted snapshots kept, together with the journal records between
+     *     them, so that the address book can be restored as of an earlier time. No history is kept if this is 0.
+     */
+    public JournalSettings(boolean isEnabled, SyncPolicy syncPolicy, long syncIntervalMillis,
+                           int compactionThreshold, int historySnapshotLimit) {
+        requireNonNull(syncPolicy);
+        this.isEnabled = isEnabled;
+        this.syncPolicy = syncPolicy;
+        this.syncIntervalMillis = syncIntervalMillis;
+        this.compactionThreshold = compactionThreshold;
+        this.historySnapshotLimit = historySnapshotLimit;
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    public SyncPolicy getSyncPolicy() {
+        return syncPolicy;
+    }
+
+    public long getSyncIntervalMillis() {
+        return syncIntervalMillis;
+    }
+
+    public int getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    public int getHistorySnapshotLimit() {
+        return historySnapshotLimit;
+    }
+
+    public boolean isHistoryKept() {
+        return historySnapshotLimit > 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JournalSettings)) {
+            return false;
+        }
+
+        JournalSettings otherJournalSettings = (JournalSettings) other;
+        return isEnabled == otherJournalSettings.isEnabled
+                && syncPolicy == otherJournalSettings.syncPolicy
+                && syncIntervalMillis == otherJournalSettings.syncIntervalMillis
+                && compactionThreshold == otherJournalSettings.compactionThreshold
+                && historySnapshotLimit == otherJournalSettings.historySnapshotLimit;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isEnabled, syncPolicy, syncIntervalMillis, compactionThreshold, historySnapshotLimit);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isEnabled", isEnabled)
+                .add("syncPolicy", syncPolicy)
+                .add("syncIntervalMillis", syncIntervalMillis)
+                .add("compactionThreshold", compactionThreshold)
+                .add("historySnapshotLimit", historySnapshotLimit)
+                .toString();
+    }
+}
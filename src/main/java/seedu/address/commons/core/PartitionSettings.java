@@ -0,0 +1,76 @@
+package seedu.address.commons.core;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the settings for storing appointments in per-month partitions.
+ * Guarantees: immutable.
+ */
+public class PartitionSettings implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_RECENT_MONTHS = 3;
+
+    private final boolean isEnabled;
+    private final int recentMonths;
+
+    /**
+     * Constructs a {@code PartitionSettings} with partitioning disabled and the default recent window.
+     */
+    public PartitionSettings() {
+        isEnabled = false;
+        recentMonths = DEFAULT_RECENT_MONTHS;
+    }
+
+    /**
+     * Constructs a {@code PartitionSettings} with the specified settings.
+     *
+     * @param recentMonths number of months, up to and including the current month, whose appointments are loaded
+     *     on startup. Appointments in later months are always loaded.
+     */
+    public PartitionSettings(boolean isEnabled, int recentMonths) {
+        this.isEnabled = isEnabled;
+        this.recentMonths = recentMonths;
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    public int getRecentMonths() {
+        return recentMonths;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PartitionSettings)) {
+            return false;
+        }
+
+        PartitionSettings otherPartitionSettings = (PartitionSettings) other;
+        return isEnabled == otherPartitionSettings.isEnabled
+                && recentMonths == otherPartitionSettings.recentMonths;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isEnabled, recentMonths);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isEnabled", isEnabled)
+                .add("recentMonths", recentMonths)
+                .toString();
+    }
+}
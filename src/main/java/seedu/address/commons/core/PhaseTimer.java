@@ -0,0 +1,78 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Measures how long each of a sequence of phases takes, such as the phases of starting the app.
+ * Each phase is timed from the end of the phase before it, so the phases add up to the total time.
+ * Phases may be ended from different threads, as long as they do not overlap.
+ */
+public class PhaseTimer {
+
+    private final LongSupplier nanoTime;
+    private final long startNanos;
+    private final Map<String, Long> nanosByPhase = new LinkedHashMap<>();
+    private long lastEndNanos;
+
+    /**
+     * Creates a {@code PhaseTimer} with its first phase starting now.
+     */
+    public PhaseTimer() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates a {@code PhaseTimer} that reads the time in nanoseconds from {@code nanoTime}.
+     */
+    PhaseTimer(LongSupplier nanoTime) {
+        requireNonNull(nanoTime);
+        this.nanoTime = nanoTime;
+        this.startNanos = nanoTime.getAsLong();
+        this.lastEndNanos = startNanos;
+    }
+
+    /**
+     * Ends the current phase as {@code phaseName} and starts the next phase, then returns how long the phase took.
+     * A phase that is ended more than once is reported as the sum of its durations.
+     */
+    public synchronized Duration endPhase(String phaseName) {
+        requireNonNull(phaseName);
+        long endNanos = nanoTime.getAsLong();
+        long phaseNanos = endNanos - lastEndNanos;
+        nanosByPhase.merge(phaseName, phaseNanos, Long::sum);
+        lastEndNanos = endNanos;
+        return Duration.ofNanos(phaseNanos);
+    }
+
+    /**
+     * Returns the time from the creation of this timer to the end of the last phase.
+     */
+    public synchronized Duration getTotal() {
+        return Duration.ofNanos(lastEndNanos - startNanos);
+    }
+
+    /**
+     * Returns how long each phase took, in the order the phases first ended.
+     */
+    public synchronized Map<String, Duration> getPhases() {
+        Map<String, Duration> phases = new LinkedHashMap<>();
+        nanosByPhase.forEach((phaseName, nanos) -> phases.put(phaseName, Duration.ofNanos(nanos)));
+        return phases;
+    }
+
+    /**
+     * Returns the total time and the time taken by each phase in milliseconds, such as
+     * {@code "120 ms (config 5 ms, load 115 ms)"}.
+     */
+    public synchronized String getSummary() {
+        return getTotal().toMillis() + " ms " + getPhases().entrySet().stream()
+                .map(phase -> phase.getKey() + " " + phase.getValue().toMillis() + " ms")
+                .collect(Collectors.joining(", ", "(", ")"));
+    }
+}
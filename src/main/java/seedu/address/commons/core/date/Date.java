@@ -2,9 +2,13 @@ package seedu.address.commons.core.date;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.parseDigits;
 
 import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
 
 /**
  * Represents a date
@@ -16,6 +20,11 @@ public class Date implements Comparable<Date> {
             "Date should be in the format " + DATE_FORMAT + " and must be a valid date after 1 Jan 1900";
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_FORMAT);
+    private static final LocalDate EARLIEST_DATE_EXCLUSIVE = LocalDate.of(1900, 1, 1);
+    private static final int YEAR_DIGITS = 4;
+    private static final int MAX_SIGNED_YEAR_DIGITS = 10;
+    private static final String MONTH_AND_DAY_FORMAT = "-MM-dd";
+
     public final LocalDate value;
 
     /**
@@ -23,9 +32,38 @@ public class Date implements Comparable<Date> {
      * @param dateString Date string that has to satisfy validation requirements
      */
     public Date(String dateString) {
+        this(dateString, true);
+    }
+
+    /**
+     * Creates a Date Object, which is only checked to be a valid date if {@code isValidated}.
+     */
+    protected Date(String dateString, boolean isValidated) {
+        requireNonNull(dateString);
+        this.value = isValidated
+                ? parseLocalDate(dateString).orElseThrow(() -> new IllegalArgumentException(MESSAGE_CONSTRAINTS))
+                : parseTrustedLocalDate(dateString);
+    }
+
+    private Date(LocalDate value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the {@code Date} written as {@code dateString} by this application, such as in a verified snapshot,
+     * without checking that it is a valid date again.
+     */
+    public static Date ofTrusted(String dateString) {
+        return new Date(dateString, false);
+    }
+
+    /**
+     * Returns the {@code Date} written as {@code dateString}, or an empty {@code Optional} if {@code dateString}
+     * is not a valid date. The string is only read once, and no exception is thrown for an invalid date.
+     */
+    public static Optional<Date> parse(String dateString) {
         requireNonNull(dateString);
-        checkArgument(isValidDate(dateString), MESSAGE_CONSTRAINTS);
-        this.value = LocalDate.parse(dateString);
+        return parseLocalDate(dateString).map(Date::new);
     }
 
     /**
@@ -34,12 +72,48 @@ public class Date implements Comparable<Date> {
      */
     public static boolean isValidDate(String dateString) {
         requireNonNull(dateString);
-        try {
-            LocalDate validDate = LocalDate.parse(dateString);
-            return validDate.isAfter(LocalDate.of(1900, 1, 1));
-        } catch (Exception e) {
-            return false;
+        return parseLocalDate(dateString).isPresent();
+    }
+
+    /**
+     * Reads a date after 1 Jan 1900 in the ISO-8601 format accepted by {@link LocalDate#parse(CharSequence)},
+     * which is "yyyy-MM-dd", or a year of more than 4 digits led by a '+' followed by "-MM-dd".
+     */
+    private static Optional<LocalDate> parseLocalDate(String dateString) {
+        int yearEnd = dateString.length() - MONTH_AND_DAY_FORMAT.length();
+        if (yearEnd < YEAR_DIGITS || dateString.charAt(yearEnd) != '-' || dateString.charAt(yearEnd + 3) != '-') {
+            return Optional.empty();
+        }
+
+        boolean isSigned = dateString.charAt(0) == '+';
+        int yearStart = isSigned ? 1 : 0;
+        int yearDigits = yearEnd - yearStart;
+        if (isSigned ? yearDigits <= YEAR_DIGITS || yearDigits > MAX_SIGNED_YEAR_DIGITS : yearDigits != YEAR_DIGITS) {
+            return Optional.empty();
         }
+
+        long year = parseDigits(dateString, yearStart, yearEnd);
+        long month = parseDigits(dateString, yearEnd + 1, yearEnd + 3);
+        long day = parseDigits(dateString, yearEnd + 4, dateString.length());
+        if (year < 0 || year > Year.MAX_VALUE || month < 1 || month > 12 || day < 1
+                || day > YearMonth.of((int) year, (int) month).lengthOfMonth()) {
+            return Optional.empty();
+        }
+
+        LocalDate date = LocalDate.of((int) year, (int) month, (int) day);
+        return date.isAfter(EARLIEST_DATE_EXCLUSIVE) ? Optional.of(date) : Optional.empty();
+    }
+
+    /**
+     * Reads a date written in a format accepted by {@link #parseLocalDate(String)}, without checking the format or
+     * the range of the date.
+     */
+    private static LocalDate parseTrustedLocalDate(String dateString) {
+        int yearEnd = dateString.length() - MONTH_AND_DAY_FORMAT.length();
+        int yearStart = dateString.charAt(0) == '+' ? 1 : 0;
+        return LocalDate.of((int) parseDigits(dateString, yearStart, yearEnd),
+                (int) parseDigits(dateString, yearEnd + 1, yearEnd + 3),
+                (int) parseDigits(dateString, yearEnd + 4, dateString.length()));
     }
 
     /**
@@ -53,8 +127,9 @@ public class Date implements Comparable<Date> {
      * Returns if date is before today
      */
     public static boolean isBeforeToday(String date) {
-        checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
-        return LocalDate.parse(date).isBefore(LocalDate.now());
+        Optional<LocalDate> parsedDate = parseLocalDate(date);
+        checkArgument(parsedDate.isPresent(), MESSAGE_CONSTRAINTS);
+        return parsedDate.get().isBefore(LocalDate.now());
     }
 
     @Override
@@ -1,10 +1,21 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Writes and reads files
@@ -12,6 +23,18 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final byte[] GZIP_MAGIC = {(byte) 0x1f, (byte) 0x8b};
+
+    /**
+     * Writes content to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,6 +95,46 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns true if {@code file} starts with the magic bytes of gzip-compressed data.
+     */
+    public static boolean isGzipFile(Path file) throws IOException {
+        if (!isFileExists(file)) {
+            return false;
+        }
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return Arrays.equals(GZIP_MAGIC, inputStream.readNBytes(GZIP_MAGIC.length));
+        }
+    }
+
+    /**
+     * Returns a buffered stream of the contents of {@code file}, which are decompressed as they are read if
+     * {@code file} is compressed with gzip.
+     * Assumes file exists
+     */
+    public static InputStream newDecompressingInputStream(Path file) throws IOException {
+        return newDecompressingInputStream(Files.newInputStream(file));
+    }
+
+    /**
+     * Returns a buffered stream of the bytes read from {@code rawStream}, which are decompressed as they are read
+     * if they are compressed with gzip.
+     * {@code rawStream} is closed along with the returned stream, or if the first bytes cannot be read.
+     */
+    public static InputStream newDecompressingInputStream(InputStream rawStream) throws IOException {
+        InputStream inputStream = new BufferedInputStream(rawStream, READ_BUFFER_SIZE);
+        try {
+            inputStream.mark(GZIP_MAGIC.length);
+            boolean isCompressed = Arrays.equals(GZIP_MAGIC, inputStream.readNBytes(GZIP_MAGIC.length));
+            inputStream.reset();
+            return isCompressed ? new BufferedInputStream(new GZIPInputStream(inputStream, READ_BUFFER_SIZE),
+                    READ_BUFFER_SIZE) : inputStream;
+        } catch (IOException ioe) {
+            inputStream.close();
+            throw ioe;
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -80,4 +143,36 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes the content from {@code contentWriter} to a temporary file in the same folder as {@code file},
+     * forces it to the storage device, then replaces {@code file} with it in a single step.
+     * If writing fails, {@code file} is left as it was.
+     * Will create the file and its parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel),
+                        WRITE_BUFFER_SIZE);
+                contentWriter.writeTo(outputStream);
+                outputStream.flush();
+                channel.force(true);
+            }
+
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException amnse) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Also covers errors from the content writer itself, such as a bug in serializing the content
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
 }
@@ -3,14 +3,22 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
+import java.util.zip.GZIPOutputStream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -30,6 +38,8 @@ public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
+    private static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
+
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
@@ -40,16 +50,57 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, false);
+    }
+
+    /**
+     * Streams {@code objectToSerialize} into {@code jsonFile} without building the whole document in memory.
+     * {@code jsonFile} is replaced only once the document has been completely written.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact)
+            throws IOException {
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, isCompact, false, null);
+    }
+
+    /**
+     * Similar to {@link #serializeObjectToJsonFile(Path, Object, boolean)}.
+     * If {@code isCompressed} is true, the document is compressed with gzip as it is written.
+     * If {@code checksum} is not null, it is updated with every byte written to {@code jsonFile}.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, boolean isCompact,
+            boolean isCompressed, Checksum checksum) throws IOException {
+        FileUtil.writeToFileAtomically(jsonFile, fileOutputStream -> {
+            OutputStream checkedOutputStream = checksum == null
+                    ? fileOutputStream
+                    : new CheckedOutputStream(fileOutputStream, checksum);
+            GZIPOutputStream compressingOutputStream = isCompressed
+                    ? new GZIPOutputStream(checkedOutputStream, COMPRESSION_BUFFER_SIZE)
+                    : null;
+            OutputStream outputStream = isCompressed ? compressingOutputStream : checkedOutputStream;
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+            if (!isCompact) {
+                generator.useDefaultPrettyPrinter();
+            }
+            // The file is closed by FileUtil once it has been forced to the storage device
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            objectMapper.writeValue(generator, objectToSerialize);
+            generator.close();
+            if (isCompressed) {
+                compressingOutputStream.finish();
+            }
+        });
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream inputStream = FileUtil.newDecompressingInputStream(jsonFile)) {
+            return objectMapper.readValue(inputStream, classOfObjectToDeserialize);
+        }
     }
 
     /**
      * Returns the JSON object from the given file or {@code Optional.empty()} object if the file is not found.
+     * Files compressed with gzip are detected and decompressed as they are read.
      * If any values are missing from the file, default values will be used, as long as the file is a valid JSON file.
      *
      * @param filePath cannot be null.
@@ -85,10 +136,47 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, false);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}.
+     * @param isCompact whether the file is written on a single line without any insignificant whitespace,
+     *     instead of being pretty-printed.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path, boolean)}.
+     * @param checksum updated with the bytes of the file as they are written, so that the file does not have to
+     *     be read back to compute it.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, boolean isCompact, Checksum checksum)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+        requireNonNull(checksum);
+
+        serializeObjectToJsonFile(filePath, jsonFile, isCompact, false, checksum);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path, boolean, Checksum)}, but the file is written compactly and
+     * compressed with gzip as it is written, so the uncompressed document is never held in memory.
+     * @param checksum updated with the compressed bytes of the file as they are written.
+     */
+    public static <T> void saveCompressedJsonFile(T jsonFile, Path filePath, Checksum checksum)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+        requireNonNull(checksum);
+
+        serializeObjectToJsonFile(filePath, jsonFile, true, true, checksum);
     }
 
 
@@ -101,6 +189,16 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Returns a parser that reads JSON tokens from {@code inputStream} one at a time.
+     * Values can be read from the parser with {@link JsonParser#readValueAs(Class)}, which converts them the same way
+     * as the other methods in this class do.
+     */
+    public static JsonParser createParser(InputStream inputStream) throws IOException {
+        requireNonNull(inputStream);
+        return objectMapper.getFactory().createParser(inputStream);
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -111,6 +209,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * and without any insignificant whitespace.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return compact JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
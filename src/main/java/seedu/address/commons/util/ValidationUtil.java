@@ -0,0 +1,66 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Helper functions for validating field values one character at a time, for formats too simple to be worth
+ * running a regular expression over.
+ * The character classes match the same characters as their counterparts in {@link java.util.regex.Pattern},
+ * which are US-ASCII only.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code c} is a digit, as matched by {@code \d}.
+     */
+    public static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an upper case letter, as matched by {@code [A-Z]}.
+     */
+    public static boolean isUpperCaseLetter(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    /**
+     * Returns true if {@code c} is a letter or a digit, as matched by {@code \p{Alnum}}.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return isDigit(c) || isUpperCaseLetter(c) || (c >= 'a' && c <= 'z');
+    }
+
+    /**
+     * Returns true if {@code test} is not empty and each of its characters is a letter or a digit.
+     */
+    public static boolean isAlphanumeric(String test) {
+        requireNonNull(test);
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return !test.isEmpty();
+    }
+
+    /**
+     * Returns the number written by the digits of {@code test} from {@code start} until before {@code end}, or -1 if
+     * there are no such digits, any of them is not a digit, or there are more than 18 of them.
+     */
+    public static long parseDigits(String test, int start, int end) {
+        requireNonNull(test);
+        if (start >= end || end - start > 18) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
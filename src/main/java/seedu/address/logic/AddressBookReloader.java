@@ -0,0 +1,79 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Brings the model up to date with the data file after it has been written by another process, such as another
+ * instance of the app sharing the same data file.
+ * Only the patients and appointments that changed are applied to the model, so the lists shown are not rebuilt.
+ * Changes made in this app that have not been saved yet are never overwritten; the reload is skipped instead.
+ */
+public class AddressBookReloader {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookReloader.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final Executor modelExecutor;
+
+    // Version of the model when it last matched the data file without having been saved, only used on the model thread
+    private long lastReloadedVersion;
+
+    /**
+     * Creates an {@code AddressBookReloader} for a {@code model} that was loaded from {@code storage}.
+     *
+     * @param modelExecutor runs tasks on the thread that modifies {@code model}.
+     */
+    public AddressBookReloader(Model model, Storage storage, Executor modelExecutor) {
+        requireAllNonNull(model, storage, modelExecutor);
+        this.model = model;
+        this.storage = storage;
+        this.modelExecutor = modelExecutor;
+        this.lastReloadedVersion = model.getAddressBook().getModificationVersion();
+    }
+
+    /**
+     * Reads the data file on the calling thread, then applies what has changed to the model on the model thread.
+     * Does nothing if the data file was last written by this app.
+     */
+    public void reload() {
+        if (storage.isAddressBookFileUnchangedSinceSave()) {
+            logger.fine("Data file unchanged since it was saved here, skipping reload");
+            return;
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook;
+        try {
+            addressBook = storage.readAddressBook();
+        } catch (DataLoadingException dle) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " changed but could not be loaded: "
+                    + dle.getMessage());
+            return;
+        }
+        addressBook.ifPresent(newData -> modelExecutor.execute(() -> apply(newData)));
+    }
+
+    private void apply(ReadOnlyAddressBook newData) {
+        long version = model.getAddressBook().getModificationVersion();
+        if (version != storage.getLastSavedAddressBookVersion() && version != lastReloadedVersion) {
+            logger.warning("Data file changed while changes made here were not yet saved, skipping reload");
+            return;
+        }
+
+        model.updateAddressBook(newData);
+        // The model now matches the data file, so it must not be written back until it is changed here
+        storage.markAddressBookSaved(model.getAddressBook());
+        lastReloadedVersion = model.getAddressBook().getModificationVersion();
+        logger.info("Reloaded data file " + storage.getAddressBookFilePath());
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the outcome of running a file of commands with a {@code BatchRunner}.
+ */
+public class BatchReport {
+
+    private final int commandCount;
+    private final List<LineFailure> failures;
+    private final int saveCount;
+    private final Duration elapsedTime;
+
+    /**
+     * Creates a {@code BatchReport} of {@code commandCount} commands run in {@code elapsedTime}, of which those in
+     * {@code failures} failed, with the address book saved {@code saveCount} times.
+     */
+    public BatchReport(int commandCount, List<LineFailure> failures, int saveCount, Duration elapsedTime) {
+        requireAllNonNull(failures, elapsedTime);
+        this.commandCount = commandCount;
+        this.failures = Collections.unmodifiableList(failures);
+        this.saveCount = saveCount;
+        this.elapsedTime = elapsedTime;
+    }
+
+    /**
+     * Returns the number of commands run, including those that failed.
+     */
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Returns the commands that failed, in the order they appear in the file.
+     */
+    public List<LineFailure> getFailures() {
+        return failures;
+    }
+
+    public int getSaveCount() {
+        return saveCount;
+    }
+
+    public Duration getElapsedTime() {
+        return elapsedTime;
+    }
+
+    /**
+     * Returns the number of commands run per second.
+     */
+    public double getCommandsPerSecond() {
+        long elapsedNanos = Math.max(elapsedTime.toNanos(), 1);
+        return commandCount * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns a one-line summary of how many commands were run and how fast.
+     */
+    public String getSummary() {
+        return String.format("Ran %d commands (%d failed) in %d ms, %.0f commands/s, saved %d time(s)",
+                commandCount, failures.size(), elapsedTime.toMillis(), getCommandsPerSecond(), saveCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commandCount", commandCount)
+                .add("failures", failures)
+                .add("saveCount", saveCount)
+                .add("elapsedTime", elapsedTime)
+                .toString();
+    }
+
+    /**
+     * Represents a command in the file that could not be parsed or executed.
+     */
+    public static class LineFailure {
+        private final int lineNumber;
+        private final String commandText;
+        private final String message;
+
+        /**
+         * Creates a {@code LineFailure} for the command {@code commandText} on line {@code lineNumber}, starting
+         * from 1, which failed with {@code message}.
+         */
+        public LineFailure(int lineNumber, String commandText, String message) {
+            requireAllNonNull(commandText, message);
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + ": " + commandText + "\n    " + message.replace("\n", "\n    ");
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchReport.LineFailure;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs a file of commands against a model, one command per line, without a GUI.
+ * The address book is saved once after the last command instead of after every command, and also after every
+ * {@code checkpointInterval} commands if that is positive, so that less work is lost if the run is interrupted.
+ * Blank lines and lines starting with {@code #} are skipped, and an {@code exit} command ends the run.
+ * A command that fails is reported with its line number, and the run carries on with the next line.
+ * A command that fails unexpectedly is also reported, but ends the run, after the commands before it are saved.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_MARKER = "#";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "Unexpected error, no further commands were run: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final int checkpointInterval;
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    // Version of the address book when it last matched the data file
+    private long savedVersion;
+
+    /**
+     * Creates a {@code BatchRunner} that runs commands against {@code model} and saves it to {@code storage}.
+     *
+     * @param checkpointInterval number of commands after which the address book is saved, or 0 to only save it
+     *     after the last command.
+     */
+    public BatchRunner(Model model, Storage storage, int checkpointInterval) {
+        requireAllNonNull(model, storage);
+        this.model = model;
+        this.storage = storage;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Runs each command read from {@code commands} in turn, then saves the address book.
+     *
+     * @throws IOException if the commands cannot be read or the address book cannot be saved. Changes made since
+     *     the last checkpoint are not saved.
+     */
+    public BatchReport run(BufferedReader commands) throws IOException {
+        long startNanos = System.nanoTime();
+        savedVersion = model.getAddressBook().getModificationVersion();
+        List<LineFailure> failures = new ArrayList<>();
+        int commandCount = 0;
+        int saveCount = 0;
+        int lineNumber = 0;
+
+        String line;
+        while ((line = commands.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            commandCount++;
+            boolean isExit = false;
+            try {
+                CommandResult commandResult = addressBookParser.parseCommand(commandText).execute(model);
+                isExit = commandResult.isExit();
+            } catch (ParseException | CommandException e) {
+                logger.fine("Command on line " + lineNumber + " failed: " + e.getMessage());
+                failures.add(new LineFailure(lineNumber, commandText, e.getMessage()));
+            } catch (RuntimeException e) {
+                logger.warning("Command on line " + lineNumber + " failed unexpectedly: " + StringUtil.getDetails(e));
+                failures.add(new LineFailure(lineNumber, commandText, String.format(MESSAGE_UNEXPECTED_ERROR, e)));
+                isExit = true;
+            }
+            if (isExit) {
+                break;
+            }
+
+            if (checkpointInterval > 0 && commandCount % checkpointInterval == 0) {
+                saveCount += save();
+                logger.info("Checkpoint after line " + lineNumber + ", " + commandCount + " commands run");
+            }
+        }
+
+        saveCount += save();
+        return new BatchReport(commandCount, failures, saveCount, Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Saves the address book if it has changed since the run started or it was last saved, and returns the number
+     * of times it was saved.
+     */
+    private int save() throws IOException {
+        long version = model.getAddressBook().getModificationVersion();
+        if (version == savedVersion) {
+            return 0;
+        }
+        storage.saveAddressBook(model.getAddressBook());
+        savedVersion = version;
+        return 1;
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +26,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler to be called with an error message whenever saving the address book in the background fails.
+     * The handler may be called from a thread other than the one executing commands.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Returns true if the address book is still being loaded, in which case commands are queued until it has loaded.
+     */
+    boolean isAddressBookLoading();
+
+    /**
+     * Sets the handler to be called once the address book has loaded, with the results of the commands that were
+     * queued while it was loading. The handler is called on the thread that executes commands.
+     */
+    void setAddressBookLoadedHandler(Consumer<List<CommandResult>> addressBookLoadedHandler);
+
     /**
      * Returns the AddressBook.
      *
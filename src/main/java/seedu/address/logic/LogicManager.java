@@ -1,8 +1,13 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -18,6 +23,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.appointment.AppointmentView;
 import seedu.address.model.patient.Patient;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindAddressBookSaver;
 
 /**
  * The main LogicManager of the app.
@@ -28,18 +34,37 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_COMMAND_QUEUED =
+            "The data file is still loading. \"%1$s\" will be executed once it has loaded.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final WriteBehindAddressBookSaver addressBookSaver;
+
+    // Commands entered while the address book is loading, only used on the thread that executes commands
+    private List<QueuedCommand> queuedCommands;
+    private Consumer<List<CommandResult>> addressBookLoadedHandler = unused -> {};
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved to {@code storage} before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved in the background through {@code addressBookSaver}, or before each command
+     * returns if {@code addressBookSaver} is null.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindAddressBookSaver addressBookSaver) {
         this.model = model;
         this.storage = storage;
+        this.addressBookSaver = addressBookSaver;
         addressBookParser = new AddressBookParser();
     }
 
@@ -49,17 +74,100 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        if (isAddressBookLoading()) {
+            logger.info("Queued command until the address book has loaded");
+            queuedCommands.add(new QueuedCommand(commandText, command));
+            return new CommandResult(String.format(MESSAGE_COMMAND_QUEUED, commandText));
+        }
+
         commandResult = command.execute(model);
+        saveAddressBook();
+        return commandResult;
+    }
+
+    /**
+     * Saves the address book in the background if there is an {@code addressBookSaver}, or else before returning.
+     */
+    private void saveAddressBook() throws CommandException {
+        if (addressBookSaver != null) {
+            addressBookSaver.requestSave(model.getAddressBook());
+            return;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
+    }
 
-        return commandResult;
+    /**
+     * Marks the address book as loading. Until {@link #finishLoading()} is called, commands are parsed as usual but
+     * queued instead of executed, so that nothing is saved over the data file before it has been read.
+     */
+    public void startLoading() {
+        if (!isAddressBookLoading()) {
+            queuedCommands = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Executes the commands queued while the address book was loading, in the order they were entered, and saves
+     * the address book once after all of them. Must be called on the thread that executes commands, after the
+     * loaded address book has been set in the model.
+     * The results of the queued commands are passed to the handler set with
+     * {@link #setAddressBookLoadedHandler(Consumer)}.
+     */
+    public void finishLoading() {
+        if (!isAddressBookLoading()) {
+            return;
+        }
+        List<QueuedCommand> commandsToExecute = queuedCommands;
+        queuedCommands = null;
+
+        List<CommandResult> results = new ArrayList<>();
+        for (QueuedCommand queuedCommand : commandsToExecute) {
+            logger.info("----------------[QUEUED COMMAND][" + queuedCommand.commandText + "]");
+            try {
+                results.add(queuedCommand.command.execute(model));
+            } catch (CommandException ce) {
+                logger.info("An error occurred while executing queued command: " + queuedCommand.commandText);
+                results.add(new CommandResult(ce.getMessage()));
+            }
+        }
+        if (!commandsToExecute.isEmpty()) {
+            try {
+                saveAddressBook();
+            } catch (CommandException ce) {
+                results.add(new CommandResult(ce.getMessage()));
+            }
+        }
+        addressBookLoadedHandler.accept(results);
+    }
+
+    @Override
+    public boolean isAddressBookLoading() {
+        return queuedCommands != null;
+    }
+
+    @Override
+    public void setAddressBookLoadedHandler(Consumer<List<CommandResult>> addressBookLoadedHandler) {
+        requireNonNull(addressBookLoadedHandler);
+        this.addressBookLoadedHandler = addressBookLoadedHandler;
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        if (addressBookSaver != null) {
+            addressBookSaver.setErrorHandler(ioe -> saveErrorHandler.accept(getSaveErrorMessage(ioe)));
+        }
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
     }
 
     @Override
@@ -96,4 +204,17 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * A command entered while the address book was loading, together with the text it was parsed from.
+     */
+    private static class QueuedCommand {
+        private final String commandText;
+        private final Command command;
+
+        QueuedCommand(String commandText, Command command) {
+            this.commandText = commandText;
+            this.command = command;
+        }
+    }
 }
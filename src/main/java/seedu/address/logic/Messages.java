@@ -15,10 +15,12 @@ public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
+    public static final String MESSAGE_INVALID_COMMAND_IN_TRANSACTION = "Command %1$d of %2$d is invalid.\n%3$s";
     public static final String MESSAGE_APPOINTMENT_NOT_FOUND = "The appointment provided is not found in the system";
     public static final String MESSAGE_PATIENT_NRIC_NOT_FOUND = "The NRIC provided is not found in the system";
     public static final String MESSAGE_PATIENTS_LISTED_OVERVIEW = "%1$d patients listed!";
     public static final String MESSAGE_APPOINTMENTS_LISTED_OVERVIEW = "%1$d appointments listed!";
+    public static final String MESSAGE_ARCHIVE_LOADING_FAILURE = "Could not load archived appointments: %1$s";
     public static final String MESSAGE_DUPLICATE_FIELDS =
                 "Multiple values specified for the following single-valued field(s): ";
 
@@ -72,6 +72,7 @@ public class AddApptCommand extends Command {
             throw new CommandException(Messages.MESSAGE_PATIENT_NRIC_NOT_FOUND);
         }
 
+        loadArchivedAppointments(model, apptToAdd.getDate());
         if (model.hasAppointment(apptToAdd)) {
             throw new CommandException(MESSAGE_ADD_DUPLICATE_APPOINTMENT_FAILURE);
         }
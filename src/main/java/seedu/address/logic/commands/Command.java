@@ -1,5 +1,8 @@
 package seedu.address.logic.commands;
 
+import seedu.address.commons.core.date.Date;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 
@@ -17,4 +20,32 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Loads the archived appointments in the same month as {@code date} into {@code model}.
+     *
+     * @throws CommandException if the archived appointments could not be read.
+     */
+    protected static void loadArchivedAppointments(Model model, Date date) throws CommandException {
+        try {
+            model.loadArchivedAppointments(date);
+        } catch (DataLoadingException dle) {
+            throw new CommandException(String.format(Messages.MESSAGE_ARCHIVE_LOADING_FAILURE, dle.getMessage()),
+                    dle);
+        }
+    }
+
+    /**
+     * Loads all archived appointments into {@code model}.
+     *
+     * @throws CommandException if the archived appointments could not be read.
+     */
+    protected static void loadAllArchivedAppointments(Model model) throws CommandException {
+        try {
+            model.loadAllArchivedAppointments();
+        } catch (DataLoadingException dle) {
+            throw new CommandException(String.format(Messages.MESSAGE_ARCHIVE_LOADING_FAILURE, dle.getMessage()),
+                    dle);
+        }
+    }
+
 }
@@ -61,11 +61,9 @@ public class DeleteApptCommand extends Command {
             throw new CommandException(Messages.MESSAGE_PATIENT_NRIC_NOT_FOUND);
         }
 
-        if (!model.hasAppointmentWithDetails(targetNric, targetDate, targetStartTime)) {
-            throw new CommandException(Messages.MESSAGE_APPOINTMENT_NOT_FOUND);
-        }
-
-        Appointment apptToDelete = model.getMatchingAppointment(targetNric, targetDate, targetStartTime);
+        loadArchivedAppointments(model, targetDate);
+        Appointment apptToDelete = model.findMatchingAppointment(targetNric, targetDate, targetStartTime)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_APPOINTMENT_NOT_FOUND));
         model.deleteAppointment(apptToDelete);
         return new CommandResult(String.format(MESSAGE_DELETE_APPOINTMENT_SUCCESS, Messages.format(apptToDelete)));
     }
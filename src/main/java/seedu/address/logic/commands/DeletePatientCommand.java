@@ -48,6 +48,7 @@ public class DeletePatientCommand extends Command {
         String message = String.format(MESSAGE_DELETE_PATIENT_SUCCESS,
                 Messages.format(model.getPatientWithNric(targetNric)));
 
+        loadAllArchivedAppointments(model);
         model.deleteAppointmentsWithNric(targetNric);
         model.deletePatientWithNric(targetNric);
         return new CommandResult(message);
@@ -98,12 +98,11 @@ public class EditApptCommand extends Command {
             throw new CommandException(Messages.MESSAGE_PATIENT_NRIC_NOT_FOUND);
         }
 
-        if (!model.hasAppointmentWithDetails(targetNric, targetDate, targetStartTime)) {
-            throw new CommandException(Messages.MESSAGE_APPOINTMENT_NOT_FOUND);
-        }
-
-        Appointment apptToEdit = model.getMatchingAppointment(targetNric, targetDate, targetStartTime);
+        loadArchivedAppointments(model, targetDate);
+        Appointment apptToEdit = model.findMatchingAppointment(targetNric, targetDate, targetStartTime)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_APPOINTMENT_NOT_FOUND));
         Appointment editedAppt = createEditedAppointment(apptToEdit, editApptDescriptor);
+        loadArchivedAppointments(model, editedAppt.getDate());
 
         // Must check for overlapping appointments of new appt besides current appt
         if (model.hasOverlappingAppointmentExcluding(apptToEdit, editedAppt)) {
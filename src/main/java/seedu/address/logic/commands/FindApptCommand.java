@@ -5,8 +5,12 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 
+import java.util.Optional;
+
+import seedu.address.commons.core.date.Date;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.appointment.AppointmentContainsKeywordsPredicate;
 import seedu.address.ui.ViewMode;
@@ -46,8 +50,15 @@ public class FindApptCommand extends Command {
     }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        Optional<Date> dateFilter = predicate.getDateFilter();
+        if (dateFilter.isPresent()) {
+            loadArchivedAppointments(model, dateFilter.get());
+        } else {
+            // Without a date, the appointments could be in any month, such as when finding a patient's history
+            loadAllArchivedAppointments(model);
+        }
         model.updateFilteredAppointmentViewList(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_APPOINTMENTS_LISTED_OVERVIEW,
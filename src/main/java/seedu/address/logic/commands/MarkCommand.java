@@ -65,11 +65,9 @@ public class MarkCommand extends Command {
             throw new CommandException(Messages.MESSAGE_PATIENT_NRIC_NOT_FOUND);
         }
 
-        if (!model.hasAppointmentWithDetails(targetNric, targetDate, targetStartTime)) {
-            throw new CommandException(Messages.MESSAGE_APPOINTMENT_NOT_FOUND);
-        }
-
-        Appointment apptToMark = model.getMatchingAppointment(targetNric, targetDate, targetStartTime);
+        loadArchivedAppointments(model, targetDate);
+        Appointment apptToMark = model.findMatchingAppointment(targetNric, targetDate, targetStartTime)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_APPOINTMENT_NOT_FOUND));
 
         Appointment markedAppt = createMarkedAppointment(apptToMark);
         model.setAppointment(apptToMark, markedAppt);
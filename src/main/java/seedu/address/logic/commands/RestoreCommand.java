@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import seedu.address.commons.core.date.Date;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Time;
+import seedu.address.ui.ViewMode;
+
+/**
+ * Restores all data in the CLInic to how it was saved at a given date and time, from the history kept by the
+ * journal.
+ */
+public class RestoreCommand extends Command {
+
+    public static final String COMMAND_WORD = "restore";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Restores all data in CLInic to how it was saved at the given date and time.\n"
+            + "Parameters: "
+            + PREFIX_DATE + "DATE "
+            + PREFIX_START_TIME + "TIME \n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DATE + "2024-04-10 "
+            + PREFIX_START_TIME + "10:00 \n";
+
+    public static final String MESSAGE_RESTORE_SUCCESS = "Restored all data in CLInic to how it was at %1$s %2$s";
+    public static final String MESSAGE_NO_HISTORY_AT_TIME = "CLInic has no saved data from %1$s %2$s to restore";
+    public static final String MESSAGE_HISTORY_LOADING_FAILURE = "Could not read the saved data: %1$s";
+
+    private final Date date;
+    private final Time time;
+
+    /**
+     * Creates a RestoreCommand to restore the data saved at {@code time} on {@code date}, in the local time zone.
+     */
+    public RestoreCommand(Date date, Time time) {
+        requireNonNull(date);
+        requireNonNull(time);
+        this.date = date;
+        this.time = time;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Instant instant = LocalDateTime.of(date.value, time.value).atZone(ZoneId.systemDefault()).toInstant();
+
+        Optional<ReadOnlyAddressBook> restored;
+        try {
+            restored = model.readAddressBookAt(instant);
+        } catch (DataLoadingException dle) {
+            throw new CommandException(String.format(MESSAGE_HISTORY_LOADING_FAILURE, dle.getMessage()), dle);
+        }
+        if (!restored.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_NO_HISTORY_AT_TIME, date, time));
+        }
+
+        model.setAddressBook(restored.get());
+        return new CommandResult(String.format(MESSAGE_RESTORE_SUCCESS, date, time), ViewMode.OVERALL);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RestoreCommand)) {
+            return false;
+        }
+
+        RestoreCommand otherRestoreCommand = (RestoreCommand) other;
+        return date.equals(otherRestoreCommand.date)
+                && time.equals(otherRestoreCommand.time);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("date", date)
+                .add("time", time)
+                .toString();
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.ui.ViewMode;
+
+/**
+ * Executes several commands entered on one line, separated by {@link #DELIMITER}, as a single transaction:
+ * if any of them fails, the changes made by the ones before it are undone.
+ */
+public class TransactionCommand extends Command {
+
+    public static final String DELIMITER = "&&";
+
+    public static final String MESSAGE_COMMAND_FAILED = "Command %1$d of %2$d failed, so no changes were made.\n%3$s";
+
+    private final List<Command> commands;
+
+    /**
+     * Creates a TransactionCommand that executes {@code commands} in order.
+     */
+    public TransactionCommand(List<Command> commands) {
+        requireNonNull(commands);
+        this.commands = Collections.unmodifiableList(new ArrayList<>(commands));
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<CommandResult> results = new ArrayList<>();
+        boolean isCommitted = false;
+        model.beginTransaction();
+        try {
+            for (Command command : commands) {
+                try {
+                    results.add(command.execute(model));
+                } catch (CommandException ce) {
+                    throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, results.size() + 1,
+                            commands.size(), ce.getMessage()), ce);
+                }
+            }
+            model.commitTransaction();
+            isCommitted = true;
+        } finally {
+            if (!isCommitted) {
+                model.rollBackTransaction();
+            }
+        }
+        return combine(results);
+    }
+
+    /**
+     * Returns a {@code CommandResult} with the feedback of all the {@code results}, which leaves the application in
+     * the same view as handling each of them in turn would.
+     */
+    private static CommandResult combine(List<CommandResult> results) {
+        String feedbackToUser = results.stream()
+                .map(CommandResult::getFeedbackToUser)
+                .collect(Collectors.joining("\n"));
+        boolean isShowHelp = results.stream().anyMatch(CommandResult::isShowHelp);
+        boolean isExit = results.stream().anyMatch(CommandResult::isExit);
+
+        ViewMode viewMode = ViewMode.ANY;
+        for (CommandResult result : results) {
+            switch (result.getViewMode()) {
+            case OVERALL:
+            case DAY:
+                viewMode = result.getViewMode();
+                break;
+            case SWITCH:
+                viewMode = switchViewMode(viewMode);
+                break;
+            default:
+                break;
+            }
+        }
+        return new CommandResult(feedbackToUser, isShowHelp, isExit, viewMode);
+    }
+
+    /**
+     * Returns the view mode that has the same effect as {@code viewMode} followed by a switch.
+     */
+    private static ViewMode switchViewMode(ViewMode viewMode) {
+        switch (viewMode) {
+        case OVERALL:
+            return ViewMode.DAY;
+        case DAY:
+            return ViewMode.OVERALL;
+        case SWITCH:
+            return ViewMode.ANY;
+        default:
+            return ViewMode.SWITCH;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TransactionCommand)) {
+            return false;
+        }
+
+        TransactionCommand otherTransactionCommand = (TransactionCommand) other;
+        return commands.equals(otherTransactionCommand.commands);
+    }
+
+    @Override
+    public int hashCode() {
+        // Commands only define equals, so the transaction is hashed by the kinds of commands it runs
+        return commands.stream()
+                .map(Object::getClass)
+                .collect(Collectors.toList())
+                .hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commands", commands)
+                .toString();
+    }
+}
@@ -66,11 +66,9 @@ public class UnmarkCommand extends Command {
             throw new CommandException(Messages.MESSAGE_PATIENT_NRIC_NOT_FOUND);
         }
 
-        if (!model.hasAppointmentWithDetails(targetNric, targetDate, targetStartTime)) {
-            throw new CommandException(Messages.MESSAGE_APPOINTMENT_NOT_FOUND);
-        }
-
-        Appointment apptToUnmark = model.getMatchingAppointment(targetNric, targetDate, targetStartTime);
+        loadArchivedAppointments(model, targetDate);
+        Appointment apptToUnmark = model.findMatchingAppointment(targetNric, targetDate, targetStartTime)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_APPOINTMENT_NOT_FOUND));
 
         Appointment unmarkedAppt = createUnmarkedAppointment(apptToUnmark);
         model.setAppointment(apptToUnmark, unmarkedAppt);
@@ -1,8 +1,11 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_IN_TRANSACTION;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -22,7 +25,9 @@ import seedu.address.logic.commands.FindPatientCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MarkCommand;
+import seedu.address.logic.commands.RestoreCommand;
 import seedu.address.logic.commands.SwitchViewCommand;
+import seedu.address.logic.commands.TransactionCommand;
 import seedu.address.logic.commands.UnmarkCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -35,16 +40,29 @@ public class AddressBookParser {
      * Used for initial separation of command word and args.
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    /**
+     * Separates the commands of a transaction. The delimiter must be surrounded by whitespace, so that it can still
+     * be typed within a field value.
+     */
+    private static final Pattern TRANSACTION_DELIMITER_FORMAT =
+            Pattern.compile("\\s+" + Pattern.quote(TransactionCommand.DELIMITER) + "(\\s+|$)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
     /**
      * Parses user input into command for execution.
+     * Several commands separated by {@link TransactionCommand#DELIMITER} are parsed into a single
+     * {@code TransactionCommand}.
      *
      * @param userInput full user input string
      * @return the command based on the user input
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
+        String[] commandInputs = TRANSACTION_DELIMITER_FORMAT.split(userInput, -1);
+        if (commandInputs.length > 1) {
+            return parseTransaction(commandInputs);
+        }
+
         final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
         if (!matcher.matches()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
@@ -115,9 +133,31 @@ public class AddressBookParser {
         case UnmarkCommand.COMMAND_WORD:
             return new UnmarkCommandParser().parse(arguments);
 
+        case RestoreCommand.COMMAND_WORD:
+            return new RestoreCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
+
+    /**
+     * Parses each of {@code commandInputs} into a command, so that none of them are executed unless all of them are
+     * valid, and returns a command that executes them as a single transaction.
+     *
+     * @throws ParseException if any of {@code commandInputs} does not conform the expected format
+     */
+    private Command parseTransaction(String[] commandInputs) throws ParseException {
+        List<Command> commands = new ArrayList<>();
+        for (String commandInput : commandInputs) {
+            try {
+                commands.add(parseCommand(commandInput));
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_IN_TRANSACTION, commands.size() + 1,
+                        commandInputs.length, pe.getMessage()), pe);
+            }
+        }
+        return new TransactionCommand(commands);
+    }
 }
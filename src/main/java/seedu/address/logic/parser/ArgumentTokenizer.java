@@ -3,8 +3,10 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.parser.CliSyntax.getAllPrefixes;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -16,6 +18,10 @@ import java.util.stream.Collectors;
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+
+    private static final PrefixTrie ALL_PREFIXES = new PrefixTrie(getAllPrefixes());
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,8 +30,7 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, getAllPrefixes());
-        return extractArguments(argsString, positions);
+        return extractArguments(argsString, ALL_PREFIXES);
     }
 
     /**
@@ -37,124 +42,169 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, List.of(prefixes));
-        return extractArguments(argsString, positions);
+        return extractArguments(argsString, new PrefixTrie(List.of(prefixes)));
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Extracts prefixes and their argument values in a single pass over {@code argsString}, and returns an
+     * {@code ArgumentMultimap} object that maps the extracted prefixes to their respective arguments.
+     * A prefix is recognized wherever it follows a space, even within a value or another prefix, and its value
+     * runs until the next prefix recognized after it.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, List<Prefix> prefixes) {
-        return prefixes.stream()
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * @param prefixes   Prefixes to recognize in {@code argsString}
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    private static ArgumentMultimap extractArguments(String argsString, PrefixTrie prefixes) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix currentPrefix = PREAMBLE;
+        int valueStartPos = 0;
+
+        for (int position = 1; position <= argsString.length(); position++) {
+            if (argsString.charAt(position - 1) != ' ') {
+                continue;
+            }
+            for (Prefix prefix : prefixes.findMatchesAt(argsString, position)) {
+                argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStartPos, position));
+                currentPrefix = prefix;
+                valueStartPos = position + prefix.getPrefix().length();
+            }
         }
 
+        argMultimap.put(currentPrefix, extractArgumentValue(argsString, valueStartPos, argsString.length()));
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns the value between {@code valueStartPos} and {@code valueEndPos} of the arguments string, trimmed in
+     * the same way as {@link String#trim()} but without copying the untrimmed value first.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private static String extractArgumentValue(String argsString, int valueStartPos, int valueEndPos) {
+        if (valueStartPos > valueEndPos) {
+            // Same failure as taking the substring, for prefixes found inside a longer prefix at the same position
+            return argsString.substring(valueStartPos, valueEndPos);
+        }
+        int start = valueStartPos;
+        int end = valueEndPos;
+        while (start < end && argsString.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && argsString.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return argsString.substring(start, end);
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * Recognizes a set of prefixes by following the characters of an arguments string down a trie, so that all the
+     * prefixes starting at a position are found by reading each of its characters at most once.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
+    private static class PrefixTrie {
+        private static final Prefix[] NO_MATCHES = new Prefix[0];
+
+        private final Node root = new Node();
+
+        /**
+         * Creates a {@code PrefixTrie} that recognizes {@code prefixes}. A prefix given more than once is recognized
+         * as many times.
+         */
+        PrefixTrie(List<Prefix> prefixes) {
+            for (int i = 0; i < prefixes.size(); i++) {
+                Prefix prefix = prefixes.get(i);
+                Node node = root;
+                for (char c : prefix.getPrefix().toCharArray()) {
+                    node = node.children.computeIfAbsent(c, unused -> new Node());
+                }
+                node.ownPrefixes.add(new IndexedPrefix(i, prefix));
+            }
+            setMatches(root, new ArrayList<>());
+        }
+
+        /**
+         * Sets the matches of {@code node} and its descendants, where {@code inheritedPrefixes} are the prefixes
+         * that end above {@code node}.
+         */
+        private static void setMatches(Node node, List<IndexedPrefix> inheritedPrefixes) {
+            List<IndexedPrefix> prefixesUpToNode = inheritedPrefixes;
+            if (!node.ownPrefixes.isEmpty()) {
+                prefixesUpToNode = new ArrayList<>(inheritedPrefixes);
+                prefixesUpToNode.addAll(node.ownPrefixes);
+                // Prefixes found at the same position are given in the order they were listed, as before
+                prefixesUpToNode.sort(Comparator.comparingInt(indexedPrefix -> indexedPrefix.index));
+                node.matches = prefixesUpToNode.stream()
+                        .map(indexedPrefix -> indexedPrefix.prefix)
+                        .toArray(Prefix[]::new);
+            }
+            for (Node child : node.children.values()) {
+                setMatches(child, prefixesUpToNode);
+            }
+            node.freezeChildren();
+        }
 
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+        /**
+         * Returns the prefixes that start at {@code position} of {@code argsString}, in the order they were listed.
+         * The returned array must not be modified.
+         */
+        Prefix[] findMatchesAt(String argsString, int position) {
+            Node node = root;
+            Prefix[] matches = root.matches;
+            for (int i = position; i < argsString.length(); i++) {
+                node = node.getChild(argsString.charAt(i));
+                if (node == null) {
+                    break;
+                }
+                if (node.matches.length > 0) {
+                    matches = node.matches;
+                }
+            }
+            return matches;
         }
 
-        int getStartPosition() {
-            return startPosition;
+        /**
+         * A node of the trie, reached from the root by the characters of the text read so far.
+         * Once built, its children are looked up from arrays, as the few children of a node are found faster by
+         * scanning them than by hashing.
+         */
+        private static class Node {
+            private final Map<Character, Node> children = new HashMap<>();
+            private final List<IndexedPrefix> ownPrefixes = new ArrayList<>();
+            // All the prefixes that end at this node or above it, or none if no prefix ends at this node
+            private Prefix[] matches = NO_MATCHES;
+            private char[] childKeys;
+            private Node[] childNodes;
+
+            void freezeChildren() {
+                childKeys = new char[children.size()];
+                childNodes = new Node[children.size()];
+                int i = 0;
+                for (Map.Entry<Character, Node> child : children.entrySet()) {
+                    childKeys[i] = child.getKey();
+                    childNodes[i] = child.getValue();
+                    i++;
+                }
+            }
+
+            Node getChild(char c) {
+                for (int i = 0; i < childKeys.length; i++) {
+                    if (childKeys[i] == c) {
+                        return childNodes[i];
+                    }
+                }
+                return null;
+            }
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        /**
+         * A prefix together with its index in the list of prefixes to recognize.
+         */
+        private static class IndexedPrefix {
+            private final int index;
+            private final Prefix prefix;
+
+            IndexedPrefix(int index, Prefix prefix) {
+                this.index = index;
+                this.prefix = prefix;
+            }
         }
     }
 
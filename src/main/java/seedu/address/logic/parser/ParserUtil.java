@@ -170,11 +170,7 @@ public class ParserUtil {
      */
     public static Date parseDate(String date) throws ParseException {
         requireNonNull(date);
-        String trimmedDate = date.trim();
-        if (!Date.isValidDate(trimmedDate)) {
-            throw new ParseException(Date.MESSAGE_CONSTRAINTS);
-        }
-        return new Date(trimmedDate);
+        return Date.parse(date.trim()).orElseThrow(() -> new ParseException(Date.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -215,11 +211,7 @@ public class ParserUtil {
      */
     public static Time parseTime(String time) throws ParseException {
         requireNonNull(time);
-        String trimmedTime = time.trim();
-        if (!Time.isValidTime(trimmedTime)) {
-            throw new ParseException(Time.MESSAGE_CONSTRAINTS);
-        }
-        return new Time(trimmedTime);
+        return Time.parse(time.trim()).orElseThrow(() -> new ParseException(Time.MESSAGE_CONSTRAINTS));
     }
 
     /**
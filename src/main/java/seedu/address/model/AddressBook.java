@@ -2,7 +2,10 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.date.Date;
@@ -14,6 +17,7 @@ import seedu.address.model.appointment.AppointmentViewList;
 import seedu.address.model.appointment.Time;
 import seedu.address.model.patient.Nric;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientStore;
 import seedu.address.model.patient.UniquePatientList;
 import seedu.address.model.patient.exceptions.PatientDobAfterApptDateException;
 import seedu.address.model.patient.exceptions.PatientNotFoundException;
@@ -27,6 +31,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePatientList patients;
     private final AppointmentList appointments;
     private final AppointmentViewList appointmentView;
+    private long modificationVersion;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -36,12 +41,21 @@ public class AddressBook implements ReadOnlyAddressBook {
      *   among constructors.
      */
     {
-        patients = new UniquePatientList();
         appointments = new AppointmentList();
         appointmentView = new AppointmentViewList();
     }
 
-    public AddressBook() {}
+    public AddressBook() {
+        patients = new UniquePatientList();
+    }
+
+    /**
+     * Creates an AddressBook that holds its patients in {@code patientStore}, starting with the patients already in
+     * {@code patientStore}.
+     */
+    public AddressBook(PatientStore patientStore) {
+        patients = new UniquePatientList(patientStore);
+    }
 
     /**
      * Creates an AddressBook using the Patients in the {@code toBeCopied}
@@ -59,6 +73,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPatients(List<Patient> patients) {
         this.patients.setPatients(patients);
+        markModified();
     }
 
     /**
@@ -71,6 +86,50 @@ public class AddressBook implements ReadOnlyAddressBook {
         setAppointments(newData.getAppointmentList());
     }
 
+    /**
+     * Updates the existing data of this {@code AddressBook} to match {@code newData}, by removing, replacing and
+     * adding only the patients and appointments that differ, matched by NRIC and by appointment identity.
+     * Unlike {@link #resetData(ReadOnlyAddressBook)}, listeners are only told about what has changed.
+     */
+    public void updateData(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+        AddressBook target = newData instanceof AddressBook ? (AddressBook) newData : new AddressBook(newData);
+
+        // Removals go first, so that what is left can always be replaced or added to without conflicts
+        for (Appointment appointment : new ArrayList<>(getAppointmentList())) {
+            if (!target.findSameAppointment(appointment).isPresent()) {
+                deleteAppointment(appointment);
+            }
+        }
+        for (Patient patient : new ArrayList<>(getPatientList())) {
+            if (!target.hasPatientWithNric(patient.getNric())) {
+                deletePatientWithNric(patient.getNric());
+            }
+        }
+
+        for (Patient patient : target.getPatientList()) {
+            if (!hasPatientWithNric(patient.getNric())) {
+                addPatient(patient);
+                continue;
+            }
+            Patient existing = getPatientWithNric(patient.getNric());
+            if (!existing.equals(patient)) {
+                setPatient(existing, patient);
+            }
+        }
+        List<Appointment> newAppointments = new ArrayList<>();
+        for (Appointment appointment : target.getAppointmentList()) {
+            Optional<Appointment> existing = findSameAppointment(appointment);
+            if (!existing.isPresent()) {
+                newAppointments.add(appointment);
+            } else if (!existing.get().equals(appointment)) {
+                setAppointment(existing.get(), appointment);
+            }
+        }
+        // Added as they are in newData, which may hold appointments of patients it does not have
+        addAppointments(newAppointments);
+    }
+
     //// patient-level operations
 
     /**
@@ -97,6 +156,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(nric);
         patients.deletePatientWithNric(nric);
         appointments.deleteAppointmentsWithNric(nric);
+        appointmentView.removeAppointmentViewsWithNric(nric);
+        markModified();
     }
 
     /**
@@ -105,6 +166,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPatient(Patient p) {
         patients.add(p);
+        markModified();
     }
 
     /**
@@ -117,7 +179,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPatient);
 
         patients.setPatient(target, editedPatient);
-        this.appointmentView.setAppointmentViews(patients, appointments);
+        if (!target.isSamePatient(editedPatient)) {
+            this.appointmentView.setAppointmentViews(patients, appointments);
+        } else if (!target.getName().equals(editedPatient.getName())) {
+            this.appointmentView.setPatientName(editedPatient.getNric(), editedPatient.getName());
+        }
+        markModified();
     }
 
     //// appointment-level operations
@@ -129,6 +196,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setAppointments(List<Appointment> appointments) {
         this.appointments.setAppointments(appointments);
         this.appointmentView.setAppointmentViews(patients, appointments);
+        markModified();
     }
 
 
@@ -154,7 +222,27 @@ public class AddressBook implements ReadOnlyAddressBook {
             throw new PatientDobAfterApptDateException();
         }
         appointments.add(appt);
-        this.appointmentView.setAppointmentViews(patients, appointments);
+        this.appointmentView.add(createAppointmentView(appt));
+        markModified();
+    }
+
+    /**
+     * Adds {@code newAppointments} to the address book, such as appointments loaded from an archive.
+     * Unlike {@link #setAppointments(List)}, the appointments already in the address book are left as they are.
+     * As with {@link #setAppointments(List)}, appointments of patients not in the address book are not shown.
+     */
+    public void addAppointments(List<Appointment> newAppointments) {
+        requireNonNull(newAppointments);
+        if (newAppointments.isEmpty()) {
+            return;
+        }
+        appointments.addAll(newAppointments);
+        for (Appointment appointment : newAppointments) {
+            if (hasPatientWithNric(appointment.getNric())) {
+                appointmentView.add(createAppointmentView(appointment));
+            }
+        }
+        markModified();
     }
 
     /**
@@ -175,7 +263,18 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setAppointment(Appointment target, Appointment editedAppointment) {
         requireNonNull(editedAppointment);
         appointments.setAppointment(target, editedAppointment);
-        this.appointmentView.setAppointmentViews(patients, appointments);
+
+        // Only appointments of existing patients have a view
+        boolean isTargetShown = hasPatientWithNric(target.getNric());
+        boolean isEditedShown = hasPatientWithNric(editedAppointment.getNric());
+        if (isTargetShown && isEditedShown) {
+            this.appointmentView.setAppointmentView(target, createAppointmentView(editedAppointment));
+        } else if (isTargetShown) {
+            this.appointmentView.remove(target);
+        } else if (isEditedShown) {
+            this.appointmentView.add(createAppointmentView(editedAppointment));
+        }
+        markModified();
     }
 
     /**
@@ -184,11 +283,26 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void deleteAppointment(Appointment key) {
         appointments.remove(key);
-        this.appointmentView.setAppointmentViews(patients, appointments);
+        if (hasPatientWithNric(key.getNric())) {
+            this.appointmentView.remove(key);
+        }
+        markModified();
     }
 
     //// util methods
 
+    @Override
+    public long getModificationVersion() {
+        return modificationVersion;
+    }
+
+    /**
+     * Records that the contents of this address book have changed.
+     */
+    private void markModified() {
+        modificationVersion++;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -215,10 +329,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         return appointments.getMatchingAppointment(nric, date, startTime);
     }
 
+    public Optional<Appointment> findMatchingAppointment(Nric nric, Date date, Time startTime) {
+        return appointments.findMatchingAppointment(nric, date, startTime);
+    }
+
+    private Optional<Appointment> findSameAppointment(Appointment appointment) {
+        return findMatchingAppointment(appointment.getNric(), appointment.getDate(), appointment.getStartTime())
+                .filter(appointment::isSameAppointment);
+    }
+
     /** Delete appointments that have a target Nric, meant to help with cascading */
     public void deleteAppointmentsWithNric(Nric targetNric) {
         appointments.deleteAppointmentsWithNric(targetNric);
-        this.appointmentView.setAppointmentViews(patients, appointments);
+        this.appointmentView.removeAppointmentViewsWithNric(targetNric);
+        markModified();
     }
 
     public boolean hasAppointmentWithDetails(Nric nric, Date date, Time startTime) {
@@ -233,6 +357,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         return appointments.hasOverlappingAppointmentExcluding(targetAppt, editedAppointment);
     }
 
+    /**
+     * Returns a predicate equivalent to {@code predicate} that finds the matching patients through an index when
+     * it can, instead of testing every patient.
+     */
+    public Predicate<Patient> pushDownPatientPredicate(Predicate<Patient> predicate) {
+        return patients.pushDown(predicate);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that finds the matching appointment views through an
+     * index when it can, instead of testing every view.
+     */
+    public Predicate<AppointmentView> pushDownAppointmentViewPredicate(Predicate<AppointmentView> predicate) {
+        return appointmentView.pushDown(predicate);
+    }
+
     /**
      * Create AppointmentView from appointment
      */
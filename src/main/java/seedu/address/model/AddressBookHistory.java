@@ -0,0 +1,20 @@
+package seedu.address.model;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * Earlier states of a stored address book, from which the address book can be rebuilt as it was at a given time.
+ */
+public interface AddressBookHistory {
+
+    /**
+     * Returns the address book as it was saved at {@code time}.
+     * Returns an empty {@code Optional} if the history does not go back as far as {@code time}.
+     *
+     * @throws DataLoadingException if the history could not be read.
+     */
+    Optional<ReadOnlyAddressBook> readAddressBookAt(Instant time) throws DataLoadingException;
+}
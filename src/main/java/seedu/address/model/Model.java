@@ -1,12 +1,16 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.date.Date;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentArchive;
 import seedu.address.model.appointment.AppointmentView;
 import seedu.address.model.appointment.Time;
 import seedu.address.model.patient.Nric;
@@ -52,9 +56,16 @@ public interface Model {
 
     /**
      * Replaces address book data with the data in {@code addressBook}.
+     * Appointments that have not been loaded from the appointment archive are discarded.
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Updates address book data to match the data in {@code addressBook}, changing only the patients and
+     * appointments that differ.
+     */
+    void updateAddressBook(ReadOnlyAddressBook addressBook);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
@@ -76,6 +87,7 @@ public interface Model {
     /**
      * Deletes patient with the same nric as {@code nric}.
      * Corresponding appointments should be deleted as well.
+     * All archived appointments should be loaded beforehand, so that none of them are left without a patient.
      */
     void deletePatientWithNric(Nric nric);
 
@@ -148,6 +160,12 @@ public interface Model {
     /** Returns an Appointment that matches based on Nric, Date and StartTime given **/
     Appointment getMatchingAppointment(Nric nric, Date date, Time timePeriod);
 
+    /**
+     * Returns the Appointment that matches based on Nric, Date and StartTime given,
+     * or {@code Optional.empty()} if there is no such appointment.
+     */
+    Optional<Appointment> findMatchingAppointment(Nric nric, Date date, Time startTime);
+
     /** Deletes all appointments of a targetNric **/
     void deleteAppointmentsWithNric(Nric targetNric);
 
@@ -164,4 +182,63 @@ public interface Model {
      **/
     boolean hasOverlappingAppointmentExcluding(Appointment apptToEdit, Appointment editedAppointment);
 
+    /**
+     * Sets the archive of stored appointments that have not been loaded into the address book yet.
+     */
+    void setAppointmentArchive(AppointmentArchive appointmentArchive);
+
+    /**
+     * Loads the archived appointments in the same month as {@code date} into the address book.
+     * Does nothing if there is no appointment archive.
+     *
+     * @throws DataLoadingException if the archived appointments could not be read.
+     */
+    void loadArchivedAppointments(Date date) throws DataLoadingException;
+
+    /**
+     * Loads all archived appointments into the address book.
+     * Does nothing if there is no appointment archive.
+     *
+     * @throws DataLoadingException if the archived appointments could not be read.
+     */
+    void loadAllArchivedAppointments() throws DataLoadingException;
+
+    /**
+     * Sets the history of the stored address book, from which it can be read as it was at an earlier time.
+     */
+    void setAddressBookHistory(AddressBookHistory addressBookHistory);
+
+    /**
+     * Returns the address book as it was saved at {@code time}.
+     * Returns an empty {@code Optional} if there is no address book history, or it does not go back as far as
+     * {@code time}.
+     *
+     * @throws DataLoadingException if the address book history could not be read.
+     */
+    Optional<ReadOnlyAddressBook> readAddressBookAt(Instant time) throws DataLoadingException;
+
+    /**
+     * Begins a transaction, so that the changes made to the address book from now on can be undone together.
+     * Until the transaction ends, each filtered list is only refiltered when it is read, with the last predicate
+     * given for it, instead of every time its predicate is updated.
+     *
+     * @throws IllegalStateException if a transaction has already begun.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the current transaction, keeping the changes made to the address book since it began.
+     *
+     * @throws IllegalStateException if no transaction has begun.
+     */
+    void commitTransaction();
+
+    /**
+     * Ends the current transaction, undoing the changes made to the address book since it began.
+     * Archived appointments loaded during the transaction are kept.
+     *
+     * @throws IllegalStateException if no transaction has begun.
+     */
+    void rollBackTransaction();
+
 }
@@ -4,22 +4,30 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.date.Date;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentArchive;
 import seedu.address.model.appointment.AppointmentContainsKeywordsPredicate;
 import seedu.address.model.appointment.AppointmentView;
 import seedu.address.model.appointment.Time;
+import seedu.address.model.patient.InMemoryPatientStore;
 import seedu.address.model.patient.Nric;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientStore;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -32,16 +40,29 @@ public class ModelManager implements Model {
     private final FilteredList<Patient> filteredPatients;
     private final FilteredList<AppointmentView> filteredAppointmentsView;
     private final FilteredList<AppointmentView> filteredAppointmentsDayView;
+    private Optional<AppointmentArchive> appointmentArchive = Optional.empty();
+    private Optional<AddressBookHistory> addressBookHistory = Optional.empty();
+    // The transaction that has begun and not yet ended, or null if there is none
+    private Transaction transaction;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, new InMemoryPatientStore());
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, which holds its patients in
+     * {@code patientStore} in place of any patients already stored there.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, PatientStore patientStore) {
+        requireAllNonNull(addressBook, userPrefs, patientStore);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new AddressBook(patientStore);
+        this.addressBook.resetData(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         this.filteredPatients = new FilteredList<>(this.addressBook.getPatientList());
         this.filteredAppointmentsView = new FilteredList<>(this.addressBook.getAppointmentViewList());
@@ -92,9 +113,21 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        if (transaction != null) {
+            // Discarding cannot be undone, so it waits until the transaction is committed
+            transaction.isArchiveDiscarded = true;
+        } else {
+            appointmentArchive.ifPresent(AppointmentArchive::discardUnloadedAppointments);
+        }
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public void updateAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook.updateData(addressBook);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
@@ -165,6 +198,12 @@ public class ModelManager implements Model {
         return addressBook.getMatchingAppointment(nric, date, startTime);
     }
 
+    @Override
+    public Optional<Appointment> findMatchingAppointment(Nric nric, Date date, Time startTime) {
+        requireAllNonNull(nric, date, startTime);
+        return addressBook.findMatchingAppointment(nric, date, startTime);
+    }
+
     @Override
     public void deleteAppointmentsWithNric(Nric targetNric) {
         requireNonNull(targetNric);
@@ -204,6 +243,131 @@ public class ModelManager implements Model {
         return hasOverlap;
     }
 
+    //=========== Appointment Archive ========================================================================
+
+    @Override
+    public void setAppointmentArchive(AppointmentArchive appointmentArchive) {
+        requireNonNull(appointmentArchive);
+        this.appointmentArchive = Optional.of(appointmentArchive);
+    }
+
+    @Override
+    public void loadArchivedAppointments(Date date) throws DataLoadingException {
+        requireNonNull(date);
+        if (appointmentArchive.isPresent() && !isArchiveDiscarded()) {
+            addArchivedAppointments(appointmentArchive.get().loadAppointmentsInMonthOf(date.value,
+                    addressBook.getModificationVersion()));
+        }
+    }
+
+    @Override
+    public void loadAllArchivedAppointments() throws DataLoadingException {
+        if (appointmentArchive.isPresent() && !isArchiveDiscarded()) {
+            addArchivedAppointments(appointmentArchive.get().loadAllAppointments(
+                    addressBook.getModificationVersion()));
+        }
+    }
+
+    /**
+     * Adds the {@code archivedAppointments} that are not already in the address book.
+     */
+    private void addArchivedAppointments(List<Appointment> archivedAppointments) {
+        if (transaction != null) {
+            transaction.archivedAppointments.addAll(archivedAppointments);
+        }
+        List<Appointment> newAppointments = archivedAppointments.stream()
+                .filter(appointment -> !addressBook.hasAppointment(appointment))
+                .collect(Collectors.toList());
+        if (newAppointments.isEmpty()) {
+            return;
+        }
+        logger.info("Loaded " + newAppointments.size() + " archived appointments");
+        addressBook.addAppointments(newAppointments);
+    }
+
+    private boolean isArchiveDiscarded() {
+        return transaction != null && transaction.isArchiveDiscarded;
+    }
+
+    //=========== Address Book History =======================================================================
+
+    @Override
+    public void setAddressBookHistory(AddressBookHistory addressBookHistory) {
+        requireNonNull(addressBookHistory);
+        this.addressBookHistory = Optional.of(addressBookHistory);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookAt(Instant time) throws DataLoadingException {
+        requireNonNull(time);
+        if (!addressBookHistory.isPresent()) {
+            return Optional.empty();
+        }
+        return addressBookHistory.get().readAddressBookAt(time);
+    }
+
+    //=========== Transactions ===============================================================================
+
+    @Override
+    public void beginTransaction() {
+        if (transaction != null) {
+            throw new IllegalStateException("A transaction has already begun");
+        }
+        transaction = new Transaction(addressBook);
+    }
+
+    @Override
+    public void commitTransaction() {
+        Transaction committed = endTransaction();
+        if (committed.isArchiveDiscarded) {
+            appointmentArchive.ifPresent(AppointmentArchive::discardUnloadedAppointments);
+        }
+        applyDeferredPredicates(committed);
+    }
+
+    @Override
+    public void rollBackTransaction() {
+        Transaction rolledBack = endTransaction();
+        if (addressBook.getModificationVersion() != rolledBack.modificationVersion) {
+            AddressBook restored = new AddressBook();
+            restored.setPatients(rolledBack.patients);
+            restored.setAppointments(rolledBack.appointments);
+            // The archive hands out each appointment only once, so those loaded during the transaction must be kept
+            restored.addAppointments(rolledBack.archivedAppointments.stream()
+                    .filter(appointment -> !restored.hasAppointment(appointment))
+                    .collect(Collectors.toList()));
+            // Only what changed is restored, so the version only moves on for the patients and appointments restored
+            addressBook.updateData(restored);
+            logger.info("Rolled back changes to the address book");
+        }
+        applyDeferredPredicates(rolledBack);
+    }
+
+    private Transaction endTransaction() {
+        if (transaction == null) {
+            throw new IllegalStateException("No transaction has begun");
+        }
+        Transaction ended = transaction;
+        transaction = null;
+        return ended;
+    }
+
+    /**
+     * Applies the predicates given for the filtered lists during the {@code ended} transaction that have not been
+     * applied yet.
+     */
+    private void applyDeferredPredicates(Transaction ended) {
+        if (ended.patientPredicate != null) {
+            updateFilteredPatientList(ended.patientPredicate);
+        }
+        if (ended.appointmentViewPredicate != null) {
+            updateFilteredAppointmentViewList(ended.appointmentViewPredicate);
+        }
+        if (ended.isDayViewOutdated) {
+            updateFilteredAppointmentDayViewList();
+        }
+    }
+
     //=========== Filtered Patient List Accessors =============================================================
 
     /**
@@ -212,13 +376,21 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Patient> getFilteredPatientList() {
+        if (transaction != null && transaction.patientPredicate != null) {
+            filteredPatients.setPredicate(addressBook.pushDownPatientPredicate(transaction.patientPredicate));
+            transaction.patientPredicate = null;
+        }
         return filteredPatients;
     }
 
     @Override
     public void updateFilteredPatientList(Predicate<Patient> predicate) {
         requireNonNull(predicate);
-        filteredPatients.setPredicate(predicate);
+        if (transaction != null) {
+            transaction.patientPredicate = predicate;
+            return;
+        }
+        filteredPatients.setPredicate(addressBook.pushDownPatientPredicate(predicate));
     }
 
     //=========== Filtered Appointment List Accessors =============================================================
@@ -230,29 +402,50 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<AppointmentView> getFilteredAppointmentViewList() {
+        if (transaction != null && transaction.appointmentViewPredicate != null) {
+            filteredAppointmentsView.setPredicate(
+                    addressBook.pushDownAppointmentViewPredicate(transaction.appointmentViewPredicate));
+            transaction.appointmentViewPredicate = null;
+        }
         return filteredAppointmentsView;
     }
 
     @Override
     public void updateFilteredAppointmentViewList(Predicate<AppointmentView> predicate) {
         requireNonNull(predicate);
-        filteredAppointmentsView.setPredicate(predicate);
+        if (transaction != null) {
+            transaction.appointmentViewPredicate = predicate;
+            return;
+        }
+        filteredAppointmentsView.setPredicate(addressBook.pushDownAppointmentViewPredicate(predicate));
     }
 
     //=========== Filtered Appointment Day-View List Accessors =====================================================
 
     @Override
     public ObservableList<AppointmentView> getFilteredAppointmentDayViewList() {
+        if (transaction != null && transaction.isDayViewOutdated) {
+            transaction.isDayViewOutdated = false;
+            setDayViewPredicate();
+        }
         return filteredAppointmentsDayView;
     }
 
     @Override
     public void updateFilteredAppointmentDayViewList() {
+        if (transaction != null) {
+            transaction.isDayViewOutdated = true;
+            return;
+        }
+        setDayViewPredicate();
+    }
+
+    private void setDayViewPredicate() {
         Predicate<AppointmentView> predicate = new AppointmentContainsKeywordsPredicate(
             Optional.empty(),
             Optional.of(new Date(LocalDate.now().toString())),
             Optional.empty());
-        filteredAppointmentsDayView.setPredicate(predicate);
+        filteredAppointmentsDayView.setPredicate(addressBook.pushDownAppointmentViewPredicate(predicate));
     }
 
 
@@ -273,4 +466,26 @@ public class ModelManager implements Model {
                 && filteredPatients.equals(otherModelManager.filteredPatients);
     }
 
+    /**
+     * The contents of the address book when a transaction began, and what has been put off until it ends.
+     */
+    private static class Transaction {
+        private final long modificationVersion;
+        private final List<Patient> patients;
+        private final List<Appointment> appointments;
+        // Archived appointments loaded during the transaction
+        private final List<Appointment> archivedAppointments = new ArrayList<>();
+        private boolean isArchiveDiscarded;
+        // The last predicates given for the filtered lists, or null if they have since been applied
+        private Predicate<Patient> patientPredicate;
+        private Predicate<AppointmentView> appointmentViewPredicate;
+        private boolean isDayViewOutdated;
+
+        Transaction(ReadOnlyAddressBook addressBook) {
+            modificationVersion = addressBook.getModificationVersion();
+            patients = new ArrayList<>(addressBook.getPatientList());
+            appointments = new ArrayList<>(addressBook.getAppointmentList());
+        }
+    }
+
 }
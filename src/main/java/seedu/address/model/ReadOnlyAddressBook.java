@@ -23,4 +23,10 @@ public interface ReadOnlyAddressBook {
 
     ObservableList<AppointmentView> getAppointmentViewList();
 
+    /**
+     * Returns the modification version of the address book.
+     * The version increases every time the contents of the address book change, and stays the same otherwise.
+     */
+    long getModificationVersion();
+
 }
@@ -2,7 +2,10 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.JournalSettings;
+import seedu.address.commons.core.PartitionSettings;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +16,16 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    DataFileFormat getAddressBookFileFormat();
+
+    int getAddressBookBackupCount();
+
+    boolean isAddressBookFileWatched();
+
+    boolean isPatientStoreMapped();
+
+    JournalSettings getJournalSettings();
+
+    PartitionSettings getPartitionSettings();
+
 }
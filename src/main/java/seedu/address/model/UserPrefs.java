@@ -6,7 +6,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.JournalSettings;
+import seedu.address.commons.core.PartitionSettings;
 
 /**
  * Represents User's preferences.
@@ -15,6 +18,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "CLInic.json");
+    private DataFileFormat addressBookFileFormat = DataFileFormat.JSON;
+    private int addressBookBackupCount = 3;
+    private boolean isAddressBookFileWatched = false;
+    private boolean isPatientStoreMapped = false;
+    private JournalSettings journalSettings = new JournalSettings();
+    private PartitionSettings partitionSettings = new PartitionSettings();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +45,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFileFormat(newUserPrefs.getAddressBookFileFormat());
+        setAddressBookBackupCount(newUserPrefs.getAddressBookBackupCount());
+        setAddressBookFileWatched(newUserPrefs.isAddressBookFileWatched());
+        setPatientStoreMapped(newUserPrefs.isPatientStoreMapped());
+        setJournalSettings(newUserPrefs.getJournalSettings());
+        setPartitionSettings(newUserPrefs.getPartitionSettings());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +71,57 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public DataFileFormat getAddressBookFileFormat() {
+        return addressBookFileFormat;
+    }
+
+    public void setAddressBookFileFormat(DataFileFormat addressBookFileFormat) {
+        requireNonNull(addressBookFileFormat);
+        this.addressBookFileFormat = addressBookFileFormat;
+    }
+
+    public int getAddressBookBackupCount() {
+        return addressBookBackupCount;
+    }
+
+    public void setAddressBookBackupCount(int addressBookBackupCount) {
+        this.addressBookBackupCount = addressBookBackupCount;
+    }
+
+    public boolean isAddressBookFileWatched() {
+        return isAddressBookFileWatched;
+    }
+
+    public void setAddressBookFileWatched(boolean isAddressBookFileWatched) {
+        this.isAddressBookFileWatched = isAddressBookFileWatched;
+    }
+
+    public boolean isPatientStoreMapped() {
+        return isPatientStoreMapped;
+    }
+
+    public void setPatientStoreMapped(boolean isPatientStoreMapped) {
+        this.isPatientStoreMapped = isPatientStoreMapped;
+    }
+
+    public JournalSettings getJournalSettings() {
+        return journalSettings;
+    }
+
+    public void setJournalSettings(JournalSettings journalSettings) {
+        requireNonNull(journalSettings);
+        this.journalSettings = journalSettings;
+    }
+
+    public PartitionSettings getPartitionSettings() {
+        return partitionSettings;
+    }
+
+    public void setPartitionSettings(PartitionSettings partitionSettings) {
+        requireNonNull(partitionSettings);
+        this.partitionSettings = partitionSettings;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +135,19 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookFileFormat.equals(otherUserPrefs.addressBookFileFormat)
+                && addressBookBackupCount == otherUserPrefs.addressBookBackupCount
+                && isAddressBookFileWatched == otherUserPrefs.isAddressBookFileWatched
+                && isPatientStoreMapped == otherUserPrefs.isPatientStoreMapped
+                && journalSettings.equals(otherUserPrefs.journalSettings)
+                && partitionSettings.equals(otherUserPrefs.partitionSettings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFileFormat, addressBookBackupCount,
+                isAddressBookFileWatched, isPatientStoreMapped, journalSettings, partitionSettings);
     }
 
     @Override
@@ -82,6 +155,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFileFormat);
+        sb.append("\nLocal data file backups kept : " + addressBookBackupCount);
+        sb.append("\nLocal data file watched : " + isAddressBookFileWatched);
+        sb.append("\nPatients kept in mapped file : " + isPatientStoreMapped);
+        sb.append("\nJournal settings : " + journalSettings);
+        sb.append("\nPartition settings : " + partitionSettings);
         return sb.toString();
     }
 
@@ -0,0 +1,37 @@
+package seedu.address.model.appointment;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * Stored appointments that have not been loaded into the address book yet.
+ * Each appointment is handed out at most once, after which the address book is responsible for it.
+ */
+public interface AppointmentArchive {
+
+    /**
+     * Returns the appointments not yet loaded that are in the same month as {@code date}.
+     *
+     * @param addressBookVersion the modification version of the address book, before the returned appointments are
+     *     added to it.
+     * @throws DataLoadingException if the appointments could not be read.
+     */
+    List<Appointment> loadAppointmentsInMonthOf(LocalDate date, long addressBookVersion)
+            throws DataLoadingException;
+
+    /**
+     * Returns all the appointments not yet loaded.
+     *
+     * @param addressBookVersion the modification version of the address book, before the returned appointments are
+     *     added to it.
+     * @throws DataLoadingException if the appointments could not be read.
+     */
+    List<Appointment> loadAllAppointments(long addressBookVersion) throws DataLoadingException;
+
+    /**
+     * Discards all the appointments not yet loaded, so that they are removed from storage on the next save.
+     */
+    void discardUnloadedAppointments();
+}
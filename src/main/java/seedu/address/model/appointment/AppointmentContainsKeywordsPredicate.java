@@ -30,26 +30,41 @@ public class AppointmentContainsKeywordsPredicate implements Predicate<Appointme
         this.timeFilter = timeFilter;
     }
 
+    public Optional<Nric> getNricFilter() {
+        return nricFilter;
+    }
+
+    public Optional<Date> getDateFilter() {
+        return dateFilter;
+    }
+
     @Override
     public boolean test(AppointmentView appointment) {
+        return matches(appointment.getAppointment());
+    }
+
+    /**
+     * Returns true if {@code appointment} matches all of the filters given.
+     */
+    public boolean matches(Appointment appointment) {
         boolean matchesNric = true;
         boolean matchesDate = true;
         boolean matchesTimePeriod = true;
 
         if (nricFilter.isPresent()) {
             Nric filterNric = nricFilter.get();
-            matchesNric = appointment.getAppointment().getNric().equals(filterNric);
+            matchesNric = appointment.getNric().equals(filterNric);
         }
 
         if (dateFilter.isPresent()) {
             Date filterDate = dateFilter.get();
-            matchesDate = appointment.getAppointment().getDate().equals(filterDate);
+            matchesDate = appointment.getDate().equals(filterDate);
         }
 
         if (timeFilter.isPresent()) {
             Time filterTime = timeFilter.get();
-            matchesTimePeriod = appointment.getAppointment().getStartTime().compareTo(filterTime) == 1
-                    || appointment.getAppointment().getStartTime().equals(filterTime);
+            matchesTimePeriod = appointment.getStartTime().compareTo(filterTime) == 1
+                    || appointment.getStartTime().equals(filterTime);
         }
 
         return matchesNric && matchesDate && matchesTimePeriod;
@@ -0,0 +1,99 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.commons.core.date.Date;
+import seedu.address.model.patient.Nric;
+
+/**
+ * Indexes appointments by patient and date, ordered by start time within each day.
+ * Appointments of the same patient on the same date are expected not to overlap, as enforced by
+ * {@code AppointmentList}. Under that assumption, an appointment with a later start time also ends later,
+ * so an overlap check only needs to look at the closest appointment that starts before the given one ends.
+ */
+class AppointmentIntervalIndex {
+
+    private final Map<Nric, Map<Date, NavigableMap<Time, Appointment>>> appointmentsByPatient = new HashMap<>();
+
+    /**
+     * Adds {@code toAdd} to the index.
+     * {@code toAdd} must not overlap any appointment already in the index for the same patient and date.
+     */
+    public void add(Appointment toAdd) {
+        requireNonNull(toAdd);
+        appointmentsByPatient.computeIfAbsent(toAdd.getNric(), unused -> new HashMap<>())
+                .computeIfAbsent(toAdd.getDate(), unused -> new TreeMap<>())
+                .put(toAdd.getStartTime(), toAdd);
+    }
+
+    /**
+     * Removes {@code toRemove} from the index, if present.
+     */
+    public void remove(Appointment toRemove) {
+        requireNonNull(toRemove);
+        Map<Date, NavigableMap<Time, Appointment>> appointmentsByDate = appointmentsByPatient.get(toRemove.getNric());
+        if (appointmentsByDate == null) {
+            return;
+        }
+        NavigableMap<Time, Appointment> appointmentsOnDate = appointmentsByDate.get(toRemove.getDate());
+        if (appointmentsOnDate == null) {
+            return;
+        }
+        appointmentsOnDate.remove(toRemove.getStartTime(), toRemove);
+        if (appointmentsOnDate.isEmpty()) {
+            appointmentsByDate.remove(toRemove.getDate());
+        }
+        if (appointmentsByDate.isEmpty()) {
+            appointmentsByPatient.remove(toRemove.getNric());
+        }
+    }
+
+    /**
+     * Removes every appointment of the patient with {@code nric} from the index.
+     */
+    public void removeAllWithNric(Nric nric) {
+        requireNonNull(nric);
+        appointmentsByPatient.remove(nric);
+    }
+
+    /**
+     * Removes every appointment from the index.
+     */
+    public void clear() {
+        appointmentsByPatient.clear();
+    }
+
+    /**
+     * Returns true if an appointment in the index, other than {@code excluded}, belongs to the same patient
+     * and date as {@code toCheck} and has a time period that overlaps with that of {@code toCheck}.
+     *
+     * @param excluded appointment to ignore, or null if no appointment is to be ignored.
+     */
+    public boolean hasOverlap(Appointment toCheck, Appointment excluded) {
+        requireNonNull(toCheck);
+        Map<Date, NavigableMap<Time, Appointment>> appointmentsByDate = appointmentsByPatient.get(toCheck.getNric());
+        if (appointmentsByDate == null) {
+            return false;
+        }
+        NavigableMap<Time, Appointment> appointmentsOnDate = appointmentsByDate.get(toCheck.getDate());
+        if (appointmentsOnDate == null) {
+            return false;
+        }
+
+        // Appointments starting at or after toCheck ends cannot overlap it, and of those starting earlier,
+        // the one starting latest ends latest.
+        for (Appointment candidate : appointmentsOnDate.headMap(toCheck.getEndTime(), false).descendingMap()
+                .values()) {
+            if (candidate.equals(excluded)) {
+                continue;
+            }
+            return candidate.hasOverlappingTimePeriod(toCheck);
+        }
+        return false;
+    }
+}
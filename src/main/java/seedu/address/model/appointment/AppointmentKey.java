@@ -0,0 +1,61 @@
+package seedu.address.model.appointment;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.core.date.Date;
+import seedu.address.model.patient.Nric;
+
+/**
+ * Identifies an appointment by its patient, date and start time.
+ * No two appointments in an address book share a key, since they would overlap.
+ */
+public final class AppointmentKey {
+    private final Nric nric;
+    private final Date date;
+    private final Time startTime;
+
+    /**
+     * Creates the key of the appointment of the patient with {@code nric} on {@code date} from {@code startTime}.
+     */
+    public AppointmentKey(Nric nric, Date date, Time startTime) {
+        requireAllNonNull(nric, date, startTime);
+        this.nric = nric;
+        this.date = date;
+        this.startTime = startTime;
+    }
+
+    /**
+     * Returns the key of {@code appointment}.
+     */
+    public static AppointmentKey of(Appointment appointment) {
+        return new AppointmentKey(appointment.getNric(), appointment.getDate(), appointment.getStartTime());
+    }
+
+    public Nric getNric() {
+        return nric;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AppointmentKey)) {
+            return false;
+        }
+
+        AppointmentKey otherKey = (AppointmentKey) other;
+        return nric.equals(otherKey.nric)
+                && date.equals(otherKey.date)
+                && startTime.equals(otherKey.startTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nric, date, startTime);
+    }
+}
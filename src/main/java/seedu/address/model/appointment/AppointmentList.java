@@ -3,8 +3,13 @@ package seedu.address.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -24,6 +29,10 @@ import seedu.address.model.patient.Nric;
  * However, the removal of an appointment uses Patient#equals(Object) to ensure that the
  * appointment with exactly the same fields will be removed.
  *
+ * Appointments of the same patient on the same date must not overlap. Appointments are additionally
+ * indexed by patient, date and start time, and by patient and date, so that lookups and overlap checks
+ * do not scan the whole list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Appointment#isSameAppointment(Appointment)
@@ -33,13 +42,15 @@ public class AppointmentList implements Iterable<Appointment> {
     private final ObservableList<Appointment> internalList = FXCollections.observableArrayList();
     private final ObservableList<Appointment> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<AppointmentKey, Appointment> appointmentsByKey = new HashMap<>();
+    private AppointmentIntervalIndex intervalIndex = new AppointmentIntervalIndex();
 
     /**
      * Returns true if the list contains an equivalent appointment as the given argument.
      */
     public boolean contains(Appointment toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAppointment);
+        return toCheck.isSameAppointment(appointmentsByKey.get(AppointmentKey.of(toCheck)));
     }
 
     /**
@@ -54,9 +65,41 @@ public class AppointmentList implements Iterable<Appointment> {
         if (samePatientHasOverlappingAppointment(toAdd)) {
             throw new OverlappingAppointmentException();
         }
+        appointmentsByKey.put(AppointmentKey.of(toAdd), toAdd);
+        intervalIndex.add(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list as a single change.
+     * The appointments must not already exist in the list, nor overlap each other or an existing appointment of the
+     * same patient.
+     */
+    public void addAll(List<Appointment> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Appointment> duplicateAppointments = findDuplicateAppointments(toAdd);
+        if (!duplicateAppointments.isEmpty()) {
+            throw new DuplicateAppointmentException(duplicateAppointments);
+        }
+
+        AppointmentIntervalIndex addedIndex = new AppointmentIntervalIndex();
+        for (Appointment appointment : toAdd) {
+            if (contains(appointment)) {
+                throw new DuplicateAppointmentException();
+            }
+            if (samePatientHasOverlappingAppointment(appointment) || addedIndex.hasOverlap(appointment, null)) {
+                throw new OverlappingAppointmentException();
+            }
+            addedIndex.add(appointment);
+        }
+
+        for (Appointment appointment : toAdd) {
+            appointmentsByKey.put(AppointmentKey.of(appointment), appointment);
+            intervalIndex.add(appointment);
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the appointment {@code target} in the list with {@code editedAppointment}.
      * {@code target} must exist in the list.
@@ -78,6 +121,10 @@ public class AppointmentList implements Iterable<Appointment> {
             throw new OverlappingAppointmentException();
         }
 
+        appointmentsByKey.remove(AppointmentKey.of(target));
+        appointmentsByKey.put(AppointmentKey.of(editedAppointment), editedAppointment);
+        intervalIndex.remove(target);
+        intervalIndex.add(editedAppointment);
         internalList.set(index, editedAppointment);
     }
 
@@ -90,23 +137,40 @@ public class AppointmentList implements Iterable<Appointment> {
         if (!internalList.remove(toRemove)) {
             throw new AppointmentNotFoundException();
         }
+        appointmentsByKey.remove(AppointmentKey.of(toRemove));
+        intervalIndex.remove(toRemove);
     }
 
     public void setAppointments(AppointmentList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setAppointments(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code appointments}.
-     * {@code appointments} must not contain duplicate appointments.
+     * {@code appointments} must not contain duplicate appointments,
+     * nor overlapping appointments for the same patient on the same date.
      */
     public void setAppointments(List<Appointment> appointments) {
         requireAllNonNull(appointments);
-        if (!appointmentsAreUnique(appointments)) {
-            throw new DuplicateAppointmentException();
+        List<Appointment> duplicateAppointments = findDuplicateAppointments(appointments);
+        if (!duplicateAppointments.isEmpty()) {
+            throw new DuplicateAppointmentException(duplicateAppointments);
         }
 
+        AppointmentIntervalIndex replacementIndex = new AppointmentIntervalIndex();
+        for (Appointment appointment : appointments) {
+            if (replacementIndex.hasOverlap(appointment, null)) {
+                throw new OverlappingAppointmentException();
+            }
+            replacementIndex.add(appointment);
+        }
+
+        appointmentsByKey.clear();
+        for (Appointment appointment : appointments) {
+            appointmentsByKey.put(AppointmentKey.of(appointment), appointment);
+        }
+        intervalIndex = replacementIndex;
         internalList.setAll(appointments);
     }
 
@@ -123,23 +187,25 @@ public class AppointmentList implements Iterable<Appointment> {
     }
 
     /**
-     * Returns an Appointment that matches from the Appointment list based on {@code Nric, Date, StartTime} given.
-     * Throws an {@code AppointmentNotFoundException} if no matching appointment is found.
+     * Returns the Appointment in the list that matches the {@code Nric, Date, StartTime} given,
+     * or {@code Optional.empty()} if there is no such appointment.
      */
-    public Appointment getMatchingAppointment(Nric nricToMatch, Date dateToMatch, Time startTimeToMatch) {
+    public Optional<Appointment> findMatchingAppointment(Nric nricToMatch, Date dateToMatch, Time startTimeToMatch) {
         requireNonNull(nricToMatch);
         requireNonNull(dateToMatch);
         requireNonNull(startTimeToMatch);
 
-        for (Appointment appointment : this) {
-            if (appointment.getNric().equals(nricToMatch)
-                    && appointment.getDate().equals(dateToMatch)
-                    && appointment.getStartTime().equals(startTimeToMatch)) {
-                return appointment;
-            }
-        }
+        return Optional.ofNullable(appointmentsByKey.get(
+                new AppointmentKey(nricToMatch, dateToMatch, startTimeToMatch)));
+    }
 
-        throw new AppointmentNotFoundException();
+    /**
+     * Returns an Appointment that matches from the Appointment list based on {@code Nric, Date, StartTime} given.
+     * Throws an {@code AppointmentNotFoundException} if no matching appointment is found.
+     */
+    public Appointment getMatchingAppointment(Nric nricToMatch, Date dateToMatch, Time startTimeToMatch) {
+        return findMatchingAppointment(nricToMatch, dateToMatch, startTimeToMatch)
+                .orElseThrow(AppointmentNotFoundException::new);
     }
 
     @Override
@@ -168,17 +234,18 @@ public class AppointmentList implements Iterable<Appointment> {
     }
 
     /**
-     * Returns true if {@code appointments} contains only unique appointments.
+     * Returns one appointment for every identity shared by more than one appointment in {@code appointments},
+     * in order of first repetition. Returns an empty list if {@code appointments} contains only unique appointments.
      */
-    private boolean appointmentsAreUnique(List<Appointment> appointments) {
-        for (int i = 0; i < appointments.size() - 1; i++) {
-            for (int j = i + 1; j < appointments.size(); j++) {
-                if (appointments.get(i).isSameAppointment(appointments.get(j))) {
-                    return false;
-                }
+    private static List<Appointment> findDuplicateAppointments(List<Appointment> appointments) {
+        Map<SameAppointmentKey, Integer> occurrences = new HashMap<>();
+        List<Appointment> duplicateAppointments = new ArrayList<>();
+        for (Appointment appointment : appointments) {
+            if (occurrences.merge(new SameAppointmentKey(appointment), 1, Integer::sum) == 2) {
+                duplicateAppointments.add(appointment);
             }
         }
-        return true;
+        return duplicateAppointments;
     }
 
 
@@ -186,56 +253,58 @@ public class AppointmentList implements Iterable<Appointment> {
     public void deleteAppointmentsWithNric(Nric nric) {
         requireNonNull(nric);
         internalList.removeIf(appointment -> appointment.getNric().equals(nric));
+        appointmentsByKey.keySet().removeIf(key -> key.getNric().equals(nric));
+        intervalIndex.removeAllWithNric(nric);
     }
 
     /**
      * Returns true if appointment list has appointment with {@code nric, date, startTime}
      */
     public boolean hasAppointmentWithDetails(Nric nricToMatch, Date dateToMatch, Time startTimeToMatch) {
-        requireNonNull(nricToMatch);
-        requireNonNull(dateToMatch);
-        requireNonNull(startTimeToMatch);
-
-        for (Appointment appointment : this) {
-            if (appointment.getNric().equals(nricToMatch)
-                    && appointment.getDate().equals(dateToMatch)
-                    && appointment.getStartTime().equals(startTimeToMatch)) {
-                return true;
-            }
-        }
-        return false;
+        return findMatchingAppointment(nricToMatch, dateToMatch, startTimeToMatch).isPresent();
     }
     /** Return true if new appt to be added overlaps with existing appointment of same Nric **/
     public boolean samePatientHasOverlappingAppointment(Appointment targetAppt) {
         requireNonNull(targetAppt);
-
-        for (Appointment appointment : this) {
-            // Check for same patient and same date
-            if (appointment.getNric().equals(targetAppt.getNric())
-                    && appointment.getDate().equals(targetAppt.getDate())) {
-                return appointment.hasOverlappingTimePeriod(targetAppt);
-            }
-        }
-
-        return false; // No appointment for same patient or same date
+        return intervalIndex.hasOverlap(targetAppt, null);
     }
 
     /** Return true if new appt to be added overlaps with existing appointment of same Nric, excluding targetAppt **/
     public boolean hasOverlappingAppointmentExcluding(Appointment targetAppt, Appointment editedAppointment) {
         requireAllNonNull(targetAppt, editedAppointment);
+        // Exclude targetAppt since that would be changed already
+        return intervalIndex.hasOverlap(editedAppointment, targetAppt);
+    }
+
+    /**
+     * Wraps an appointment so that appointments are equal if they are the same appointment,
+     * as defined by {@link Appointment#isSameAppointment(Appointment)}.
+     */
+    private static class SameAppointmentKey {
+        private final Appointment appointment;
 
-        for (Appointment appointment : this) {
-            // Exclude targetAppt since that would be changed already
-            if (appointment.equals(targetAppt)) {
-                continue;
+        SameAppointmentKey(Appointment appointment) {
+            this.appointment = appointment;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
             }
-            //Check if for same Patient, there is overlapping date and time period with editedAppointment
-            if (appointment.getNric().equals(editedAppointment.getNric())
-                    && appointment.getDate().equals(editedAppointment.getDate())) {
-                return appointment.hasOverlappingTimePeriod(editedAppointment);
+
+            // instanceof handles nulls
+            if (!(other instanceof SameAppointmentKey)) {
+                return false;
             }
+
+            SameAppointmentKey otherKey = (SameAppointmentKey) other;
+            return appointment.isSameAppointment(otherKey.appointment);
         }
 
-        return false; // No appointment for same patient or same date
+        @Override
+        public int hashCode() {
+            return Objects.hash(appointment.getNric(), appointment.getDate(), appointment.getTimePeriod());
+        }
     }
 }
@@ -0,0 +1,90 @@
+package seedu.address.model.appointment;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.date.Date;
+import seedu.address.model.patient.Nric;
+
+/**
+ * Indexes appointments by NRIC and by date, so that the appointments matched by an
+ * {@link AppointmentContainsKeywordsPredicate} with either filter can be found without testing every appointment.
+ */
+class AppointmentSearchIndex {
+
+    private final Map<Nric, Set<Appointment>> appointmentsByNric = new HashMap<>();
+    private final Map<Date, Set<Appointment>> appointmentsByDate = new HashMap<>();
+    private long version;
+
+    /**
+     * Returns a value that changes whenever the index changes.
+     */
+    long getVersion() {
+        return version;
+    }
+
+    void add(Appointment appointment) {
+        version++;
+        appointmentsByNric.computeIfAbsent(appointment.getNric(), unused -> new HashSet<>()).add(appointment);
+        appointmentsByDate.computeIfAbsent(appointment.getDate(), unused -> new HashSet<>()).add(appointment);
+    }
+
+    void remove(Appointment appointment) {
+        version++;
+        removeFrom(appointmentsByNric, appointment.getNric(), appointment);
+        removeFrom(appointmentsByDate, appointment.getDate(), appointment);
+    }
+
+    void removeAllWithNric(Nric nric) {
+        version++;
+        Set<Appointment> removed = appointmentsByNric.remove(nric);
+        if (removed != null) {
+            removed.forEach(appointment -> removeFrom(appointmentsByDate, appointment.getDate(), appointment));
+        }
+    }
+
+    void clear() {
+        version++;
+        appointmentsByNric.clear();
+        appointmentsByDate.clear();
+    }
+
+    /**
+     * Returns the appointments that satisfy {@code predicate}, or an empty {@code Optional} if {@code predicate}
+     * cannot be answered from this index.
+     */
+    Optional<Set<Appointment>> findMatches(Predicate<? super AppointmentView> predicate) {
+        if (!(predicate instanceof AppointmentContainsKeywordsPredicate)) {
+            return Optional.empty();
+        }
+
+        AppointmentContainsKeywordsPredicate keywordsPredicate = (AppointmentContainsKeywordsPredicate) predicate;
+        Optional<Set<Appointment>> withNric = keywordsPredicate.getNricFilter().map(nric ->
+                appointmentsByNric.getOrDefault(nric, Collections.emptySet()));
+        Optional<Set<Appointment>> onDate = keywordsPredicate.getDateFilter().map(date ->
+                appointmentsByDate.getOrDefault(date, Collections.emptySet()));
+        if (!withNric.isPresent() && !onDate.isPresent()) {
+            return Optional.empty();
+        }
+
+        // Only the smaller set of candidates needs to be checked against the other filters
+        Set<Appointment> candidates = !onDate.isPresent()
+                || (withNric.isPresent() && withNric.get().size() < onDate.get().size())
+                ? withNric.get()
+                : onDate.get();
+        return Optional.of(candidates.stream().filter(keywordsPredicate::matches).collect(Collectors.toSet()));
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Appointment>> index, K key, Appointment appointment) {
+        Set<Appointment> appointments = index.get(key);
+        if (appointments != null && appointments.remove(appointment) && appointments.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.appointment;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents an AppointmentType in CLInic.
  * Guarantees: immutable; typeName is valid as declared in {@link #isValidAppointmentType(String)}
@@ -15,6 +17,7 @@ public class AppointmentType {
             "Appointment type should not be empty and should have less than "
             + APPT_TYPE_CHARACTER_LIMIT + " characters";
     public static final String VALIDATION_REGEX = "^.{1," + (APPT_TYPE_CHARACTER_LIMIT - 1) + "}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String typeName;
 
@@ -24,16 +27,30 @@ public class AppointmentType {
      * @param typeName A valid appointment type name.
      */
     public AppointmentType(String typeName) {
+        this(typeName, true);
+    }
+
+    private AppointmentType(String typeName, boolean isValidated) {
         requireNonNull(typeName);
-        checkArgument(isValidAppointmentType(typeName), MESSAGE_CONSTRAINTS);
+        if (isValidated) {
+            checkArgument(isValidAppointmentType(typeName), MESSAGE_CONSTRAINTS);
+        }
         this.typeName = typeName;
     }
 
+    /**
+     * Returns an {@code AppointmentType} of {@code typeName}, which is known to be valid, without checking it again.
+     * Only for values written by this application, such as those in a verified snapshot.
+     */
+    public static AppointmentType ofTrusted(String typeName) {
+        return new AppointmentType(typeName, false);
+    }
+
     /**
      * Returns true if a given string is a valid appointment type name.
      */
     public static boolean isValidAppointmentType(String test) {
-        return test.trim().matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test.trim()).matches();
     }
 
     @Override
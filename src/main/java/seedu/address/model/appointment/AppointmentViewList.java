@@ -1,16 +1,24 @@
 package seedu.address.model.appointment;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
+import seedu.address.model.patient.Name;
 import seedu.address.model.patient.Nric;
 import seedu.address.model.patient.Patient;
 import seedu.address.model.patient.UniquePatientList;
+import seedu.address.model.util.IndexedPredicate;
 
 
 /**
@@ -22,56 +30,142 @@ import seedu.address.model.patient.UniquePatientList;
  * However, the removal of an appointmentView uses Patient#equals(Object) to ensure that the
  * appointmentView with exactly the same fields will be removed.
  *
+ * The list is kept sorted by date and time. Single-appointment changes are applied in place at their
+ * sorted position, so that each fires a minimal change event instead of rebuilding the whole list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see AppointmentView#isSameAppointmentView(AppointmentView)
  */
 public class AppointmentViewList implements Iterable<AppointmentView> {
 
+    /** Orders appointments by date, then by time period. */
+    private static final Comparator<Appointment> APPOINTMENT_ORDER =
+            Comparator.comparing(Appointment::getDate).thenComparing(Appointment::getTimePeriod);
+    private static final Comparator<AppointmentView> APPOINTMENT_VIEW_ORDER =
+            Comparator.comparing(AppointmentView::getAppointment, APPOINTMENT_ORDER);
+
     private final ObservableList<AppointmentView> internalList = FXCollections.observableArrayList();
     private final ObservableList<AppointmentView> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final AppointmentSearchIndex searchIndex = new AppointmentSearchIndex();
 
 
+    /**
+     * Replaces the contents of this list with views of {@code appointmentList}, named using {@code patientList}.
+     * Appointments whose NRIC does not belong to any patient in {@code patientList} are left out.
+     */
     public void setAppointmentViews(UniquePatientList patientList, List<Appointment> appointmentList) {
         requireAllNonNull(patientList, appointmentList);
-        internalList.clear();
-
-        for (Patient patient : patientList) {
-            Nric patientNric = patient.getNric();
+        setAppointmentViews(patientList, (Iterable<Appointment>) appointmentList);
+    }
 
-            for (Appointment appointment : appointmentList) {
-                Nric appointmentNric = appointment.getNric();
+    /**
+     * Replaces the contents of this list with views of {@code appointmentList}, named using {@code patientList}.
+     * Appointments whose NRIC does not belong to any patient in {@code patientList} are left out.
+     */
+    public void setAppointmentViews(UniquePatientList patientList, AppointmentList appointmentList) {
+        requireAllNonNull(patientList, appointmentList);
+        setAppointmentViews(patientList, (Iterable<Appointment>) appointmentList);
+    }
 
-                // Check if the NRICs match
-                if (patientNric.equals(appointmentNric)) {
-                    AppointmentView appointmentView = new AppointmentView(patient.getName(), appointment);
-                    internalList.add(appointmentView);
-                }
+    private void setAppointmentViews(UniquePatientList patientList, Iterable<Appointment> appointmentList) {
+        List<AppointmentView> replacement = new ArrayList<>();
+        for (Appointment appointment : appointmentList) {
+            Nric appointmentNric = appointment.getNric();
+            if (patientList.hasPatientWithNric(appointmentNric)) {
+                Patient patient = patientList.getPatientWithNric(appointmentNric);
+                replacement.add(new AppointmentView(patient.getName(), appointment));
             }
         }
-        sortList();
+        replacement.sort(APPOINTMENT_VIEW_ORDER);
+        searchIndex.clear();
+        replacement.forEach(appointmentView -> searchIndex.add(appointmentView.getAppointment()));
+        internalList.setAll(replacement);
     }
 
+    /**
+     * Inserts {@code toAdd} at its position in date and time order.
+     */
+    public void add(AppointmentView toAdd) {
+        requireNonNull(toAdd);
+        searchIndex.add(toAdd.getAppointment());
+        internalList.add(upperBound(toAdd.getAppointment()), toAdd);
+    }
 
-    public void setAppointmentViews(UniquePatientList patientList, AppointmentList appointmentList) {
-        requireAllNonNull(patientList, appointmentList);
-        internalList.clear();
+    /**
+     * Removes the view of the appointment {@code toRemove}.
+     * The view must exist in the list.
+     */
+    public void remove(Appointment toRemove) {
+        requireNonNull(toRemove);
+        int index = indexOf(toRemove);
+        if (index == -1) {
+            throw new AppointmentNotFoundException();
+        }
+        searchIndex.remove(toRemove);
+        internalList.remove(index);
+    }
+
+    /**
+     * Replaces the view of the appointment {@code target} with {@code editedAppointmentView}.
+     * The view is replaced in place if its position in date and time order is unchanged, and moved otherwise.
+     * The view of {@code target} must exist in the list.
+     */
+    public void setAppointmentView(Appointment target, AppointmentView editedAppointmentView) {
+        requireAllNonNull(target, editedAppointmentView);
 
-        for (Patient patient : patientList) {
-            Nric patientNric = patient.getNric();
+        int index = indexOf(target);
+        if (index == -1) {
+            throw new AppointmentNotFoundException();
+        }
 
-            for (Appointment appointment : appointmentList) {
-                Nric appointmentNric = appointment.getNric();
+        if (APPOINTMENT_ORDER.compare(target, editedAppointmentView.getAppointment()) == 0) {
+            searchIndex.remove(target);
+            searchIndex.add(editedAppointmentView.getAppointment());
+            internalList.set(index, editedAppointmentView);
+            return;
+        }
+        searchIndex.remove(target);
+        internalList.remove(index);
+        add(editedAppointmentView);
+    }
 
-                // Check if the NRICs match
-                if (patientNric.equals(appointmentNric)) {
-                    AppointmentView appointmentView = new AppointmentView(patient.getName(), appointment);
-                    internalList.add(appointmentView);
-                }
+    /**
+     * Replaces the name shown on every view of an appointment belonging to {@code nric} with {@code name}.
+     */
+    public void setPatientName(Nric nric, Name name) {
+        requireAllNonNull(nric, name);
+        for (int i = 0; i < internalList.size(); i++) {
+            AppointmentView appointmentView = internalList.get(i);
+            if (appointmentView.getAppointment().getNric().equals(nric)
+                    && !appointmentView.getName().equals(name)) {
+                internalList.set(i, new AppointmentView(name, appointmentView.getAppointment()));
             }
         }
-        sortList();
+    }
+
+    /**
+     * Removes the views of all appointments belonging to {@code nric}.
+     */
+    public void removeAppointmentViewsWithNric(Nric nric) {
+        requireNonNull(nric);
+        searchIndex.removeAllWithNric(nric);
+        internalList.removeIf(appointmentView -> appointmentView.getAppointment().getNric().equals(nric));
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that looks up the matching appointments in the index of
+     * NRICs and dates, or {@code predicate} itself if it cannot be answered from the index.
+     */
+    public Predicate<AppointmentView> pushDown(Predicate<AppointmentView> predicate) {
+        requireNonNull(predicate);
+        Optional<Set<Appointment>> matches = searchIndex.findMatches(predicate);
+        if (!matches.isPresent()) {
+            return predicate;
+        }
+        return new IndexedPredicate<>(predicate, AppointmentView::getAppointment, searchIndex::getVersion, () ->
+                searchIndex.findMatches(predicate).get(), matches.get());
     }
 
     /**
@@ -112,25 +206,52 @@ public class AppointmentViewList implements Iterable<AppointmentView> {
     }
 
     /**
-     * Returns true if {@code appointmentViews} contains only unique appointmentViews.
+     * Returns the index of the view of {@code appointment}, or -1 if there is no such view.
      */
-    private boolean appointmentViewsAreUnique(List<AppointmentView> appointments) {
-        for (int i = 0; i < appointments.size() - 1; i++) {
-            for (int j = i + 1; j < appointments.size(); j++) {
-                if (appointments.get(i).isSameAppointmentView(appointments.get(j))) {
-                    return false;
-                }
+    private int indexOf(Appointment appointment) {
+        for (int i = lowerBound(appointment); i < internalList.size(); i++) {
+            Appointment current = internalList.get(i).getAppointment();
+            if (APPOINTMENT_ORDER.compare(current, appointment) != 0) {
+                break;
+            }
+            if (current.equals(appointment)) {
+                return i;
             }
         }
-        return true;
+        return -1;
     }
 
     /**
-     * Sort internal list according to date and time
+     * Returns the index of the first view that is not ordered before {@code appointment}.
      */
-    private void sortList() {
-        internalList.sort(
-            Comparator.comparing((AppointmentView appointmentView) -> appointmentView.getAppointment().getDate())
-                .thenComparing((AppointmentView appointmentView) -> appointmentView.getAppointment().getTimePeriod()));
+    private int lowerBound(Appointment appointment) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (APPOINTMENT_ORDER.compare(internalList.get(mid).getAppointment(), appointment) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first view that is ordered after {@code appointment}.
+     */
+    private int upperBound(Appointment appointment) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (APPOINTMENT_ORDER.compare(internalList.get(mid).getAppointment(), appointment) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 }
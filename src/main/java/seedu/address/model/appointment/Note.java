@@ -21,11 +21,25 @@ public class Note {
      * @param note Any note.
      */
     public Note(String note) {
+        this(note, true);
+    }
+
+    private Note(String note, boolean isValidated) {
         requireNonNull(note);
-        checkArgument(isValidNote(note), MESSAGE_CONSTRAINTS);
+        if (isValidated) {
+            checkArgument(isValidNote(note), MESSAGE_CONSTRAINTS);
+        }
         this.note = note;
     }
 
+    /**
+     * Returns a {@code Note} of {@code note}, which is known to be valid, without checking it again.
+     * Only for values written by this application, such as those in a verified snapshot.
+     */
+    public static Note ofTrusted(String note) {
+        return new Note(note, false);
+    }
+
     /**
      * Returns true if a given string is a valid appointment note.
      */
@@ -1,10 +1,11 @@
 package seedu.address.model.appointment;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.parseDigits;
 
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
 
 /**
  * Represents a time.
@@ -19,10 +20,6 @@ public class Time implements Comparable<Time> {
             + "2. The mm part should only contain integers between 0 to 59\n";
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern(TIME_FORMAT);
 
-    private static final String HOUR_REGEX = "([01]?[0-9]|2[0-3])";
-    private static final String MINUTE_REGEX = "[0-5][0-9]";
-    private static final String VALIDATION_REGEX = HOUR_REGEX + ":" + MINUTE_REGEX;
-
     public final LocalTime value;
 
     /**
@@ -32,8 +29,29 @@ public class Time implements Comparable<Time> {
      */
     public Time(String time) {
         requireNonNull(time);
-        checkArgument(isValidTime(time), MESSAGE_CONSTRAINTS);
-        value = LocalTime.parse(time);
+        value = parseLocalTime(time).orElseThrow(() -> new IllegalArgumentException(MESSAGE_CONSTRAINTS));
+    }
+
+    private Time(LocalTime value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the {@code Time} written as {@code time} by this application, such as in a verified snapshot,
+     * without checking that it is a valid time again.
+     */
+    public static Time ofTrusted(String time) {
+        requireNonNull(time);
+        return new Time(LocalTime.of((int) parseDigits(time, 0, 2), (int) parseDigits(time, 3, 5)));
+    }
+
+    /**
+     * Returns the {@code Time} written as {@code time}, or an empty {@code Optional} if {@code time} is not a
+     * valid time. The string is only read once, and no exception is thrown for an invalid time.
+     */
+    public static Optional<Time> parse(String time) {
+        requireNonNull(time);
+        return parseLocalTime(time).map(Time::new);
     }
 
     /**
@@ -41,12 +59,22 @@ public class Time implements Comparable<Time> {
      */
     public static boolean isValidTime(String test) {
         requireNonNull(test);
-        try {
-            LocalTime.parse(test);
-        } catch (Exception e) {
-            return false;
+        return parseLocalTime(test).isPresent();
+    }
+
+    /**
+     * Reads a time in the format "HH:mm", where HH is from 00 to 23 and mm is from 00 to 59.
+     */
+    private static Optional<LocalTime> parseLocalTime(String time) {
+        if (time.length() != TIME_FORMAT.length() || time.charAt(2) != ':') {
+            return Optional.empty();
+        }
+        long hour = parseDigits(time, 0, 2);
+        long minute = parseDigits(time, 3, 5);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return Optional.empty();
         }
-        return test.matches(VALIDATION_REGEX);
+        return Optional.of(LocalTime.of((int) hour, (int) minute));
     }
 
     @Override
@@ -22,13 +22,28 @@ public class TimePeriod implements Comparable<TimePeriod> {
      * @param endTime   The end time of the period.
      */
     public TimePeriod(Time startTime, Time endTime) {
+        this(startTime, endTime, true);
+    }
+
+    private TimePeriod(Time startTime, Time endTime, boolean isValidated) {
         requireNonNull(startTime);
         requireNonNull(endTime);
-        checkArgument(isValidTimePeriod(startTime, endTime), MESSAGE_CONSTRAINTS);
+        if (isValidated) {
+            checkArgument(isValidTimePeriod(startTime, endTime), MESSAGE_CONSTRAINTS);
+        }
         this.startTime = startTime;
         this.endTime = endTime;
     }
 
+    /**
+     * Returns a {@code TimePeriod} from {@code startTime} to {@code endTime}, which are known to form a valid
+     * period, without checking them again.
+     * Only for periods written by this application, such as those in a verified snapshot.
+     */
+    public static TimePeriod ofTrusted(Time startTime, Time endTime) {
+        return new TimePeriod(startTime, endTime, false);
+    }
+
     /**
      * Returns the start time of the period.
      *
@@ -1,11 +1,44 @@
 package seedu.address.model.appointment.exceptions;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.appointment.Appointment;
+
 /**
  * Signals that the operation will result in duplicate Appointments (Appointments are considered duplicates if they
  * have the same identity).
  */
 public class DuplicateAppointmentException extends RuntimeException {
+
+    private final List<Appointment> duplicateAppointments;
+
+    /**
+     * Constructs a {@code DuplicateAppointmentException} without reporting which entries are duplicated.
+     */
     public DuplicateAppointmentException() {
         super("Operation would result in duplicate appointments");
+        duplicateAppointments = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateAppointmentException} reporting one appointment for every identity
+     * shared by more than one appointment.
+     */
+    public DuplicateAppointmentException(Collection<Appointment> duplicateAppointments) {
+        super("Operation would result in duplicate appointments: " + duplicateAppointments.stream()
+                .map(appointment -> appointment.getNric() + " on " + appointment.getDate()
+                        + " from " + appointment.getTimePeriod())
+                .collect(Collectors.joining(", ")));
+        this.duplicateAppointments = List.copyOf(duplicateAppointments);
+    }
+
+    /**
+     * Returns one appointment for every duplicated identity, or an empty list if they were not reported.
+     */
+    public List<Appointment> getDuplicateAppointments() {
+        return duplicateAppointments;
     }
 }
@@ -2,6 +2,8 @@ package seedu.address.model.patient;
 
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.LocalDate;
+
 import seedu.address.commons.core.date.Date;
 
 /**
@@ -19,7 +21,19 @@ public class DateOfBirth extends Date {
      */
     public DateOfBirth(String dateOfBirth) {
         super(dateOfBirth);
-        checkArgument(isValidDateOfBirth(dateOfBirth), MESSAGE_CONSTRAINTS);
+        checkArgument(value.isBefore(LocalDate.now()), MESSAGE_CONSTRAINTS);
+    }
+
+    private DateOfBirth(String dateOfBirth, boolean isValidated) {
+        super(dateOfBirth, isValidated);
+    }
+
+    /**
+     * Returns the {@code DateOfBirth} written as {@code dateOfBirth} by this application, such as in a verified
+     * snapshot, without checking that it is a valid date of birth again.
+     */
+    public static DateOfBirth ofTrusted(String dateOfBirth) {
+        return new DateOfBirth(dateOfBirth, false);
     }
 
     /**
@@ -0,0 +1,68 @@
+package seedu.address.model.patient;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@code PatientStore} that keeps every patient on the heap, indexed by {@code Nric}.
+ */
+public class InMemoryPatientStore implements PatientStore {
+
+    private final List<Patient> patients = new ArrayList<>();
+    private final Map<Nric, Patient> nricToPatient = new HashMap<>();
+
+    @Override
+    public int size() {
+        return patients.size();
+    }
+
+    @Override
+    public Patient get(int index) {
+        return patients.get(index);
+    }
+
+    @Override
+    public Patient get(Nric nric) {
+        return nricToPatient.get(nric);
+    }
+
+    @Override
+    public boolean contains(Nric nric) {
+        return nricToPatient.containsKey(nric);
+    }
+
+    @Override
+    public int indexOf(Nric nric) {
+        Patient patient = nricToPatient.get(nric);
+        return patient == null ? -1 : patients.indexOf(patient);
+    }
+
+    @Override
+    public void add(Patient patient) {
+        nricToPatient.put(patient.getNric(), patient);
+        patients.add(patient);
+    }
+
+    @Override
+    public void set(int index, Patient patient) {
+        Patient replaced = patients.set(index, patient);
+        nricToPatient.remove(replaced.getNric());
+        nricToPatient.put(patient.getNric(), patient);
+    }
+
+    @Override
+    public void remove(int index) {
+        nricToPatient.remove(patients.remove(index).getNric());
+    }
+
+    @Override
+    public void setAll(List<Patient> replacement) {
+        patients.clear();
+        nricToPatient.clear();
+        for (Patient patient : replacement) {
+            add(patient);
+        }
+    }
+}
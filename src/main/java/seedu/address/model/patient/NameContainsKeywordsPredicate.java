@@ -16,6 +16,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Patient> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Patient patient) {
         return keywords.stream()
@@ -23,6 +23,10 @@ public class NricContainsMatchPredicate implements Predicate<Patient> {
         this.prefixToMatch = prefixToMatch;
     }
 
+    public String getPrefixToMatch() {
+        return prefixToMatch;
+    }
+
     @Override
     public boolean test(Patient patient) {
         return StringUtil.startsWithWordIgnoreCase(patient.getNric().value, prefixToMatch);
@@ -0,0 +1,105 @@
+package seedu.address.model.patient;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Indexes patients by the words of their names and by their NRICs, both in lower case, so that the patients
+ * matched by a {@link NameContainsKeywordsPredicate} or {@link NricContainsMatchPredicate} can be found from
+ * the keys starting with each keyword instead of testing every patient.
+ * Only NRICs are kept, so that patients held outside the heap are not brought back in.
+ */
+class PatientSearchIndex {
+
+    private static final String WHITESPACE = "\\s+";
+
+    private final NavigableMap<String, Set<Nric>> nricsByNameWord = new TreeMap<>();
+    private final NavigableMap<String, Nric> nricsByLowerCaseNric = new TreeMap<>();
+    private long version;
+
+    /**
+     * Returns a value that changes whenever the index changes.
+     */
+    long getVersion() {
+        return version;
+    }
+
+    void add(Patient patient) {
+        version++;
+        Nric nric = patient.getNric();
+        for (String word : toWords(patient.getName())) {
+            nricsByNameWord.computeIfAbsent(word, unused -> new HashSet<>()).add(nric);
+        }
+        nricsByLowerCaseNric.put(nric.value.toLowerCase(), nric);
+    }
+
+    void remove(Patient patient) {
+        version++;
+        Nric nric = patient.getNric();
+        for (String word : toWords(patient.getName())) {
+            Set<Nric> nrics = nricsByNameWord.get(word);
+            if (nrics != null && nrics.remove(nric) && nrics.isEmpty()) {
+                nricsByNameWord.remove(word);
+            }
+        }
+        nricsByLowerCaseNric.remove(nric.value.toLowerCase());
+    }
+
+    void clear() {
+        version++;
+        nricsByNameWord.clear();
+        nricsByLowerCaseNric.clear();
+    }
+
+    /**
+     * Returns the NRICs of the patients that satisfy {@code predicate}, or an empty {@code Optional} if
+     * {@code predicate} cannot be answered from this index.
+     * Keywords that the predicate would reject are left to the predicate, so that it reports them as before.
+     */
+    Optional<Set<Nric>> findMatches(Predicate<? super Patient> predicate) {
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            List<String> keywords = ((NameContainsKeywordsPredicate) predicate).getKeywords();
+            Set<Nric> matches = new HashSet<>();
+            for (String keyword : keywords) {
+                Optional<String> prefix = toPrefix(keyword);
+                if (!prefix.isPresent()) {
+                    return Optional.empty();
+                }
+                withPrefix(nricsByNameWord, prefix.get()).values().forEach(matches::addAll);
+            }
+            return Optional.of(matches);
+        }
+
+        if (predicate instanceof NricContainsMatchPredicate) {
+            String prefixToMatch = ((NricContainsMatchPredicate) predicate).getPrefixToMatch();
+            return toPrefix(prefixToMatch)
+                    .map(prefix -> new HashSet<>(withPrefix(nricsByLowerCaseNric, prefix).values()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the words of {@code name} in lower case, split in the same way as
+     * {@link seedu.address.commons.util.StringUtil#startsWithWordIgnoreCase(String, String)}.
+     */
+    private static String[] toWords(Name name) {
+        return name.fullName.toLowerCase().split(WHITESPACE);
+    }
+
+    private static Optional<String> toPrefix(String keyword) {
+        String prefix = keyword.trim().toLowerCase();
+        if (prefix.isEmpty() || prefix.split(WHITESPACE).length != 1) {
+            return Optional.empty();
+        }
+        return Optional.of(prefix);
+    }
+
+    private static <V> NavigableMap<String, V> withPrefix(NavigableMap<String, V> map, String prefix) {
+        return map.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+    }
+}
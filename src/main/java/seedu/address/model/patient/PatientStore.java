@@ -0,0 +1,57 @@
+package seedu.address.model.patient;
+
+import java.util.List;
+
+/**
+ * Holds the patients of a {@code UniquePatientList} in order, and finds them by {@code Nric}.
+ * Implementations may keep patients outside the heap and rebuild them on access, so a patient that is returned
+ * is equal to, but not necessarily the same object as, the patient that was stored.
+ * Callers are responsible for keeping NRICs unique.
+ */
+public interface PatientStore {
+
+    /**
+     * Returns the number of patients stored.
+     */
+    int size();
+
+    /**
+     * Returns the patient at position {@code index}.
+     */
+    Patient get(int index);
+
+    /**
+     * Returns the patient with {@code nric}, or null if there is no such patient.
+     */
+    Patient get(Nric nric);
+
+    /**
+     * Returns true if a patient with {@code nric} is stored.
+     */
+    boolean contains(Nric nric);
+
+    /**
+     * Returns the position of the patient with {@code nric}, or -1 if there is no such patient.
+     */
+    int indexOf(Nric nric);
+
+    /**
+     * Stores {@code patient} after all other patients.
+     */
+    void add(Patient patient);
+
+    /**
+     * Replaces the patient at position {@code index} with {@code patient}.
+     */
+    void set(int index, Patient patient);
+
+    /**
+     * Removes the patient at position {@code index}.
+     */
+    void remove(int index);
+
+    /**
+     * Replaces all stored patients with {@code patients}.
+     */
+    void setAll(List<Patient> patients);
+}
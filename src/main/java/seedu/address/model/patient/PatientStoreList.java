@@ -0,0 +1,76 @@
+package seedu.address.model.patient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An {@code ObservableList} view of a {@code PatientStore}, which reports the changes made through it.
+ * Patients are only fetched from the store when they are accessed.
+ * The list cannot be modified through the {@code List} methods.
+ */
+class PatientStoreList extends ObservableListBase<Patient> {
+
+    private final PatientStore store;
+
+    PatientStoreList(PatientStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Patient get(int index) {
+        return store.get(index);
+    }
+
+    @Override
+    public int size() {
+        return store.size();
+    }
+
+    /**
+     * Adds {@code patient} to the end of the list.
+     */
+    void addPatient(Patient patient) {
+        store.add(patient);
+        beginChange();
+        nextAdd(size() - 1, size());
+        endChange();
+    }
+
+    /**
+     * Replaces the patient at {@code index} with {@code patient}.
+     */
+    void setPatient(int index, Patient patient) {
+        Patient replaced = store.get(index);
+        store.set(index, patient);
+        beginChange();
+        nextSet(index, replaced);
+        endChange();
+    }
+
+    /**
+     * Removes the patient at {@code index}.
+     */
+    void removePatient(int index) {
+        Patient removed = store.get(index);
+        store.remove(index);
+        beginChange();
+        nextRemove(index, removed);
+        endChange();
+    }
+
+    /**
+     * Replaces the contents of the list with {@code patients}.
+     */
+    void setAllPatients(List<Patient> patients) {
+        List<Patient> removed = new ArrayList<>(this);
+        store.setAll(patients == this ? removed : patients);
+        if (removed.isEmpty() && patients.isEmpty()) {
+            return;
+        }
+        beginChange();
+        nextReplace(0, size(), removed);
+        endChange();
+    }
+}
@@ -3,13 +3,19 @@ package seedu.address.model.patient;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.patient.exceptions.DuplicatePatientException;
 import seedu.address.model.patient.exceptions.PatientNotFoundException;
+import seedu.address.model.util.IndexedPredicate;
 
 /**
  * A list of patients that enforces uniqueness between its elements and does not allow nulls.
@@ -19,22 +25,46 @@ import seedu.address.model.patient.exceptions.PatientNotFoundException;
  * However, the removal of a patient uses Patient#equals(Object) so as to ensure that the patient with
  * exactly the same fields will be removed.
  *
+ * Patients are held in a {@code PatientStore}, which indexes them by {@code Nric} so that identity lookups do not
+ * scan the list. By default the store keeps every patient on the heap, but a store that keeps patients elsewhere
+ * and fetches them on access can be supplied instead.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Patient#isSamePatient(Patient)
  */
 public class UniquePatientList implements Iterable<Patient> {
 
-    private final ObservableList<Patient> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Patient> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final PatientStore store;
+    private final PatientStoreList internalList;
+    private final ObservableList<Patient> internalUnmodifiableList;
+    private final PatientSearchIndex searchIndex = new PatientSearchIndex();
+
+    /**
+     * Creates an empty {@code UniquePatientList} that keeps its patients on the heap.
+     */
+    public UniquePatientList() {
+        this(new InMemoryPatientStore());
+    }
+
+    /**
+     * Creates a {@code UniquePatientList} that holds its patients in {@code store}.
+     * The list starts off with the patients already in {@code store}.
+     */
+    public UniquePatientList(PatientStore store) {
+        requireNonNull(store);
+        this.store = store;
+        internalList = new PatientStoreList(store);
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        internalList.forEach(searchIndex::add);
+    }
 
     /**
      * Returns true if the list contains an equivalent patient as the given argument.
      */
     public boolean contains(Patient toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePatient);
+        return store.contains(toCheck.getNric());
     }
 
     /**
@@ -46,7 +76,8 @@ public class UniquePatientList implements Iterable<Patient> {
         if (contains(toAdd)) {
             throw new DuplicatePatientException();
         }
-        internalList.add(toAdd);
+        searchIndex.add(toAdd);
+        internalList.addPatient(toAdd);
     }
 
     /**
@@ -57,8 +88,8 @@ public class UniquePatientList implements Iterable<Patient> {
     public void setPatient(Patient target, Patient editedPatient) {
         requireAllNonNull(target, editedPatient);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int index = store.indexOf(target.getNric());
+        if (index == -1 || !target.equals(store.get(index))) {
             throw new PatientNotFoundException();
         }
 
@@ -66,7 +97,9 @@ public class UniquePatientList implements Iterable<Patient> {
             throw new DuplicatePatientException();
         }
 
-        internalList.set(index, editedPatient);
+        searchIndex.remove(target);
+        searchIndex.add(editedPatient);
+        internalList.setPatient(index, editedPatient);
     }
 
     /**
@@ -75,14 +108,19 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void remove(Patient toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = store.indexOf(toRemove.getNric());
+        if (index == -1 || !toRemove.equals(store.get(index))) {
             throw new PatientNotFoundException();
         }
+        searchIndex.remove(toRemove);
+        internalList.removePatient(index);
     }
 
     public void setPatients(UniquePatientList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        searchIndex.clear();
+        replacement.internalList.forEach(searchIndex::add);
+        internalList.setAllPatients(replacement.internalList);
     }
 
     /**
@@ -91,32 +129,35 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void setPatients(List<Patient> patients) {
         requireAllNonNull(patients);
-        if (!patientsAreUnique(patients)) {
-            throw new DuplicatePatientException();
+        Set<Nric> duplicateNrics = findDuplicateNrics(patients);
+        if (!duplicateNrics.isEmpty()) {
+            throw new DuplicatePatientException(duplicateNrics);
         }
 
-        internalList.setAll(patients);
+        searchIndex.clear();
+        patients.forEach(searchIndex::add);
+        internalList.setAllPatients(patients);
     }
 
     /**
-     * Get patient with name {@code name}.
-     * {@code name} must exist within list.
+     * Get patient with nric {@code nric}.
+     * {@code nric} must exist within list.
      */
     public Patient getPatientWithNric(Nric nric) {
-        Patient equivalentPatient = new Patient(nric);
-        for (Patient patient : internalList) {
-            if (patient.isSamePatient(equivalentPatient)) {
-                return patient;
-            }
+        requireNonNull(nric);
+        Patient patient = store.get(nric);
+        if (patient == null) {
+            throw new PatientNotFoundException();
         }
-        throw new PatientNotFoundException();
+        return patient;
     }
+
     /**
-     * Returns true if a patient with the same name as {@code patient} exists in the address book.
+     * Returns true if a patient with the same nric as {@code nric} exists in the address book.
      */
     public boolean hasPatientWithNric(Nric nric) {
         requireNonNull(nric);
-        return contains(new Patient(nric));
+        return store.contains(nric);
     }
 
     /**
@@ -124,8 +165,26 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void deletePatientWithNric(Nric nric) {
         requireNonNull(nric);
-        Patient key = getPatientWithNric(nric);
-        internalList.remove(key);
+        int index = store.indexOf(nric);
+        if (index == -1) {
+            throw new PatientNotFoundException();
+        }
+        searchIndex.remove(store.get(index));
+        internalList.removePatient(index);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that looks up the matching patients in the index of
+     * names and NRICs, or {@code predicate} itself if it cannot be answered from the index.
+     */
+    public Predicate<Patient> pushDown(Predicate<Patient> predicate) {
+        requireNonNull(predicate);
+        Optional<Set<Nric>> matches = searchIndex.findMatches(predicate);
+        if (!matches.isPresent()) {
+            return predicate;
+        }
+        return new IndexedPredicate<>(predicate, Patient::getNric, searchIndex::getVersion, () ->
+                searchIndex.findMatches(predicate).get(), matches.get());
     }
 
     /**
@@ -166,16 +225,17 @@ public class UniquePatientList implements Iterable<Patient> {
     }
 
     /**
-     * Returns true if {@code patients} contains only unique patients.
+     * Returns the NRICs shared by more than one patient in {@code patients}, in order of first repetition.
+     * Returns an empty set if {@code patients} contains only unique patients.
      */
-    private boolean patientsAreUnique(List<Patient> patients) {
-        for (int i = 0; i < patients.size() - 1; i++) {
-            for (int j = i + 1; j < patients.size(); j++) {
-                if (patients.get(i).isSamePatient(patients.get(j))) {
-                    return false;
-                }
+    private static Set<Nric> findDuplicateNrics(List<Patient> patients) {
+        Set<Nric> seenNrics = new HashSet<>();
+        Set<Nric> duplicateNrics = new LinkedHashSet<>();
+        for (Patient patient : patients) {
+            if (!seenNrics.add(patient.getNric())) {
+                duplicateNrics.add(patient.getNric());
             }
         }
-        return true;
+        return duplicateNrics;
     }
 }
@@ -1,11 +1,42 @@
 package seedu.address.model.patient.exceptions;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.patient.Nric;
+
 /**
  * Signals that the operation will result in duplicate Patients
  * (Patients are considered duplicates if they have the same identity).
  */
 public class DuplicatePatientException extends RuntimeException {
+
+    private final List<Nric> duplicateNrics;
+
+    /**
+     * Constructs a {@code DuplicatePatientException} without reporting which entries are duplicated.
+     */
     public DuplicatePatientException() {
         super("Operation would result in duplicate patients");
+        duplicateNrics = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicatePatientException} reporting every NRIC shared by more than one patient.
+     */
+    public DuplicatePatientException(Collection<Nric> duplicateNrics) {
+        super("Operation would result in duplicate patients with NRIC: " + duplicateNrics.stream()
+                .map(Nric::toString)
+                .collect(Collectors.joining(", ")));
+        this.duplicateNrics = List.copyOf(duplicateNrics);
+    }
+
+    /**
+     * Returns the NRICs shared by more than one patient, or an empty list if they were not reported.
+     */
+    public List<Nric> getDuplicateNrics() {
+        return duplicateNrics;
     }
 }
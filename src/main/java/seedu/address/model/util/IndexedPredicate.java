@@ -0,0 +1,72 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A predicate that answers from the keys of the matching elements looked up in an index, so that testing an
+ * element is a single hash lookup instead of evaluating the original predicate on it.
+ * The matches are looked up again whenever the version of the index changes. The index must change its version
+ * before its list notifies listeners, as a {@code FilteredList} tests the changed elements as soon as it is told.
+ */
+public class IndexedPredicate<T, K> implements Predicate<T> {
+
+    private final Predicate<? super T> original;
+    private final Function<? super T, K> keyExtractor;
+    private final LongSupplier indexVersion;
+    private final Supplier<Set<K>> lookUp;
+
+    private Set<K> matches;
+    private long matchesVersion;
+
+    /**
+     * Creates an {@code IndexedPredicate} equivalent to {@code original}.
+     *
+     * @param keyExtractor returns the key under which an element is indexed.
+     * @param indexVersion returns a value that changes whenever the index changes.
+     * @param lookUp returns the keys of all the indexed elements that satisfy {@code original}.
+     */
+    public IndexedPredicate(Predicate<? super T> original, Function<? super T, K> keyExtractor,
+            LongSupplier indexVersion, Supplier<Set<K>> lookUp) {
+        this(original, keyExtractor, indexVersion, lookUp, null);
+    }
+
+    /**
+     * Creates an {@code IndexedPredicate} equivalent to {@code original}, starting from the {@code matches}
+     * already looked up at the current version of the index, so that they are not looked up again.
+     *
+     * @param matches the keys of the matching elements, or null if they are yet to be looked up.
+     */
+    public IndexedPredicate(Predicate<? super T> original, Function<? super T, K> keyExtractor,
+            LongSupplier indexVersion, Supplier<Set<K>> lookUp, Set<K> matches) {
+        requireAllNonNull(original, keyExtractor, indexVersion, lookUp);
+        this.original = original;
+        this.keyExtractor = keyExtractor;
+        this.indexVersion = indexVersion;
+        this.lookUp = lookUp;
+        this.matches = matches;
+        this.matchesVersion = indexVersion.getAsLong();
+    }
+
+    @Override
+    public boolean test(T element) {
+        long currentVersion = indexVersion.getAsLong();
+        if (matches == null || matchesVersion != currentVersion) {
+            matches = lookUp.get();
+            matchesVersion = currentVersion;
+        }
+        return matches.contains(keyExtractor.apply(element));
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicate", original).toString();
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_APPOINTMENT_BEFORE_PATIENT_DOB;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_APPOINTMENT;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_PATIENT;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_NRIC_DOES_NOT_EXIST;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_OVERLAPPING_APPOINTMENT;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.patient.Nric;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Assembles an {@code AddressBook} from stored patients and appointments, validating each record as it is added.
+ * All records are validated before the model is populated in bulk, so that the appointment views are only
+ * built once.
+ * A trusting loader skips the checks across records, and leaves it to the model to keep its own invariants.
+ */
+class AddressBookLoader {
+
+    private final boolean isTrusting;
+    private final Map<Nric, Patient> patientsByNric = new HashMap<>();
+    private final List<Patient> patients = new ArrayList<>();
+    private final AppointmentList appointments = new AppointmentList();
+    private final List<Appointment> trustedAppointments = new ArrayList<>();
+
+    /**
+     * Creates an {@code AddressBookLoader} that validates every record.
+     */
+    public AddressBookLoader() {
+        this(false);
+    }
+
+    /**
+     * Creates an {@code AddressBookLoader}.
+     *
+     * @param isTrusting whether the records are known to be valid, such as when they come from a verified
+     *     snapshot, so that they are added without checking them against each other.
+     */
+    public AddressBookLoader(boolean isTrusting) {
+        this.isTrusting = isTrusting;
+    }
+
+    /**
+     * Adds {@code patient} to the address book being loaded.
+     *
+     * @throws IllegalValueException if a patient with the same NRIC has already been added.
+     */
+    public void addPatient(Patient patient) throws IllegalValueException {
+        if (isTrusting) {
+            patients.add(patient);
+            return;
+        }
+        if (patientsByNric.putIfAbsent(patient.getNric(), patient) != null) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PATIENT);
+        }
+        patients.add(patient);
+    }
+
+    /**
+     * Adds {@code appointment} to the address book being loaded.
+     * The patient of {@code appointment} must already have been added.
+     *
+     * @throws IllegalValueException if {@code appointment} is a duplicate, overlaps another appointment of the same
+     *     patient, does not belong to any patient added so far, or is before the patient's date of birth.
+     */
+    public void addAppointment(Appointment appointment) throws IllegalValueException {
+        if (isTrusting) {
+            trustedAppointments.add(appointment);
+            return;
+        }
+        if (appointments.contains(appointment)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENT);
+        }
+        if (appointments.samePatientHasOverlappingAppointment(appointment)) {
+            throw new IllegalValueException(MESSAGE_OVERLAPPING_APPOINTMENT);
+        }
+        Patient patient = patientsByNric.get(appointment.getNric());
+        if (patient == null) {
+            throw new IllegalValueException(MESSAGE_NRIC_DOES_NOT_EXIST);
+        }
+        if (appointment.getDate().isBefore(patient.getDob())) {
+            throw new IllegalValueException(MESSAGE_APPOINTMENT_BEFORE_PATIENT_DOB);
+        }
+        appointments.add(appointment);
+    }
+
+    /**
+     * Returns true if an appointment with the same identity as {@code appointment} has already been added.
+     * Only appointments checked by a validating loader are considered.
+     */
+    public boolean hasAppointment(Appointment appointment) {
+        return appointments.contains(appointment);
+    }
+
+    /**
+     * Returns the number of patients and appointments added so far.
+     */
+    public int getRecordCount() {
+        return patients.size() + appointments.asUnmodifiableObservableList().size() + trustedAppointments.size();
+    }
+
+    /**
+     * Returns an {@code AddressBook} with all the patients and appointments added so far.
+     */
+    public AddressBook toAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPatients(patients);
+        addressBook.setAppointments(isTrusting ? trustedAppointments : appointments.asUnmodifiableObservableList());
+        return addressBook;
+    }
+}
@@ -0,0 +1,185 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentView;
+import seedu.address.model.patient.Patient;
+
+/**
+ * An immutable copy of an address book as it was when the snapshot was taken, to be saved on another thread.
+ * A snapshot may also carry the patients and appointments added and removed since an earlier snapshot of the same
+ * address book, so that a storage which only writes what changed need not compare the whole address book.
+ * A snapshot that carries its changes may leave out the contents of the address book.
+ * Appointment views are never copied, as they are derived from the patients and appointments and not stored, so a
+ * snapshot has no appointment views.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+    private final ReadOnlyAddressBook source;
+    private final long modificationVersion;
+    private final ObservableList<Patient> patients;
+    private final ObservableList<Appointment> appointments;
+    private final Changes changes;
+
+    private AddressBookSnapshot(ReadOnlyAddressBook source, ObservableList<Patient> patients,
+                                ObservableList<Appointment> appointments, Changes changes) {
+        this.source = source;
+        this.modificationVersion = source.getModificationVersion();
+        this.patients = patients;
+        this.appointments = appointments;
+        this.changes = changes;
+    }
+
+    /**
+     * Returns a snapshot with a copy of the contents of {@code source}, and the {@code changes} since an earlier
+     * snapshot of it if they are known, or else null.
+     */
+    static AddressBookSnapshot copyOf(ReadOnlyAddressBook source, Changes changes) {
+        requireNonNull(source);
+        return new AddressBookSnapshot(source,
+                FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getPatientList())),
+                FXCollections.unmodifiableObservableList(
+                        FXCollections.observableArrayList(source.getAppointmentList())),
+                changes);
+    }
+
+    /**
+     * Returns a snapshot of {@code source} that only carries the {@code changes} since an earlier snapshot of it.
+     */
+    static AddressBookSnapshot changesOf(ReadOnlyAddressBook source, Changes changes) {
+        requireNonNull(source);
+        requireNonNull(changes);
+        return new AddressBookSnapshot(source, null, null, changes);
+    }
+
+    /**
+     * Returns the address book this snapshot was taken of.
+     */
+    ReadOnlyAddressBook getSource() {
+        return source;
+    }
+
+    /**
+     * Returns true if this snapshot has a copy of the contents of the address book.
+     */
+    boolean hasContents() {
+        return patients != null;
+    }
+
+    /**
+     * Returns the changes since an earlier snapshot of the same address book, if they are known.
+     */
+    Optional<Changes> getChanges() {
+        return Optional.ofNullable(changes);
+    }
+
+    /**
+     * Returns the address book that {@code addressBook} is a snapshot of, or {@code addressBook} itself if it is
+     * not a snapshot.
+     */
+    static ReadOnlyAddressBook sourceOf(ReadOnlyAddressBook addressBook) {
+        return addressBook instanceof AddressBookSnapshot
+                ? ((AddressBookSnapshot) addressBook).getSource()
+                : addressBook;
+    }
+
+    @Override
+    public ObservableList<Patient> getPatientList() {
+        requireContents();
+        return patients;
+    }
+
+    @Override
+    public ObservableList<Appointment> getAppointmentList() {
+        requireContents();
+        return appointments;
+    }
+
+    /**
+     * Returns an empty list, as appointment views are not copied into snapshots.
+     */
+    @Override
+    public ObservableList<AppointmentView> getAppointmentViewList() {
+        return FXCollections.emptyObservableList();
+    }
+
+    @Override
+    public long getModificationVersion() {
+        return modificationVersion;
+    }
+
+    private void requireContents() {
+        if (!hasContents()) {
+            throw new IllegalStateException("Snapshot only carries the changes to the address book");
+        }
+    }
+
+    /**
+     * A patient or appointment that was added to or removed from an address book.
+     */
+    static final class RecordChange<T> {
+        private final T record;
+        private final boolean isAdded;
+
+        RecordChange(T record, boolean isAdded) {
+            this.record = record;
+            this.isAdded = isAdded;
+        }
+
+        T getRecord() {
+            return record;
+        }
+
+        boolean isAdded() {
+            return isAdded;
+        }
+    }
+
+    /**
+     * The patients and appointments added and removed, in the order they were, since the snapshot of the same
+     * address book at {@code baseVersion}.
+     */
+    static final class Changes {
+        private final long baseVersion;
+        private final List<RecordChange<Patient>> patientChanges;
+        private final List<RecordChange<Appointment>> appointmentChanges;
+
+        Changes(long baseVersion, List<RecordChange<Patient>> patientChanges,
+                List<RecordChange<Appointment>> appointmentChanges) {
+            this.baseVersion = baseVersion;
+            this.patientChanges = Collections.unmodifiableList(new ArrayList<>(patientChanges));
+            this.appointmentChanges = Collections.unmodifiableList(new ArrayList<>(appointmentChanges));
+        }
+
+        long getBaseVersion() {
+            return baseVersion;
+        }
+
+        List<RecordChange<Patient>> getPatientChanges() {
+            return patientChanges;
+        }
+
+        List<RecordChange<Appointment>> getAppointmentChanges() {
+            return appointmentChanges;
+        }
+
+        /**
+         * Returns these changes followed by the {@code later} ones, since the same base version as these.
+         */
+        Changes followedBy(Changes later) {
+            List<RecordChange<Patient>> combinedPatientChanges = new ArrayList<>(patientChanges);
+            combinedPatientChanges.addAll(later.patientChanges);
+            List<RecordChange<Appointment>> combinedAppointmentChanges = new ArrayList<>(appointmentChanges);
+            combinedAppointmentChanges.addAll(later.appointmentChanges);
+            return new Changes(baseVersion, combinedPatientChanges, combinedAppointmentChanges);
+        }
+    }
+}
@@ -42,4 +42,22 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns true if this storage only writes the patients and appointments that changed since its last save.
+     * Such a storage can also save an {@link AddressBookSnapshot} that only carries the changes since the snapshot
+     * it last saved. Returns false by default, for storages that write the whole address book on every save.
+     */
+    default boolean isIncremental() {
+        return false;
+    }
+
+    /**
+     * Forces everything saved so far onto the storage device and releases the resources held by this storage.
+     * Does nothing by default, for storages that complete every write before the save returns.
+     *
+     * @throws IOException if there was any problem writing out what was saved.
+     */
+    default void close() throws IOException {
+    }
+
 }
@@ -0,0 +1,328 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.patient.Nric;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * Text values are stored once in a string table and referred to by index, dates are stored as epoch days, times
+ * as minutes of the day, and NRICs as fixed-width packed numbers.
+ * JSON data files are also read, so that switching to this format converts the file on the next save.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary snapshot version: %d";
+    public static final String MESSAGE_CORRUPTED_SNAPSHOT = "Binary snapshot is corrupted";
+
+    /** The first bytes of every binary snapshot, which tell it apart from a JSON file. */
+    static final byte[] MAGIC = {'C', 'L', 'N', 'B'};
+    static final short FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int NRIC_DIGITS_RANGE = 10_000_000;
+    private static final int LETTER_COUNT = 26;
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts with the binary snapshot header.
+     */
+    public static boolean isBinarySnapshot(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            return Arrays.equals(MAGIC, inputStream.readNBytes(MAGIC.length));
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A JSON data file at {@code filePath} is read as JSON.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!isBinarySnapshot(filePath)) {
+                return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+            }
+            logger.info("Binary snapshot " + filePath + " found.");
+            try (DataInputStream input = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(filePath), READ_BUFFER_SIZE))) {
+                return Optional.of(readSnapshot(input));
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary snapshot " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, outputStream -> {
+            DataOutputStream output = new DataOutputStream(outputStream);
+            writeSnapshot(addressBook, output);
+            output.flush();
+        });
+    }
+
+    private static void writeSnapshot(ReadOnlyAddressBook addressBook, DataOutputStream output) throws IOException {
+        List<Patient> patients = addressBook.getPatientList();
+        List<Appointment> appointments = addressBook.getAppointmentList();
+        StringTable strings = new StringTable();
+        for (Patient patient : patients) {
+            strings.add(patient.getName().fullName);
+            strings.add(patient.getPhone().value);
+            strings.add(patient.getEmail().value);
+            strings.add(patient.getAddress().value);
+            patient.getTags().forEach(tag -> strings.add(tag.tagName));
+        }
+        for (Appointment appointment : appointments) {
+            strings.add(appointment.getAppointmentType().typeName);
+            strings.add(appointment.getNote().note);
+        }
+
+        output.write(MAGIC);
+        output.writeShort(FORMAT_VERSION);
+        strings.writeTo(output);
+
+        output.writeInt(patients.size());
+        for (Patient patient : patients) {
+            writeNric(patient.getNric(), output);
+            output.writeInt(strings.indexOf(patient.getName().fullName));
+            output.writeInt((int) patient.getDob().value.toEpochDay());
+            output.writeInt(strings.indexOf(patient.getPhone().value));
+            output.writeInt(strings.indexOf(patient.getEmail().value));
+            output.writeInt(strings.indexOf(patient.getAddress().value));
+            output.writeShort(patient.getTags().size());
+            for (Tag tag : patient.getTags()) {
+                output.writeInt(strings.indexOf(tag.tagName));
+            }
+        }
+
+        output.writeInt(appointments.size());
+        for (Appointment appointment : appointments) {
+            writeNric(appointment.getNric(), output);
+            output.writeInt((int) appointment.getDate().value.toEpochDay());
+            output.writeShort(toMinuteOfDay(appointment.getStartTime().value));
+            output.writeShort(toMinuteOfDay(appointment.getEndTime().value));
+            output.writeInt(strings.indexOf(appointment.getAppointmentType().typeName));
+            output.writeInt(strings.indexOf(appointment.getNote().note));
+            output.writeBoolean(appointment.getMark().isMarked);
+        }
+    }
+
+    /**
+     * Reads a snapshot written by {@link #writeSnapshot}, checking its records in the same way as a JSON file.
+     */
+    private static AddressBook readSnapshot(DataInputStream input) throws IOException, IllegalValueException {
+        input.skipBytes(MAGIC.length);
+        short version = input.readShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        try {
+            String[] strings = StringTable.readFrom(input);
+
+            int patientCount = readCount(input);
+            List<JsonAdaptedPatient> patients = new ArrayList<>(patientCount);
+            for (int i = 0; i < patientCount; i++) {
+                String nric = readNric(input);
+                String name = strings[input.readInt()];
+                String dob = LocalDate.ofEpochDay(input.readInt()).toString();
+                String phone = strings[input.readInt()];
+                String email = strings[input.readInt()];
+                String address = strings[input.readInt()];
+                int tagCount = input.readUnsignedShort();
+                List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+                for (int j = 0; j < tagCount; j++) {
+                    tags.add(new JsonAdaptedTag(strings[input.readInt()]));
+                }
+                patients.add(new JsonAdaptedPatient(name, nric, dob, phone, email, address, tags));
+            }
+
+            int appointmentCount = readCount(input);
+            List<JsonAdaptedAppointment> appointments = new ArrayList<>(appointmentCount);
+            for (int i = 0; i < appointmentCount; i++) {
+                String nric = readNric(input);
+                String date = LocalDate.ofEpochDay(input.readInt()).toString();
+                String startTime = fromMinuteOfDay(input.readShort()).toString();
+                String endTime = fromMinuteOfDay(input.readShort()).toString();
+                String appointmentType = strings[input.readInt()];
+                String note = strings[input.readInt()];
+                String isMarked = Boolean.toString(input.readBoolean());
+                appointments.add(new JsonAdaptedAppointment(nric, date, startTime, endTime, appointmentType, note,
+                        isMarked));
+            }
+
+            if (input.read() != -1) {
+                throw new IOException(MESSAGE_CORRUPTED_SNAPSHOT);
+            }
+            return new JsonSerializableAddressBook(patients, appointments).toModelType();
+        } catch (EOFException | ArrayIndexOutOfBoundsException | DateTimeException e) {
+            throw new IOException(MESSAGE_CORRUPTED_SNAPSHOT, e);
+        }
+    }
+
+    private static int readCount(DataInputStream input) throws IOException {
+        int count = input.readInt();
+        // Every counted item takes up at least one byte, so a larger count can only come from corrupted data
+        if (count < 0 || count > input.available()) {
+            throw new IOException(MESSAGE_CORRUPTED_SNAPSHOT);
+        }
+        return count;
+    }
+
+    /**
+     * Writes {@code nric} as a 5-byte number, as packed by {@link #packNric(Nric)}.
+     */
+    private static void writeNric(Nric nric, DataOutputStream output) throws IOException {
+        long packed = packNric(nric);
+        output.writeByte((int) (packed >>> Integer.SIZE));
+        output.writeInt((int) packed);
+    }
+
+    private static String readNric(DataInputStream input) throws IOException {
+        long packed = ((long) input.readUnsignedByte() << Integer.SIZE) | Integer.toUnsignedLong(input.readInt());
+        String nric = unpackNric(packed);
+        if (nric == null) {
+            throw new IOException(MESSAGE_CORRUPTED_SNAPSHOT);
+        }
+        return nric;
+    }
+
+    /**
+     * Returns {@code nric} as a non-negative number below 2^40, made up of its two letters and its 7 digits.
+     */
+    static long packNric(Nric nric) {
+        String value = nric.value;
+        long letters = (value.charAt(0) - 'A') * LETTER_COUNT + (value.charAt(value.length() - 1) - 'A');
+        return letters * NRIC_DIGITS_RANGE + Integer.parseInt(value.substring(1, value.length() - 1));
+    }
+
+    /**
+     * Returns the NRIC packed by {@link #packNric(Nric)} into {@code packed}, or null if {@code packed} could not
+     * have come from {@link #packNric(Nric)}.
+     */
+    static String unpackNric(long packed) {
+        long letters = packed / NRIC_DIGITS_RANGE;
+        if (packed < 0 || letters >= LETTER_COUNT * LETTER_COUNT) {
+            return null;
+        }
+        char first = (char) ('A' + letters / LETTER_COUNT);
+        char last = (char) ('A' + letters % LETTER_COUNT);
+        return String.format("%c%07d%c", first, packed % NRIC_DIGITS_RANGE, last);
+    }
+
+    private static short toMinuteOfDay(LocalTime time) {
+        return (short) (time.getHour() * 60 + time.getMinute());
+    }
+
+    private static LocalTime fromMinuteOfDay(short minuteOfDay) {
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    /**
+     * The distinct text values of a snapshot, each of which is stored once and referred to by its index.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indices = new LinkedHashMap<>();
+
+        void add(String value) {
+            indices.putIfAbsent(value, indices.size());
+        }
+
+        int indexOf(String value) {
+            return indices.get(value);
+        }
+
+        void writeTo(DataOutputStream output) throws IOException {
+            output.writeInt(indices.size());
+            for (String value : indices.keySet()) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+        }
+
+        static String[] readFrom(DataInputStream input) throws IOException {
+            String[] values = new String[readCount(input)];
+            for (int i = 0; i < values.length; i++) {
+                byte[] bytes = new byte[readCount(input)];
+                input.readFully(bytes);
+                values[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Keeps gzip-compressed copies of a data file, numbered from the newest, and drops the oldest copy once more than
+ * the number kept have been made.
+ * Copies are compressed by streaming the file through gzip, so the data is never held in memory.
+ * A copy of a json data file can be read back directly, as compressed json files are detected when read.
+ */
+public class CompressedBackups {
+
+    public static final String BACKUP_FILE_SUFFIX_FORMAT = ".backup-%d.gz";
+
+    private static final Logger logger = LogsCenter.getLogger(CompressedBackups.class);
+
+    private static final int COMPRESSION_BUFFER_SIZE = 64 * 1024;
+
+    private final int backupCount;
+
+    /**
+     * Creates a {@code CompressedBackups} that keeps up to {@code backupCount} copies of a data file.
+     * No copies are made if {@code backupCount} is not positive.
+     */
+    public CompressedBackups(int backupCount) {
+        this.backupCount = backupCount;
+    }
+
+    /**
+     * Makes a compressed copy of {@code filePath} as its newest backup, after moving each of its older backups one
+     * place along. Does nothing if there is no file at {@code filePath}.
+     */
+    public void backUp(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (backupCount <= 0 || !FileUtil.isFileExists(filePath)) {
+            return;
+        }
+
+        Files.deleteIfExists(getBackupFilePath(filePath, backupCount));
+        for (int generation = backupCount - 1; generation >= 1; generation--) {
+            Path backupFilePath = getBackupFilePath(filePath, generation);
+            if (Files.exists(backupFilePath)) {
+                Files.move(backupFilePath, getBackupFilePath(filePath, generation + 1),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        boolean isCompressed = FileUtil.isGzipFile(filePath);
+        FileUtil.writeToFileAtomically(getBackupFilePath(filePath, 1), outputStream -> {
+            if (isCompressed) {
+                Files.copy(filePath, outputStream);
+                return;
+            }
+            GZIPOutputStream compressingOutputStream = new GZIPOutputStream(outputStream, COMPRESSION_BUFFER_SIZE);
+            Files.copy(filePath, compressingOutputStream);
+            compressingOutputStream.finish();
+        });
+        logger.fine("Backed up " + filePath + " to " + getBackupFilePath(filePath, 1));
+    }
+
+    /**
+     * Returns the path of the backup of {@code filePath} that is {@code generation} backups old, starting from 1.
+     */
+    public static Path getBackupFilePath(Path filePath, int generation) {
+        return filePath.resolveSibling(filePath.getFileName() + String.format(BACKUP_FILE_SUFFIX_FORMAT, generation));
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Watches a data file for changes, including those written by other processes, and runs a callback on a
+ * dedicated thread once each burst of changes has settled.
+ * A file that is replaced by moving another file over it, as atomic saves do, is reported as changed too.
+ */
+public class DataFileWatcher implements AutoCloseable {
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileWatcher.class);
+
+    private static final long DEFAULT_SETTLE_MILLIS = 200;
+
+    private final Path filePath;
+    private final long settleMillis;
+    private final Runnable onChange;
+    private WatchService watchService;
+
+    /**
+     * Creates a {@code DataFileWatcher} that runs {@code onChange} after the file at {@code filePath} changes.
+     */
+    public DataFileWatcher(Path filePath, Runnable onChange) {
+        this(filePath, DEFAULT_SETTLE_MILLIS, onChange);
+    }
+
+    /**
+     * Creates a {@code DataFileWatcher} that runs {@code onChange} once the file at {@code filePath} has not changed
+     * for {@code settleMillis}.
+     */
+    public DataFileWatcher(Path filePath, long settleMillis, Runnable onChange) {
+        requireNonNull(filePath);
+        requireNonNull(onChange);
+        this.filePath = filePath.toAbsolutePath();
+        this.settleMillis = settleMillis;
+        this.onChange = onChange;
+    }
+
+    /**
+     * Starts watching the folder of the file in the background.
+     *
+     * @throws IOException if the folder cannot be watched.
+     */
+    public synchronized void start() throws IOException {
+        if (watchService != null) {
+            return;
+        }
+        watchService = filePath.getFileSystem().newWatchService();
+        filePath.getParent().register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+
+        Thread thread = new Thread(() -> watch(watchService), "data-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Watching data file " + filePath + " for changes");
+    }
+
+    /**
+     * Stops watching the file. The callback is not run again once this returns, unless it is already running.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+    }
+
+    private void watch(WatchService watchService) {
+        try {
+            while (true) {
+                if (!isFileChanged(watchService.take())) {
+                    continue;
+                }
+                // Saves are usually seen as several events, so wait for them to stop before reporting the change
+                WatchKey laterKey;
+                while ((laterKey = watchService.poll(settleMillis, TimeUnit.MILLISECONDS)) != null) {
+                    isFileChanged(laterKey);
+                }
+                runCallback();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.fine("Stopped watching data file " + filePath);
+        }
+    }
+
+    /**
+     * Returns true if any of the events of {@code key} may be about the watched file, and makes {@code key} ready
+     * to receive more events.
+     */
+    private boolean isFileChanged(WatchKey key) {
+        boolean isFileChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            isFileChanged |= event.kind() == OVERFLOW || filePath.getFileName().equals(event.context());
+        }
+        key.reset();
+        return isFileChanged;
+    }
+
+    private void runCallback() {
+        try {
+            onChange.run();
+        } catch (RuntimeException re) {
+            logger.warning("Failed to handle change to data file " + filePath + ": " + StringUtil.getDetails(re));
+        }
+    }
+}
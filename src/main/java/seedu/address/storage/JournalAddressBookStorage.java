@@ -0,0 +1,841 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.JournalSettings;
+import seedu.address.commons.core.JournalSettings.SyncPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookHistory;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentKey;
+import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
+import seedu.address.model.appointment.exceptions.OverlappingAppointmentException;
+import seedu.address.model.patient.Nric;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.exceptions.DuplicatePatientException;
+import seedu.address.model.patient.exceptions.PatientDobAfterApptDateException;
+import seedu.address.model.patient.exceptions.PatientNotFoundException;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a json snapshot, together with an append-only
+ * journal of the changes made since the snapshot was written.
+ * Each save only appends timestamped events for the patients and appointments that changed since the previous save.
+ * The journal is replayed on top of the snapshot when reading, and is compacted into a new snapshot in the
+ * background once it grows past the compaction threshold in {@link JournalSettings}.
+ * If history is kept, each compacted journal and the snapshot it produced are moved into a history folder, named
+ * after the time of the compaction, so that the address book can be rebuilt as of any time since the oldest
+ * snapshot kept.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage, AddressBookHistory {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String COMPACTING_JOURNAL_FILE_SUFFIX = ".journal.compacting";
+    public static final String HISTORY_FOLDER_SUFFIX = ".history";
+    public static final String COMPACTION_TIME_FILE_SUFFIX = ".compacted";
+    public static final String SNAPSHOT_FILE_EXTENSION = ".json";
+
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
+    private static final byte RECORD_SEPARATOR = '\n';
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalFilePath;
+    private final Path compactingJournalFilePath;
+    private final Path historyFolderPath;
+    private final Path compactionTimeFilePath;
+    private final JournalSettings journalSettings;
+    private final Clock clock;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final ScheduledExecutorService backgroundExecutor;
+
+    // Contents of the address book as recorded by the snapshot and the journal together
+    private final Map<Nric, Patient> persistedPatients = new LinkedHashMap<>();
+    private final Map<AppointmentKey, Appointment> persistedAppointments = new LinkedHashMap<>();
+
+    // Changes to the tracked address book since the last save, where a null value marks a removal
+    private final Map<Nric, Patient> changedPatients = new LinkedHashMap<>();
+    private final Map<AppointmentKey, Appointment> changedAppointments = new LinkedHashMap<>();
+    private final ListChangeListener<Patient> patientChangeListener = this::recordPatientChanges;
+    private final ListChangeListener<Appointment> appointmentChangeListener = this::recordAppointmentChanges;
+    private ReadOnlyAddressBook trackedAddressBook;
+
+    // Source and version of the last snapshot saved, which the changes carried by the next snapshot may be based on
+    private ReadOnlyAddressBook lastSavedSource;
+    private long lastSavedVersion;
+
+    // Held while the snapshot and the history are being changed or read, after the journal has been rotated
+    private final Object historyLock = new Object();
+
+    private FileChannel journalChannel;
+    private long lastTimestamp;
+    private int journalRecordCount;
+    private boolean hasUnsyncedRecords;
+    private boolean isCompactionScheduled;
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} with the snapshot at {@code filePath}, and the journal in the
+     * same folder.
+     */
+    public JournalAddressBookStorage(Path filePath, JournalSettings journalSettings) {
+        this(filePath, journalSettings, false);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} with the snapshot at {@code filePath}, and the journal in the
+     * same folder.
+     *
+     * @param isCompressed whether snapshots are compressed with gzip as they are written. The journal itself is
+     *     never compressed, as it is appended to.
+     */
+    public JournalAddressBookStorage(Path filePath, JournalSettings journalSettings, boolean isCompressed) {
+        this(filePath, journalSettings, isCompressed, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that timestamps its events with {@code clock}.
+     */
+    JournalAddressBookStorage(Path filePath, JournalSettings journalSettings, boolean isCompressed, Clock clock) {
+        requireNonNull(filePath);
+        requireNonNull(journalSettings);
+        requireNonNull(clock);
+        this.filePath = filePath;
+        this.journalFilePath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.compactingJournalFilePath =
+                filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_FILE_SUFFIX);
+        this.historyFolderPath = filePath.resolveSibling(filePath.getFileName() + HISTORY_FOLDER_SUFFIX);
+        this.compactionTimeFilePath =
+                filePath.resolveSibling(filePath.getFileName() + COMPACTION_TIME_FILE_SUFFIX);
+        this.journalSettings = journalSettings;
+        this.clock = clock;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath, false, isCompressed);
+        this.backgroundExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (journalSettings.getSyncPolicy() == SyncPolicy.PERIODIC) {
+            long interval = journalSettings.getSyncIntervalMillis();
+            backgroundExecutor.scheduleWithFixedDelay(this::syncJournal, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    public Path getHistoryFolderPath() {
+        return historyFolderPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is only replayed when {@code filePath} is the snapshot of this storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+        return replay();
+    }
+
+    /**
+     * Returns the address book as it was saved at {@code time}, rebuilt by replaying the journaled events up to
+     * {@code time} on top of the nearest snapshot in the history.
+     * Returns an empty {@code Optional} if the history kept does not go back as far as {@code time}.
+     * If no history is kept, only times since the latest compaction can be rebuilt.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookAt(Instant time) throws DataLoadingException {
+        requireNonNull(time);
+        long until = time.toEpochMilli();
+
+        synchronized (historyLock) {
+            NavigableMap<Long, Path> snapshots;
+            NavigableMap<Long, Path> segments;
+            long currentSnapshotTimestamp;
+            try {
+                snapshots = listHistory(SNAPSHOT_FILE_EXTENSION);
+                segments = listHistory(JOURNAL_FILE_SUFFIX);
+                currentSnapshotTimestamp = getSnapshotTimestamp();
+            } catch (IOException ioe) {
+                logger.warning("Error reading from " + historyFolderPath + ": " + ioe);
+                throw new DataLoadingException(ioe);
+            }
+
+            Optional<ReadOnlyAddressBook> snapshot;
+            long snapshotTimestamp;
+            if (snapshots.isEmpty()) {
+                // Nothing has been compacted into the history, so the journal starts from the current snapshot
+                if (until < currentSnapshotTimestamp) {
+                    return Optional.empty();
+                }
+                snapshot = snapshotStorage.readAddressBook(filePath);
+                snapshotTimestamp = currentSnapshotTimestamp;
+            } else if (snapshots.floorKey(until) == null) {
+                return Optional.empty();
+            } else {
+                snapshotTimestamp = snapshots.floorKey(until);
+                snapshot = snapshotStorage.readAddressBook(snapshots.get(snapshotTimestamp));
+            }
+            AddressBook addressBook = snapshot.map(AddressBook::new).orElseGet(AddressBook::new);
+
+            // Each journal in the history holds the events between the snapshot before it and the one named alike
+            List<Path> journalFilePaths = new ArrayList<>(segments.tailMap(snapshotTimestamp, false).values());
+            journalFilePaths.add(compactingJournalFilePath);
+            journalFilePaths.add(journalFilePath);
+            synchronized (this) {
+                for (Path path : journalFilePaths) {
+                    if (!replayJournalUntil(addressBook, path, until)) {
+                        break;
+                    }
+                }
+            }
+            return Optional.of(addressBook);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Changes are only journaled when {@code filePath} is the snapshot of this storage, otherwise a full snapshot
+     * is written to {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        appendChanges(addressBook);
+    }
+
+    @Override
+    public boolean isIncremental() {
+        return true;
+    }
+
+    /**
+     * Forces outstanding journal records to the storage device and stops the background work of this storage.
+     * Waits for a compaction that is in progress to complete.
+     */
+    @Override
+    public void close() throws IOException {
+        backgroundExecutor.shutdown();
+        try {
+            backgroundExecutor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            if (journalChannel != null) {
+                journalChannel.force(false);
+                journalChannel.close();
+                journalChannel = null;
+            }
+            hasUnsyncedRecords = false;
+        }
+    }
+
+    //// saving
+
+    private synchronized void appendChanges(ReadOnlyAddressBook addressBook) throws IOException {
+        if (!recordSnapshotChanges(addressBook)) {
+            track(addressBook);
+        }
+
+        List<JsonAdaptedJournalRecord> records = collectChangeRecords(nextTimestamp());
+        if (!records.isEmpty()) {
+            appendToJournal(records);
+            applyChangesToPersisted();
+        }
+        recordSave(addressBook);
+
+        if (journalRecordCount >= journalSettings.getCompactionThreshold()) {
+            scheduleCompaction();
+        }
+    }
+
+    /**
+     * Records the changes carried by {@code addressBook} if it is an {@code AddressBookSnapshot} whose changes are
+     * based on the snapshot saved last, so that its contents need not be compared against what has been persisted.
+     *
+     * @return false if {@code addressBook} has to be tracked instead.
+     * @throws IOException if {@code addressBook} is a snapshot that neither can be tracked nor has usable changes.
+     */
+    private boolean recordSnapshotChanges(ReadOnlyAddressBook addressBook) throws IOException {
+        if (!(addressBook instanceof AddressBookSnapshot)) {
+            return false;
+        }
+        AddressBookSnapshot snapshot = (AddressBookSnapshot) addressBook;
+        Optional<AddressBookSnapshot.Changes> changes = snapshot.getChanges()
+                .filter(snapshotChanges -> snapshot.getSource() == lastSavedSource
+                        && snapshotChanges.getBaseVersion() == lastSavedVersion);
+        if (!changes.isPresent()) {
+            if (!snapshot.hasContents()) {
+                throw new IOException("Changes to the address book are not based on what was last saved");
+            }
+            return false;
+        }
+
+        untrack();
+        changes.get().getPatientChanges().forEach(change -> changedPatients.put(change.getRecord().getNric(),
+                change.isAdded() ? change.getRecord() : null));
+        changes.get().getAppointmentChanges().forEach(change ->
+                changedAppointments.put(AppointmentKey.of(change.getRecord()),
+                        change.isAdded() ? change.getRecord() : null));
+        return true;
+    }
+
+    private void recordSave(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBookSnapshot) {
+            lastSavedSource = ((AddressBookSnapshot) addressBook).getSource();
+            lastSavedVersion = addressBook.getModificationVersion();
+        } else {
+            lastSavedSource = null;
+        }
+    }
+
+    /**
+     * Starts listening for changes to {@code addressBook}, if it is not already being tracked.
+     * The first time an address book is tracked, all of its contents are compared against what has been persisted.
+     */
+    private void track(ReadOnlyAddressBook addressBook) {
+        if (addressBook == trackedAddressBook) {
+            return;
+        }
+        untrack();
+
+        persistedPatients.keySet().forEach(nric -> changedPatients.put(nric, null));
+        persistedAppointments.keySet().forEach(key -> changedAppointments.put(key, null));
+        addressBook.getPatientList().forEach(patient -> changedPatients.put(patient.getNric(), patient));
+        addressBook.getAppointmentList().forEach(appointment ->
+                changedAppointments.put(AppointmentKey.of(appointment), appointment));
+
+        addressBook.getPatientList().addListener(patientChangeListener);
+        addressBook.getAppointmentList().addListener(appointmentChangeListener);
+        trackedAddressBook = addressBook;
+    }
+
+    private void untrack() {
+        if (trackedAddressBook != null) {
+            trackedAddressBook.getPatientList().removeListener(patientChangeListener);
+            trackedAddressBook.getAppointmentList().removeListener(appointmentChangeListener);
+            trackedAddressBook = null;
+        }
+        changedPatients.clear();
+        changedAppointments.clear();
+    }
+
+    private synchronized void recordPatientChanges(ListChangeListener.Change<? extends Patient> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(patient -> changedPatients.put(patient.getNric(), null));
+            change.getAddedSubList().forEach(patient -> changedPatients.put(patient.getNric(), patient));
+        }
+    }
+
+    private synchronized void recordAppointmentChanges(ListChangeListener.Change<? extends Appointment> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(appointment ->
+                    changedAppointments.put(AppointmentKey.of(appointment), null));
+            change.getAddedSubList().forEach(appointment ->
+                    changedAppointments.put(AppointmentKey.of(appointment), appointment));
+        }
+    }
+
+    /**
+     * Returns the events that bring the persisted contents up to date with the tracked address book, all saved at
+     * {@code timestamp}.
+     * Removals come before additions so that every record can be applied on its own when replayed.
+     */
+    private List<JsonAdaptedJournalRecord> collectChangeRecords(long timestamp) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        changedAppointments.forEach((key, appointment) -> {
+            if (appointment == null && persistedAppointments.containsKey(key)) {
+                records.add(JsonAdaptedJournalRecord.appointmentDeleted(persistedAppointments.get(key), timestamp));
+            }
+        });
+        changedPatients.forEach((nric, patient) -> {
+            if (patient == null && persistedPatients.containsKey(nric)) {
+                records.add(JsonAdaptedJournalRecord.patientDeleted(nric, timestamp));
+            }
+        });
+        changedPatients.forEach((nric, patient) -> {
+            Patient persisted = persistedPatients.get(nric);
+            if (patient != null && !patient.equals(persisted)) {
+                records.add(JsonAdaptedJournalRecord.patientSaved(persisted, patient, timestamp));
+            }
+        });
+        changedAppointments.forEach((key, appointment) -> {
+            Appointment persisted = persistedAppointments.get(key);
+            if (appointment != null && !appointment.equals(persisted)) {
+                records.add(JsonAdaptedJournalRecord.appointmentSaved(persisted, appointment, timestamp));
+            }
+        });
+        return records;
+    }
+
+    /**
+     * Returns the time to record the next events at, which is never earlier than the events already recorded.
+     */
+    private long nextTimestamp() {
+        lastTimestamp = Math.max(lastTimestamp, clock.millis());
+        return lastTimestamp;
+    }
+
+    private void applyChangesToPersisted() {
+        changedPatients.forEach((nric, patient) -> {
+            if (patient == null) {
+                persistedPatients.remove(nric);
+            } else {
+                persistedPatients.put(nric, patient);
+            }
+        });
+        changedAppointments.forEach((key, appointment) -> {
+            if (appointment == null) {
+                persistedAppointments.remove(key);
+            } else {
+                persistedAppointments.put(key, appointment);
+            }
+        });
+        changedPatients.clear();
+        changedAppointments.clear();
+    }
+
+    /**
+     * Appends {@code records} to the journal with a single write, so that all the changes of a save are committed
+     * together. If the write fails, the journal is truncated back to its previous length.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            builder.append(JsonUtil.toCompactJsonString(record)).append((char) RECORD_SEPARATOR);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(builder.toString().getBytes(CHARSET));
+
+        FileChannel channel = openJournal();
+        long lengthBeforeWrite = channel.size();
+        try {
+            writeFully(channel, buffer);
+            if (journalSettings.getSyncPolicy() == SyncPolicy.ALWAYS) {
+                channel.force(false);
+            } else {
+                hasUnsyncedRecords = true;
+            }
+        } catch (IOException ioe) {
+            try {
+                channel.truncate(lengthBeforeWrite);
+            } catch (IOException truncateException) {
+                ioe.addSuppressed(truncateException);
+            }
+            throw ioe;
+        }
+        journalRecordCount += records.size();
+    }
+
+    private FileChannel openJournal() throws IOException {
+        if (journalChannel == null) {
+            FileUtil.createParentDirsOfFile(journalFilePath);
+            journalChannel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return journalChannel;
+    }
+
+    private synchronized void syncJournal() {
+        if (!hasUnsyncedRecords || journalChannel == null) {
+            return;
+        }
+        try {
+            journalChannel.force(false);
+            hasUnsyncedRecords = false;
+        } catch (IOException ioe) {
+            logger.warning("Failed to sync journal " + journalFilePath + ": " + StringUtil.getDetails(ioe));
+        }
+    }
+
+    //// compaction
+
+    private void scheduleCompaction() {
+        if (isCompactionScheduled) {
+            return;
+        }
+        isCompactionScheduled = true;
+        backgroundExecutor.execute(() -> {
+            try {
+                compact();
+            } catch (IOException ioe) {
+                logger.warning("Failed to compact journal " + journalFilePath + ": " + StringUtil.getDetails(ioe));
+            } finally {
+                synchronized (this) {
+                    isCompactionScheduled = false;
+                }
+            }
+        });
+    }
+
+    /**
+     * Writes the persisted contents into a new snapshot, and discards the journal records it covers or moves them
+     * into the history together with a copy of the snapshot.
+     * Saves can continue while the snapshot is being written, as they are appended to a fresh journal.
+     */
+    void compact() throws IOException {
+        List<JsonAdaptedPatient> patients;
+        List<JsonAdaptedAppointment> appointments;
+        long timestamp;
+        synchronized (this) {
+            patients = persistedPatients.values().stream()
+                    .map(JsonAdaptedPatient::new).collect(Collectors.toList());
+            appointments = persistedAppointments.values().stream()
+                    .map(JsonAdaptedAppointment::new).collect(Collectors.toList());
+            timestamp = nextTimestamp();
+            rotateJournal();
+        }
+
+        synchronized (historyLock) {
+            if (journalSettings.isHistoryKept()) {
+                archiveFirstSnapshot();
+            }
+            snapshotStorage.saveSerializedAddressBook(new JsonSerializableAddressBook(patients, appointments),
+                    filePath);
+            FileUtil.writeToFile(compactionTimeFilePath, Long.toString(timestamp));
+            if (journalSettings.isHistoryKept()) {
+                archive(timestamp);
+            } else {
+                Files.deleteIfExists(compactingJournalFilePath);
+            }
+        }
+        logger.fine("Compacted journal " + journalFilePath + " into " + filePath);
+    }
+
+    /**
+     * Moves the records in the journal aside, to be discarded once the new snapshot has been written.
+     */
+    private void rotateJournal() throws IOException {
+        if (journalChannel != null) {
+            journalChannel.close();
+            journalChannel = null;
+        }
+        hasUnsyncedRecords = false;
+        journalRecordCount = 0;
+
+        if (!Files.exists(journalFilePath)) {
+            return;
+        }
+        if (Files.exists(compactingJournalFilePath)) {
+            // An earlier compaction did not complete, so its records are kept ahead of the newer ones
+            Files.write(compactingJournalFilePath, Files.readAllBytes(journalFilePath), StandardOpenOption.APPEND);
+            Files.delete(journalFilePath);
+        } else {
+            Files.move(journalFilePath, compactingJournalFilePath, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    //// history
+
+    /**
+     * Copies the current snapshot, or an empty one if there is none, into an empty history as its first snapshot,
+     * so that the events in the journals archived after it have a starting point.
+     */
+    private void archiveFirstSnapshot() throws IOException {
+        if (!listHistory(SNAPSHOT_FILE_EXTENSION).isEmpty()) {
+            return;
+        }
+
+        long firstSnapshotTimestamp = Math.max(0, getSnapshotTimestamp());
+        Path firstSnapshotPath = historyFolderPath.resolve(firstSnapshotTimestamp + SNAPSHOT_FILE_EXTENSION);
+        Files.createDirectories(historyFolderPath);
+        if (Files.exists(filePath)) {
+            copySnapshot(filePath, firstSnapshotPath);
+        } else {
+            snapshotStorage.saveSerializedAddressBook(new JsonSerializableAddressBook(new AddressBook()),
+                    firstSnapshotPath);
+        }
+    }
+
+    /**
+     * Moves the compacted journal into the history, followed by a copy of the snapshot it was compacted into, both
+     * named after {@code timestamp}. The journal is moved first, so that it is never lost if the copy fails.
+     * Drops the oldest snapshots beyond the limit in {@link JournalSettings}, and the journals before them.
+     */
+    private void archive(long timestamp) throws IOException {
+        Files.createDirectories(historyFolderPath);
+        if (Files.exists(compactingJournalFilePath)) {
+            Files.move(compactingJournalFilePath, historyFolderPath.resolve(timestamp + JOURNAL_FILE_SUFFIX),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+        copySnapshot(filePath, historyFolderPath.resolve(timestamp + SNAPSHOT_FILE_EXTENSION));
+
+        NavigableMap<Long, Path> snapshots = listHistory(SNAPSHOT_FILE_EXTENSION);
+        while (snapshots.size() > journalSettings.getHistorySnapshotLimit()) {
+            Path oldestSnapshot = snapshots.pollFirstEntry().getValue();
+            Files.delete(oldestSnapshot);
+            Files.deleteIfExists(JsonAdaptedSnapshotChecksum.getChecksumFilePath(oldestSnapshot));
+        }
+        for (Path segment : listHistory(JOURNAL_FILE_SUFFIX).headMap(snapshots.firstKey(), true).values()) {
+            Files.delete(segment);
+        }
+    }
+
+    /**
+     * Copies the snapshot at {@code source} to {@code target}, together with its checksum if it has one, so that
+     * the copy is also read without validation.
+     */
+    private static void copySnapshot(Path source, Path target) throws IOException {
+        Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        Path checksumFilePath = JsonAdaptedSnapshotChecksum.getChecksumFilePath(source);
+        if (Files.exists(checksumFilePath)) {
+            Files.copy(checksumFilePath, JsonAdaptedSnapshotChecksum.getChecksumFilePath(target),
+                    StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(JsonAdaptedSnapshotChecksum.getChecksumFilePath(target));
+        }
+    }
+
+    /**
+     * Returns the time of the compaction that wrote the current snapshot, or the time the snapshot was last written
+     * if it was not written by a compaction, such as one written before the journal was enabled.
+     * Returns {@code Long.MIN_VALUE} if there is no snapshot, as the journal then starts from an empty address book.
+     */
+    private long getSnapshotTimestamp() throws IOException {
+        if (!Files.exists(filePath)) {
+            return Long.MIN_VALUE;
+        }
+        long snapshotModifiedTime = Files.getLastModifiedTime(filePath).toMillis();
+        // The time is recorded after the snapshot is written, so a snapshot written later replaced it since
+        if (Files.exists(compactionTimeFilePath)
+                && Files.getLastModifiedTime(compactionTimeFilePath).toMillis() >= snapshotModifiedTime) {
+            try {
+                return Long.parseLong(FileUtil.readFromFile(compactionTimeFilePath).trim());
+            } catch (NumberFormatException nfe) {
+                logger.warning("Ignoring unreadable compaction time in " + compactionTimeFilePath);
+            }
+        }
+        return snapshotModifiedTime;
+    }
+
+    /**
+     * Returns the files in the history folder with {@code extension}, by the time in their names.
+     */
+    private NavigableMap<Long, Path> listHistory(String extension) throws IOException {
+        NavigableMap<Long, Path> files = new TreeMap<>();
+        if (!Files.isDirectory(historyFolderPath)) {
+            return files;
+        }
+
+        try (DirectoryStream<Path> historyFiles = Files.newDirectoryStream(historyFolderPath, "*" + extension)) {
+            for (Path historyFile : historyFiles) {
+                String fileName = historyFile.getFileName().toString();
+                String timestamp = fileName.substring(0, fileName.length() - extension.length());
+                try {
+                    files.put(Long.parseLong(timestamp), historyFile);
+                } catch (NumberFormatException nfe) {
+                    logger.warning("Ignoring unexpected file in " + historyFolderPath + ": " + fileName);
+                }
+            }
+        }
+        return files;
+    }
+
+    //// reading
+
+    private synchronized Optional<ReadOnlyAddressBook> replay() throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        boolean hasCompactingJournal = Files.exists(compactingJournalFilePath);
+        if (!snapshot.isPresent() && !hasCompactingJournal && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = snapshot.map(AddressBook::new).orElseGet(AddressBook::new);
+        // If the snapshot was written but the compacting journal not yet deleted, replaying it again ends at the
+        // same contents, but some of the intermediate records may no longer apply on their own.
+        int recordCount = replayJournal(addressBook, compactingJournalFilePath, true)
+                + replayJournal(addressBook, journalFilePath, false);
+        logger.info("Replayed " + recordCount + " journal records on top of " + filePath);
+
+        untrack();
+        lastSavedSource = null;
+        persistedPatients.clear();
+        persistedAppointments.clear();
+        addressBook.getPatientList().forEach(patient -> persistedPatients.put(patient.getNric(), patient));
+        addressBook.getAppointmentList().forEach(appointment ->
+                persistedAppointments.put(AppointmentKey.of(appointment), appointment));
+        journalRecordCount = recordCount;
+        try {
+            NavigableMap<Long, Path> snapshots = listHistory(SNAPSHOT_FILE_EXTENSION);
+            if (!snapshots.isEmpty()) {
+                lastTimestamp = Math.max(lastTimestamp, snapshots.lastKey());
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + historyFolderPath + ": " + ioe);
+        }
+
+        if (hasCompactingJournal || journalRecordCount >= journalSettings.getCompactionThreshold()) {
+            scheduleCompaction();
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalFilePath} to {@code addressBook}, and returns the
+     * number of records applied. An incomplete record at the end of the journal, left by an interrupted write,
+     * is discarded.
+     *
+     * @param isLenient whether records that no longer apply to {@code addressBook} are skipped.
+     */
+    private int replayJournal(AddressBook addressBook, Path journalFilePath, boolean isLenient)
+            throws DataLoadingException {
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+
+        try {
+            byte[] journal = Files.readAllBytes(journalFilePath);
+            int recordCount = 0;
+            int recordStart = 0;
+            for (int i = 0; i < journal.length; i++) {
+                if (journal[i] != RECORD_SEPARATOR) {
+                    continue;
+                }
+                String record = new String(journal, recordStart, i - recordStart, CHARSET);
+                JsonAdaptedJournalRecord journalRecord = JsonUtil.fromJsonString(record,
+                        JsonAdaptedJournalRecord.class);
+                applyRecord(addressBook, journalRecord, record, isLenient);
+                lastTimestamp = Math.max(lastTimestamp, journalRecord.getTimestamp());
+                recordCount++;
+                recordStart = i + 1;
+            }
+
+            if (recordStart < journal.length) {
+                logger.warning("Discarding incomplete record at the end of journal " + journalFilePath);
+                try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.WRITE)) {
+                    channel.truncate(recordStart);
+                }
+            }
+            return recordCount;
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalFilePath} that were saved no later than {@code until} to
+     * {@code addressBook}, skipping those that no longer apply.
+     * Unlike {@link #replayJournal(AddressBook, Path, boolean)}, the journal is left as it is, as it may still be
+     * written to.
+     *
+     * @return false if the journal has records saved after {@code until}.
+     */
+    private boolean replayJournalUntil(AddressBook addressBook, Path journalFilePath, long until)
+            throws DataLoadingException {
+        if (!Files.exists(journalFilePath)) {
+            return true;
+        }
+
+        try {
+            byte[] journal = Files.readAllBytes(journalFilePath);
+            int recordStart = 0;
+            for (int i = 0; i < journal.length; i++) {
+                if (journal[i] != RECORD_SEPARATOR) {
+                    continue;
+                }
+                String record = new String(journal, recordStart, i - recordStart, CHARSET);
+                JsonAdaptedJournalRecord journalRecord = JsonUtil.fromJsonString(record,
+                        JsonAdaptedJournalRecord.class);
+                if (journalRecord.getTimestamp() > until) {
+                    return false;
+                }
+                applyRecord(addressBook, journalRecord, record, true);
+                recordStart = i + 1;
+            }
+            return true;
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private void applyRecord(AddressBook addressBook, JsonAdaptedJournalRecord journalRecord, String record,
+                             boolean isLenient) throws IllegalValueException, DataLoadingException {
+        try {
+            journalRecord.applyTo(addressBook);
+        } catch (DuplicatePatientException | PatientNotFoundException | PatientDobAfterApptDateException
+                | DuplicateAppointmentException | OverlappingAppointmentException e) {
+            if (!isLenient) {
+                logger.info("Journal record could not be applied: " + record);
+                throw new DataLoadingException(e);
+            }
+            logger.fine("Skipping journal record already covered by the snapshot: " + record);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
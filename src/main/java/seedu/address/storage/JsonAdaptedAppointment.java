@@ -75,25 +75,19 @@ public class JsonAdaptedAppointment {
             throw new IllegalValueException(String.format(
                     MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName()));
         }
-        if (!Date.isValidDate(date)) {
-            throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
-        }
-        final Date modelDate = new Date(date);
+        final Date modelDate = Date.parse(date)
+                .orElseThrow(() -> new IllegalValueException(Date.MESSAGE_CONSTRAINTS));
         if (startTime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Time.class.getSimpleName()));
         }
-        if (!Time.isValidTime(startTime)) {
-            throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
-        }
-        final Time modelStartTime = new Time(startTime);
+        final Time modelStartTime = Time.parse(startTime)
+                .orElseThrow(() -> new IllegalValueException(Time.MESSAGE_CONSTRAINTS));
 
         if (endTime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Time.class.getSimpleName()));
         }
-        if (!Time.isValidTime(endTime)) {
-            throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
-        }
-        final Time modelEndTime = new Time(endTime);
+        final Time modelEndTime = Time.parse(endTime)
+                .orElseThrow(() -> new IllegalValueException(Time.MESSAGE_CONSTRAINTS));
 
         if (!TimePeriod.isValidTimePeriod(modelStartTime, modelEndTime)) {
             throw new IllegalValueException(TimePeriod.MESSAGE_CONSTRAINTS);
@@ -134,4 +128,16 @@ public class JsonAdaptedAppointment {
 
         return newAppt;
     }
+
+    /**
+     * Converts this Jackson-friendly adapted appointment object into the model's {@code Appointment} object,
+     * without validating its values again.
+     * Only for data that this application wrote and that has not changed since, such as a verified snapshot.
+     */
+    public Appointment toTrustedModelType() {
+        return new Appointment(Nric.ofTrusted(nric), Date.ofTrusted(date),
+                TimePeriod.ofTrusted(Time.ofTrusted(startTime), Time.ofTrusted(endTime)),
+                AppointmentType.ofTrusted(appointmentType), Note.ofTrusted(note),
+                new Mark(Boolean.parseBoolean(isMarked)));
+    }
 }
@@ -0,0 +1,208 @@
+package seedu.address.storage;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.patient.Nric;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Jackson-friendly version of a single domain event recorded in the address book journal, such as a patient being
+ * added or an appointment being marked, together with the time at which it was saved.
+ * Applying a record leaves the same result no matter how many times it is applied.
+ * Appointments are identified by their {@code AppointmentKey}, as in the address book.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_INVALID_TYPE = "Journal record has an unknown type";
+
+    /**
+     * Kinds of events that can be recorded in the journal.
+     */
+    enum Type {
+        PATIENT_ADDED, PATIENT_EDITED, PATIENT_DELETED,
+        APPOINTMENT_ADDED, APPOINTMENT_EDITED, APPOINTMENT_MARKED, APPOINTMENT_UNMARKED, APPOINTMENT_DELETED
+    }
+
+    private final String type;
+    private final Long timestamp;
+    private final JsonAdaptedPatient patient;
+    private final String nric;
+    private final JsonAdaptedAppointment appointment;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("type") String type,
+                                    @JsonProperty("timestamp") Long timestamp,
+                                    @JsonProperty("patient") JsonAdaptedPatient patient,
+                                    @JsonProperty("nric") String nric,
+                                    @JsonProperty("appointment") JsonAdaptedAppointment appointment) {
+        this.type = type;
+        this.timestamp = timestamp;
+        this.patient = patient;
+        this.nric = nric;
+        this.appointment = appointment;
+    }
+
+    /**
+     * Returns a record that {@code patient} was added, or replaced {@code previous} if it is not null.
+     *
+     * @param timestamp milliseconds since the epoch at which the change was saved.
+     */
+    public static JsonAdaptedJournalRecord patientSaved(Patient previous, Patient patient, long timestamp) {
+        Type type = previous == null ? Type.PATIENT_ADDED : Type.PATIENT_EDITED;
+        return new JsonAdaptedJournalRecord(type.name(), timestamp, new JsonAdaptedPatient(patient), null, null);
+    }
+
+    /**
+     * Returns a record that the patient with {@code nric} was deleted.
+     *
+     * @param timestamp milliseconds since the epoch at which the change was saved.
+     */
+    public static JsonAdaptedJournalRecord patientDeleted(Nric nric, long timestamp) {
+        return new JsonAdaptedJournalRecord(Type.PATIENT_DELETED.name(), timestamp, null, nric.value, null);
+    }
+
+    /**
+     * Returns a record that {@code appointment} was added, or replaced {@code previous} if it is not null.
+     * A replacement that only changes the mark of the appointment is recorded as the appointment being marked
+     * or unmarked.
+     *
+     * @param timestamp milliseconds since the epoch at which the change was saved.
+     */
+    public static JsonAdaptedJournalRecord appointmentSaved(Appointment previous, Appointment appointment,
+                                                            long timestamp) {
+        Type type;
+        if (previous == null) {
+            type = Type.APPOINTMENT_ADDED;
+        } else if (isOnlyMarkChanged(previous, appointment)) {
+            type = appointment.getMark().isMarked ? Type.APPOINTMENT_MARKED : Type.APPOINTMENT_UNMARKED;
+        } else {
+            type = Type.APPOINTMENT_EDITED;
+        }
+        return new JsonAdaptedJournalRecord(type.name(), timestamp, null, null,
+                new JsonAdaptedAppointment(appointment));
+    }
+
+    /**
+     * Returns a record that the appointment that is the same as {@code appointment} was deleted.
+     *
+     * @param timestamp milliseconds since the epoch at which the change was saved.
+     */
+    public static JsonAdaptedJournalRecord appointmentDeleted(Appointment appointment, long timestamp) {
+        return new JsonAdaptedJournalRecord(Type.APPOINTMENT_DELETED.name(), timestamp, null, null,
+                new JsonAdaptedAppointment(appointment));
+    }
+
+    /**
+     * Returns the milliseconds since the epoch at which the change was saved.
+     * Records written by earlier versions have no timestamp, and are treated as saved at the epoch.
+     */
+    public long getTimestamp() {
+        return timestamp == null ? 0 : timestamp;
+    }
+
+    /**
+     * Applies the change in this record to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        switch (toType()) {
+        case PATIENT_ADDED:
+        case PATIENT_EDITED:
+            applyPutPatient(addressBook, requirePresent(patient, Patient.class).toModelType());
+            break;
+        case PATIENT_DELETED:
+            applyDeletePatient(addressBook, toModelNric());
+            break;
+        case APPOINTMENT_ADDED:
+        case APPOINTMENT_EDITED:
+        case APPOINTMENT_MARKED:
+        case APPOINTMENT_UNMARKED:
+            applyPutAppointment(addressBook, requirePresent(appointment, Appointment.class).toModelType());
+            break;
+        case APPOINTMENT_DELETED:
+            applyDeleteAppointment(addressBook, requirePresent(appointment, Appointment.class).toModelType());
+            break;
+        default:
+            throw new IllegalValueException(MESSAGE_INVALID_TYPE);
+        }
+    }
+
+    private Type toType() throws IllegalValueException {
+        requirePresent(type, Type.class);
+        try {
+            return Type.valueOf(type);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(MESSAGE_INVALID_TYPE);
+        }
+    }
+
+    private Nric toModelNric() throws IllegalValueException {
+        requirePresent(nric, Nric.class);
+        if (!Nric.isValidNric(nric)) {
+            throw new IllegalValueException(Nric.MESSAGE_CONSTRAINTS);
+        }
+        return new Nric(nric);
+    }
+
+    private static <T> T requirePresent(T field, Class<?> fieldClass) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldClass.getSimpleName()));
+        }
+        return field;
+    }
+
+    private static boolean isOnlyMarkChanged(Appointment previous, Appointment appointment) {
+        return !previous.getMark().equals(appointment.getMark())
+                && previous.equals(new Appointment(appointment.getNric(), appointment.getDate(),
+                        appointment.getTimePeriod(), appointment.getAppointmentType(), appointment.getNote(),
+                        previous.getMark()));
+    }
+
+    private static void applyPutPatient(AddressBook addressBook, Patient patient) {
+        if (addressBook.hasPatientWithNric(patient.getNric())) {
+            addressBook.setPatient(addressBook.getPatientWithNric(patient.getNric()), patient);
+        } else {
+            addressBook.addPatient(patient);
+        }
+    }
+
+    private static void applyDeletePatient(AddressBook addressBook, Nric nric) {
+        if (addressBook.hasPatientWithNric(nric)) {
+            addressBook.deletePatientWithNric(nric);
+        }
+    }
+
+    /**
+     * Adds {@code appointment}, or replaces the appointment with the same {@code AppointmentKey}.
+     */
+    private static void applyPutAppointment(AddressBook addressBook, Appointment appointment) {
+        Optional<Appointment> existing = addressBook
+                .findMatchingAppointment(appointment.getNric(), appointment.getDate(), appointment.getStartTime());
+        if (existing.isPresent()) {
+            addressBook.setAppointment(existing.get(), appointment);
+        } else {
+            addressBook.addAppointment(appointment);
+        }
+    }
+
+    /**
+     * Deletes the appointment with the same {@code AppointmentKey} as {@code appointment}, if there is one.
+     */
+    private static void applyDeleteAppointment(AddressBook addressBook, Appointment appointment) {
+        addressBook.findMatchingAppointment(appointment.getNric(), appointment.getDate(), appointment.getStartTime())
+                .ifPresent(addressBook::deleteAppointment);
+    }
+}
@@ -133,4 +133,18 @@ class JsonAdaptedPatient {
         return new Patient(modelName, modelNric, modelDob, modelPhone, modelEmail, modelAddress, modelTags);
     }
 
+    /**
+     * Converts this Jackson-friendly adapted patient object into the model's {@code Patient} object, without
+     * validating its values again.
+     * Only for data that this application wrote and that has not changed since, such as a verified snapshot.
+     */
+    public Patient toTrustedModelType() {
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(Tag.ofTrusted(tag.getTagName()));
+        }
+        return new Patient(Name.ofTrusted(name), Nric.ofTrusted(nric), DateOfBirth.ofTrusted(dob),
+                Phone.ofTrusted(phone), Email.ofTrusted(email), Address.ofTrusted(address), modelTags);
+    }
+
 }
@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Jackson-friendly record of the schema version, length and CRC32C of a json snapshot, kept in a file next to it.
+ * A snapshot whose record still matches was written by this application and has not changed since, so it can be
+ * loaded without re-validating every record.
+ */
+class JsonAdaptedSnapshotChecksum {
+
+    public static final String CHECKSUM_FILE_SUFFIX = ".checksum";
+
+    /**
+     * Version of the snapshot contents that the trusted loader understands.
+     * Increase this whenever the adapted classes or the constraints of the model change, so that snapshots written
+     * under the old rules are validated again.
+     */
+    static final int SCHEMA_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedSnapshotChecksum.class);
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final int schemaVersion;
+    private final long length;
+    private final String crc32c;
+
+    /**
+     * Constructs a {@code JsonAdaptedSnapshotChecksum} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedSnapshotChecksum(@JsonProperty("schemaVersion") int schemaVersion,
+                                       @JsonProperty("length") long length,
+                                       @JsonProperty("crc32c") String crc32c) {
+        this.schemaVersion = schemaVersion;
+        this.length = length;
+        this.crc32c = crc32c;
+    }
+
+    /**
+     * Returns a new {@code Checksum} of the kind recorded by this class.
+     */
+    static Checksum newChecksum() {
+        return new CRC32C();
+    }
+
+    /**
+     * Records {@code checksum} as the checksum of the snapshot at {@code snapshotFilePath}, under the current
+     * schema version.
+     */
+    static void write(Path snapshotFilePath, Checksum checksum) throws IOException {
+        requireNonNull(snapshotFilePath);
+        requireNonNull(checksum);
+
+        JsonAdaptedSnapshotChecksum record = new JsonAdaptedSnapshotChecksum(SCHEMA_VERSION,
+                Files.size(snapshotFilePath), toHex(checksum.getValue()));
+        JsonUtil.saveJsonFile(record, getChecksumFilePath(snapshotFilePath), true);
+    }
+
+    /**
+     * Returns the checksum recorded for the snapshot at {@code snapshotFilePath}, if it was recorded under the
+     * current schema version and the snapshot is still of the recorded length.
+     * The snapshot itself is not read, so that it can be checked with {@link #matches(Checksum)} as it is loaded.
+     * Returns an empty {@code Optional} if there is no such record, or it cannot be read.
+     */
+    static Optional<JsonAdaptedSnapshotChecksum> readRecord(Path snapshotFilePath) {
+        requireNonNull(snapshotFilePath);
+
+        Optional<JsonAdaptedSnapshotChecksum> record;
+        try {
+            record = JsonUtil.readJsonFile(getChecksumFilePath(snapshotFilePath), JsonAdaptedSnapshotChecksum.class);
+        } catch (DataLoadingException dle) {
+            logger.warning("Ignoring unreadable checksum of " + snapshotFilePath + ": " + dle.getMessage());
+            return Optional.empty();
+        }
+        if (!record.isPresent() || record.get().schemaVersion != SCHEMA_VERSION) {
+            return Optional.empty();
+        }
+
+        try {
+            // Checking the length first avoids reading a snapshot that has obviously changed
+            return Files.size(snapshotFilePath) == record.get().length ? record : Optional.empty();
+        } catch (IOException ioe) {
+            logger.warning("Could not verify the checksum of " + snapshotFilePath + ": " + ioe);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns true if the snapshot at {@code snapshotFilePath} still matches its recorded checksum, and was written
+     * under the current schema version.
+     * Returns false if there is no record, or it cannot be read.
+     */
+    static boolean isVerified(Path snapshotFilePath) {
+        Optional<JsonAdaptedSnapshotChecksum> record = readRecord(snapshotFilePath);
+        if (!record.isPresent()) {
+            return false;
+        }
+
+        try {
+            return record.get().matches(computeChecksum(snapshotFilePath));
+        } catch (IOException ioe) {
+            logger.warning("Could not verify the checksum of " + snapshotFilePath + ": " + ioe);
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if {@code checksum}, computed over every byte of a snapshot, is the one recorded.
+     */
+    boolean matches(Checksum checksum) {
+        requireNonNull(checksum);
+        return toHex(checksum.getValue()).equals(crc32c);
+    }
+
+    static Path getChecksumFilePath(Path snapshotFilePath) {
+        return snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + CHECKSUM_FILE_SUFFIX);
+    }
+
+    private static Checksum computeChecksum(Path filePath) throws IOException {
+        Checksum checksum = newChecksum();
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            int bytesRead;
+            while ((bytesRead = inputStream.read(buffer)) != -1) {
+                checksum.update(buffer, 0, bytesRead);
+            }
+        }
+        return checksum;
+    }
+
+    private static String toHex(long checksumValue) {
+        return String.format("%08x", checksumValue);
+    }
+}
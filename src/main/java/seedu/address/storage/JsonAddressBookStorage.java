@@ -3,34 +3,82 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Checksum;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * A file that still matches the checksum recorded when it was saved is loaded without validating its records.
+ * Files compressed with gzip are detected by their first bytes and decompressed as they are read.
+ * Binary snapshots and SQL databases are also detected by their first bytes, and read in their own format.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final int GZIP_SIZE_TRAILER_LENGTH = 4;
+
     private Path filePath;
+    private final boolean isCompact;
+    private final boolean isCompressed;
+    private ProgressListener progressListener = (recordsRead, bytesRead, totalBytes) ->
+            logger.fine("Read " + recordsRead + " records (" + bytesRead + "/" + totalBytes + " bytes)");
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isCompact whether the file is written without pretty-printing, which makes it smaller and faster
+     *     to write.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isCompressed whether the file is compressed with gzip as it is written, in which case it is always
+     *     written compactly.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean isCompressed) {
         this.filePath = filePath;
+        this.isCompact = isCompact || isCompressed;
+        this.isCompressed = isCompressed;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    /**
+     * Sets the listener that is told how far along the file each read is.
+     */
+    public void setProgressListener(ProgressListener progressListener) {
+        requireNonNull(progressListener);
+        this.progressListener = progressListener;
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -38,6 +86,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * A binary snapshot at {@code filePath} is read as a binary snapshot.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,20 +94,93 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        if (isBinarySnapshot(filePath)) {
+            return new BinaryAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+        if (isSqlDatabase(filePath)) {
+            return new SqlAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        Optional<JsonAdaptedSnapshotChecksum> checksumRecord = JsonAdaptedSnapshotChecksum.readRecord(filePath);
+        if (checksumRecord.isPresent()) {
+            try {
+                // The file is verified in the same pass as it is loaded, and only trusted if it matches
+                Checksum checksum = JsonAdaptedSnapshotChecksum.newChecksum();
+                AddressBook addressBook = read(filePath, checksum);
+                if (checksumRecord.get().matches(checksum)) {
+                    return Optional.of(addressBook);
+                }
+                logger.warning("Snapshot " + filePath + " does not match its checksum, validating it instead");
+            } catch (IOException | IllegalValueException | RuntimeException e) {
+                // The checks skipped by the trusted path are the ones that would have reported this
+                logger.warning("Verified snapshot " + filePath + " could not be loaded, validating it instead: " + e);
+            }
+        }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(read(filePath, null));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Reads the address book at {@code filePath}.
+     * Records are converted as they are read, so the whole document is never held in memory.
+     *
+     * @param checksum the checksum to update with every byte of the file, or null if the records are to be
+     *     validated. If given, the records are not validated, and the address book must only be used if the
+     *     checksum matches the one recorded for the file once it is read.
+     */
+    private AddressBook read(Path filePath, Checksum checksum) throws IOException, IllegalValueException {
+        long totalBytes = FileUtil.isGzipFile(filePath) ? getUncompressedSize(filePath) : Files.size(filePath);
+        boolean isTrusting = checksum != null;
+        InputStream rawStream = isTrusting
+                ? new WholeCheckedInputStream(Files.newInputStream(filePath), checksum)
+                : Files.newInputStream(filePath);
+        try (InputStream inputStream = FileUtil.newDecompressingInputStream(rawStream)) {
+            return new JsonAddressBookStreamReader(progressListener, isTrusting).read(inputStream, totalBytes);
+        }
+    }
+
+    /**
+     * Returns the size of the data in the gzip file at {@code filePath} once decompressed, as recorded at the end
+     * of the file modulo 2^32, so that progress can be reported against it.
+     */
+    private static long getUncompressedSize(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath)) {
+            ByteBuffer trailer = ByteBuffer.allocate(GZIP_SIZE_TRAILER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(trailer, Math.max(0, channel.size() - GZIP_SIZE_TRAILER_LENGTH));
+            return trailer.position() < GZIP_SIZE_TRAILER_LENGTH ? 0 : Integer.toUnsignedLong(trailer.getInt(0));
+        }
+    }
+
+    private static boolean isBinarySnapshot(Path filePath) throws DataLoadingException {
+        try {
+            return BinaryAddressBookStorage.isBinarySnapshot(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    private static boolean isSqlDatabase(Path filePath) throws DataLoadingException {
+        try {
+            return SqlAddressBookStorage.isSqlDatabase(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -66,6 +188,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The checksum of the file is recorded next to it, so that the next read can skip validating it.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +196,63 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        saveSerializedAddressBook(new JsonSerializableAddressBook(addressBook), filePath);
+    }
+
+    /**
+     * Writes {@code addressBook}, already adapted for JSON, to {@code filePath} in the format of this storage, and
+     * records its checksum next to it, as {@link #saveAddressBook(ReadOnlyAddressBook, Path)} does.
+     * Lets storages built on this one, such as the journal, write snapshots that are read back without validation.
+     */
+    void saveSerializedAddressBook(JsonSerializableAddressBook addressBook, Path filePath) throws IOException {
+        Checksum checksum = JsonAdaptedSnapshotChecksum.newChecksum();
+        if (isCompressed) {
+            JsonUtil.saveCompressedJsonFile(addressBook, filePath, checksum);
+        } else {
+            JsonUtil.saveJsonFile(addressBook, filePath, isCompact, checksum);
+        }
+        // If this is not written, the checksum of the previous save no longer matches and the file is validated
+        JsonAdaptedSnapshotChecksum.write(filePath, checksum);
+    }
+
+    /**
+     * A stream that updates a checksum with every byte of the underlying stream, including those left unread when
+     * it is closed, so that the checksum covers the whole file however much of it the parser consumed.
+     */
+    private static class WholeCheckedInputStream extends CheckedInputStream {
+        private boolean isClosed;
+
+        WholeCheckedInputStream(InputStream in, Checksum checksum) {
+            super(in, checksum);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            try {
+                transferTo(OutputStream.nullOutputStream());
+            } finally {
+                super.close();
+            }
+        }
+    }
+
+    /**
+     * Receives the progress of reading an address book file.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called periodically while the file is being read, and once more when it has been read completely.
+         *
+         * @param recordsRead the number of patients and appointments read so far.
+         * @param bytesRead the number of bytes of the file read so far.
+         * @param totalBytes the size of the file.
+         */
+        void onProgress(int recordsRead, long bytesRead, long totalBytes);
     }
 
 }
@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.patient.Patient;
+import seedu.address.storage.JsonAddressBookStorage.ProgressListener;
+
+/**
+ * Reads an address book in the format of {@link JsonSerializableAddressBook} from a stream, converting each
+ * patient and appointment into a model object as soon as it is read.
+ * Only the model objects are kept in memory, rather than the whole document.
+ * Records are read in batches, and each batch is converted in parallel by {@link ParallelRecordConverter}.
+ */
+class JsonAddressBookStreamReader {
+
+    public static final String MESSAGE_NOT_JSON_OBJECT = "Address book data is not a JSON object";
+
+    private static final String PATIENTS_FIELD = "patients";
+    private static final String APPOINTMENTS_FIELD = "appointments";
+    private static final int PROGRESS_INTERVAL = 1000;
+    private static final int BATCH_SIZE = 4096;
+
+    private final ProgressListener progressListener;
+    private final boolean isTrusting;
+
+    /**
+     * Creates a {@code JsonAddressBookStreamReader} that validates every record, and reports its progress to
+     * {@code progressListener}.
+     */
+    public JsonAddressBookStreamReader(ProgressListener progressListener) {
+        this(progressListener, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStreamReader} that reports its progress to {@code progressListener}.
+     *
+     * @param isTrusting whether the data is known to have been written by this application, such as a verified
+     *     snapshot, so that records are converted without the checks that report which constraint is violated.
+     */
+    public JsonAddressBookStreamReader(ProgressListener progressListener, boolean isTrusting) {
+        requireNonNull(progressListener);
+        this.progressListener = progressListener;
+        this.isTrusting = isTrusting;
+    }
+
+    /**
+     * Reads an address book from {@code inputStream}.
+     *
+     * @param totalBytes the length of the data in {@code inputStream}, which is passed on to the progress listener.
+     * @throws IOException if the data is not valid JSON, or could not be read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook read(InputStream inputStream, long totalBytes) throws IOException, IllegalValueException {
+        AddressBookLoader loader = new AddressBookLoader(isTrusting);
+        ParallelRecordConverter.Conversion<JsonAdaptedPatient, Patient> patientConversion = isTrusting
+                ? JsonAdaptedPatient::toTrustedModelType
+                : JsonAdaptedPatient::toModelType;
+        ParallelRecordConverter.Conversion<JsonAdaptedAppointment, Appointment> appointmentConversion = isTrusting
+                ? JsonAdaptedAppointment::toTrustedModelType
+                : JsonAdaptedAppointment::toModelType;
+        // Appointments can only be checked against their patients once all patients have been read
+        List<Appointment> appointmentsBeforePatients = new ArrayList<>();
+        boolean hasReadPatients = false;
+        ProgressReporter progressReporter = new ProgressReporter(totalBytes);
+
+        try (JsonParser parser = JsonUtil.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_JSON_OBJECT);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (PATIENTS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    readInBatches(parser, JsonAdaptedPatient.class, patientConversion, patient -> {
+                        loader.addPatient(patient);
+                        progressReporter.recordRead(parser);
+                    });
+                    hasReadPatients = true;
+                } else if (APPOINTMENTS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    boolean canCheckAppointments = hasReadPatients;
+                    readInBatches(parser, JsonAdaptedAppointment.class, appointmentConversion,
+                        appointment -> {
+                            if (canCheckAppointments) {
+                                loader.addAppointment(appointment);
+                            } else {
+                                appointmentsBeforePatients.add(appointment);
+                            }
+                            progressReporter.recordRead(parser);
+                        });
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_JSON_OBJECT);
+            }
+
+            for (Appointment appointment : appointmentsBeforePatients) {
+                loader.addAppointment(appointment);
+            }
+            progressListener.onProgress(loader.getRecordCount(), totalBytes, totalBytes);
+        }
+        return loader.toAddressBook();
+    }
+
+    /**
+     * Reads the elements of the array that {@code parser} is at the start of, converting them in batches of
+     * {@code BATCH_SIZE} and passing the results to {@code sink} in order.
+     */
+    private static <A, M> void readInBatches(JsonParser parser, Class<A> adaptedClass,
+            ParallelRecordConverter.Conversion<A, M> conversion, ParallelRecordConverter.RecordSink<M> sink)
+            throws IOException, IllegalValueException {
+        List<A> batch = new ArrayList<>();
+        try {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(parser.readValueAs(adaptedClass));
+                if (batch.size() == BATCH_SIZE) {
+                    ParallelRecordConverter.convertInOrder(batch, conversion, sink);
+                    batch.clear();
+                }
+            }
+        } catch (IOException ioe) {
+            // Records before the unreadable one may hold an earlier error
+            ParallelRecordConverter.convertInOrder(batch, conversion, sink);
+            throw ioe;
+        }
+        ParallelRecordConverter.convertInOrder(batch, conversion, sink);
+    }
+
+    /**
+     * Counts the records read, and reports the progress every {@code PROGRESS_INTERVAL} records.
+     */
+    private class ProgressReporter {
+        private final long totalBytes;
+        private int recordCount;
+        private int nextReportedCount = PROGRESS_INTERVAL;
+
+        ProgressReporter(long totalBytes) {
+            this.totalBytes = totalBytes;
+        }
+
+        void recordRead(JsonParser parser) {
+            recordCount++;
+            if (recordCount == nextReportedCount) {
+                progressListener.onProgress(recordCount, parser.getCurrentLocation().getByteOffset(), totalBytes);
+                nextReportedCount += PROGRESS_INTERVAL;
+            }
+        }
+    }
+}
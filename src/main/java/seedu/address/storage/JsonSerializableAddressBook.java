@@ -11,8 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.appointment.Appointment;
-import seedu.address.model.patient.Patient;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -59,35 +57,16 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Records are converted in parallel, but checked against each other in their stored order.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPatient jsonAdaptedPatient : patients) {
-            Patient patient = jsonAdaptedPatient.toModelType();
-            if (addressBook.hasPatientWithNric(patient.getNric())) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PATIENT);
-            }
-            addressBook.addPatient(patient);
-        }
-        for (JsonAdaptedAppointment jsonAdaptedAppointment : appointments) {
-            Appointment appointment = jsonAdaptedAppointment.toModelType();
-            if (addressBook.hasAppointment(appointment)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_APPOINTMENT);
-            }
-            if (addressBook.samePatientHasOverlappingAppointment(appointment)) {
-                throw new IllegalValueException(MESSAGE_OVERLAPPING_APPOINTMENT);
-            }
-            if (!addressBook.hasPatientWithNric(appointment.getNric())) {
-                throw new IllegalValueException(MESSAGE_NRIC_DOES_NOT_EXIST);
-            }
-            if (!addressBook.isValidApptForPatient(appointment)) {
-                throw new IllegalValueException(MESSAGE_APPOINTMENT_BEFORE_PATIENT_DOB);
-            }
-            addressBook.addAppointment(appointment);
-        }
-        return addressBook;
+        AddressBookLoader loader = new AddressBookLoader();
+        ParallelRecordConverter.convertInOrder(patients, JsonAdaptedPatient::toModelType, loader::addPatient);
+        ParallelRecordConverter.convertInOrder(appointments, JsonAdaptedAppointment::toModelType,
+                loader::addAppointment);
+        return loader.toAddressBook();
     }
 
 }
@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * The appointments of a single month, as stored by {@link PartitionedAddressBookStorage}.
+ */
+@JsonRootName(value = "appointmentpartition")
+class JsonSerializableAppointmentPartition {
+
+    private final List<JsonAdaptedAppointment> appointments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableAppointmentPartition} with the given appointments.
+     */
+    @JsonCreator
+    public JsonSerializableAppointmentPartition(
+            @JsonProperty("appointments") List<JsonAdaptedAppointment> appointments) {
+        if (appointments != null) {
+            this.appointments.addAll(appointments);
+        }
+    }
+
+    /**
+     * Converts the given appointments into this class for Jackson use.
+     */
+    public static JsonSerializableAppointmentPartition of(List<Appointment> source) {
+        List<JsonAdaptedAppointment> appointments = new ArrayList<>();
+        source.forEach(appointment -> appointments.add(new JsonAdaptedAppointment(appointment)));
+        return new JsonSerializableAppointmentPartition(appointments);
+    }
+
+    /**
+     * Converts the stored appointments into the model's {@code Appointment} objects, in their stored order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Appointment> toModelType() throws IllegalValueException {
+        List<Appointment> modelAppointments = new ArrayList<>();
+        ParallelRecordConverter.convertInOrder(appointments, JsonAdaptedAppointment::toModelType,
+                modelAppointments::add);
+        return modelAppointments;
+    }
+}
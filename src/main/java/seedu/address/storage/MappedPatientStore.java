@@ -0,0 +1,562 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.patient.Address;
+import seedu.address.model.patient.DateOfBirth;
+import seedu.address.model.patient.Email;
+import seedu.address.model.patient.Name;
+import seedu.address.model.patient.Nric;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PatientStore;
+import seedu.address.model.patient.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A {@code PatientStore} that keeps patients in a memory-mapped file, so that only the patients in use are held on
+ * the heap.
+ *
+ * The file starts with a header, followed by an open-addressing hash table of fixed-width slots keyed by packed
+ * NRIC, followed by an append-only area of variable-length patient records that the slots point into.
+ * Each record carries a sequence number that preserves the order of the patients when the file is reopened.
+ * Records are decoded into {@code Patient} objects when they are accessed, and the most recently used ones are
+ * cached. Replaced and removed records are reclaimed when the file is rebuilt, which also happens when the hash
+ * table becomes too full.
+ *
+ * This class is not thread-safe.
+ */
+public class MappedPatientStore implements PatientStore, Closeable {
+
+    public static final String FILE_SUFFIX = ".patients";
+    public static final String MESSAGE_NOT_PATIENT_FILE = "Not a patient record file: %s";
+    public static final String MESSAGE_FILE_TOO_LARGE = "Patient record file is too large to be mapped";
+
+    static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private static final int MAGIC = 0x434C4E50; // "CLNP"
+    private static final short FORMAT_VERSION = 1;
+
+    // Header layout
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int SLOT_COUNT_OFFSET = 8;
+    private static final int RECORD_END_OFFSET = 16;
+    private static final int NEXT_SEQUENCE_OFFSET = 24;
+    private static final int HEADER_SIZE = 32;
+
+    // Slot layout
+    private static final int SLOT_KEY_OFFSET = 0;
+    private static final int SLOT_RECORD_OFFSET = 8;
+    private static final int SLOT_RECORD_LENGTH_OFFSET = 16;
+    private static final int SLOT_SIZE = 20;
+
+    private static final long EMPTY_KEY = 0;
+    private static final long DELETED_KEY = -1;
+    private static final int MIN_SLOT_COUNT = 64;
+    private static final int INITIAL_RECORD_AREA_SIZE = 64 * 1024;
+
+    private final Path filePath;
+    private final Map<Integer, Patient> cache;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int slotCount;
+    private int recordEnd;
+    private long nextSequence;
+    private int deletedSlotCount;
+    private int garbageBytes;
+    /** The slot of each patient, in the order of the patients. */
+    private int[] order = new int[0];
+    /** The position of the patient in each slot that is in use. */
+    private int[] positions = new int[0];
+    private int size;
+
+    /**
+     * Opens the patient record file at {@code filePath}, creating an empty one if it does not exist.
+     *
+     * @throws IOException if the file could not be opened, or is not a patient record file.
+     */
+    public MappedPatientStore(Path filePath) throws IOException {
+        this(filePath, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Opens the patient record file at {@code filePath}, creating an empty one if it does not exist.
+     *
+     * @param cacheSize the number of decoded patients to keep on the heap.
+     * @throws IOException if the file could not be opened, or is not a patient record file.
+     */
+    public MappedPatientStore(Path filePath, int cacheSize) throws IOException {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Patient> eldest) {
+                return size() > cacheSize;
+            }
+        };
+
+        if (FileUtil.isFileExists(filePath) && Files.size(filePath) > 0) {
+            open();
+        } else {
+            FileUtil.createParentDirsOfFile(filePath);
+            create(filePath, MIN_SLOT_COUNT, INITIAL_RECORD_AREA_SIZE);
+            open();
+        }
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Patient get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return decode(order[index]);
+    }
+
+    @Override
+    public Patient get(Nric nric) {
+        requireNonNull(nric);
+        int slot = findSlot(toKey(nric));
+        return slot == -1 ? null : decode(slot);
+    }
+
+    @Override
+    public boolean contains(Nric nric) {
+        requireNonNull(nric);
+        return findSlot(toKey(nric)) != -1;
+    }
+
+    @Override
+    public int indexOf(Nric nric) {
+        requireNonNull(nric);
+        int slot = findSlot(toKey(nric));
+        return slot == -1 ? -1 : positions[slot];
+    }
+
+    @Override
+    public void add(Patient patient) {
+        requireNonNull(patient);
+        ensureSlotAvailable();
+        int slot = insertSlot(toKey(patient.getNric()));
+        writeRecord(slot, patient, nextSequence++);
+        if (size == order.length) {
+            order = Arrays.copyOf(order, Math.max(MIN_SLOT_COUNT, size * 2));
+        }
+        order[size] = slot;
+        positions[slot] = size;
+        size++;
+        writeHeader();
+    }
+
+    @Override
+    public void set(int index, Patient patient) {
+        requireNonNull(patient);
+        long key = toKey(patient.getNric());
+        boolean isNricChanged = buffer.getLong(slotPosition(order[index]) + SLOT_KEY_OFFSET) != key;
+        if (isNricChanged) {
+            // Rebuilding moves the slots, so it has to happen before any slot is looked up
+            ensureSlotAvailable();
+        }
+
+        int oldSlot = order[index];
+        long sequence = readSequence(oldSlot);
+        garbageBytes += buffer.getInt(slotPosition(oldSlot) + SLOT_RECORD_LENGTH_OFFSET);
+        cache.remove(oldSlot);
+        int slot = oldSlot;
+        if (isNricChanged) {
+            deleteSlot(oldSlot);
+            slot = insertSlot(key);
+        }
+        writeRecord(slot, patient, sequence);
+        order[index] = slot;
+        positions[slot] = index;
+        writeHeader();
+        compactIfWasteful();
+    }
+
+    @Override
+    public void remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int slot = order[index];
+        garbageBytes += buffer.getInt(slotPosition(slot) + SLOT_RECORD_LENGTH_OFFSET);
+        deleteSlot(slot);
+        System.arraycopy(order, index + 1, order, index, size - index - 1);
+        size--;
+        for (int i = index; i < size; i++) {
+            positions[order[i]] = i;
+        }
+        writeHeader();
+        compactIfWasteful();
+    }
+
+    @Override
+    public void setAll(List<Patient> patients) {
+        requireNonNull(patients);
+        try {
+            channel.close();
+            create(filePath, slotCountFor(patients.size()), INITIAL_RECORD_AREA_SIZE);
+            open();
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+        for (Patient patient : patients) {
+            add(patient);
+        }
+    }
+
+    /**
+     * Forces any changes to the storage device and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    //// file layout
+
+    /**
+     * Writes an empty patient record file with {@code slotCount} slots to {@code path}.
+     */
+    private static void create(Path path, int slotCount, int recordAreaSize) throws IOException {
+        try (FileChannel newChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            int recordStart = recordStart(slotCount);
+            MappedByteBuffer newBuffer = newChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    (long) recordStart + recordAreaSize);
+            newBuffer.putInt(MAGIC_OFFSET, MAGIC);
+            newBuffer.putShort(VERSION_OFFSET, FORMAT_VERSION);
+            newBuffer.putInt(SLOT_COUNT_OFFSET, slotCount);
+            newBuffer.putLong(RECORD_END_OFFSET, recordStart);
+            newBuffer.putLong(NEXT_SEQUENCE_OFFSET, 0);
+            newBuffer.force();
+        }
+    }
+
+    private void openChannel(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        slotCount = buffer.getInt(SLOT_COUNT_OFFSET);
+        recordEnd = (int) buffer.getLong(RECORD_END_OFFSET);
+        nextSequence = buffer.getLong(NEXT_SEQUENCE_OFFSET);
+        deletedSlotCount = 0;
+        garbageBytes = 0;
+        size = 0;
+        cache.clear();
+    }
+
+    /**
+     * Opens an existing file, rebuilding the order of the patients from the sequence numbers of their records.
+     */
+    private void open() throws IOException {
+        openChannel(filePath);
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(MAGIC_OFFSET) != MAGIC
+                || buffer.getShort(VERSION_OFFSET) != FORMAT_VERSION
+                || Integer.bitCount(slotCount) != 1 || recordStart(slotCount) > buffer.capacity()) {
+            channel.close();
+            throw new IOException(String.format(MESSAGE_NOT_PATIENT_FILE, filePath));
+        }
+        positions = new int[slotCount];
+
+        List<Integer> liveSlots = new ArrayList<>();
+        for (int slot = 0; slot < slotCount; slot++) {
+            long key = buffer.getLong(slotPosition(slot) + SLOT_KEY_OFFSET);
+            if (key == DELETED_KEY) {
+                deletedSlotCount++;
+            } else if (key != EMPTY_KEY) {
+                liveSlots.add(slot);
+            }
+        }
+        liveSlots.sort(Comparator.comparingLong(this::readSequence));
+
+        order = liveSlots.stream().mapToInt(Integer::intValue).toArray();
+        size = order.length;
+        for (int i = 0; i < size; i++) {
+            positions[order[i]] = i;
+        }
+        int liveBytes = 0;
+        for (int slot : order) {
+            liveBytes += buffer.getInt(slotPosition(slot) + SLOT_RECORD_LENGTH_OFFSET);
+        }
+        garbageBytes = recordEnd - recordStart(slotCount) - liveBytes;
+    }
+
+    private void writeHeader() {
+        buffer.putLong(RECORD_END_OFFSET, recordEnd);
+        buffer.putLong(NEXT_SEQUENCE_OFFSET, nextSequence);
+    }
+
+    private static int recordStart(int slotCount) {
+        return HEADER_SIZE + slotCount * SLOT_SIZE;
+    }
+
+    private static int slotPosition(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    /**
+     * Returns a number of slots that keeps {@code patientCount} patients under a quarter of the table.
+     */
+    private static int slotCountFor(int patientCount) {
+        int slotCount = MIN_SLOT_COUNT;
+        while (slotCount < patientCount * 4) {
+            slotCount *= 2;
+        }
+        return slotCount;
+    }
+
+    //// hash table
+
+    private static long toKey(Nric nric) {
+        // Shifted so that it never clashes with EMPTY_KEY or DELETED_KEY
+        return BinaryAddressBookStorage.packNric(nric) + 1;
+    }
+
+    private int firstSlot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & (slotCount - 1);
+    }
+
+    /**
+     * Returns the slot holding {@code key}, or -1 if there is none.
+     */
+    private int findSlot(long key) {
+        for (int slot = firstSlot(key);; slot = (slot + 1) & (slotCount - 1)) {
+            long slotKey = buffer.getLong(slotPosition(slot) + SLOT_KEY_OFFSET);
+            if (slotKey == key) {
+                return slot;
+            }
+            if (slotKey == EMPTY_KEY) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Claims a free slot for {@code key}, which must not already be in the table.
+     */
+    private int insertSlot(long key) {
+        for (int slot = firstSlot(key);; slot = (slot + 1) & (slotCount - 1)) {
+            int position = slotPosition(slot);
+            long slotKey = buffer.getLong(position + SLOT_KEY_OFFSET);
+            if (slotKey == EMPTY_KEY || slotKey == DELETED_KEY) {
+                if (slotKey == DELETED_KEY) {
+                    deletedSlotCount--;
+                }
+                buffer.putLong(position + SLOT_KEY_OFFSET, key);
+                return slot;
+            }
+        }
+    }
+
+    private void deleteSlot(int slot) {
+        buffer.putLong(slotPosition(slot) + SLOT_KEY_OFFSET, DELETED_KEY);
+        deletedSlotCount++;
+        cache.remove(slot);
+    }
+
+    /**
+     * Rebuilds the file with a larger table if adding another key would leave the table more than half full.
+     */
+    private void ensureSlotAvailable() {
+        if ((size + deletedSlotCount + 1) * 2 > slotCount) {
+            rebuild(slotCountFor(size + 1));
+        }
+    }
+
+    /**
+     * Rebuilds the file if replaced and removed records take up more space than the live records.
+     */
+    private void compactIfWasteful() {
+        int liveBytes = recordEnd - recordStart(slotCount) - garbageBytes;
+        if (garbageBytes > INITIAL_RECORD_AREA_SIZE && garbageBytes > liveBytes) {
+            rebuild(slotCountFor(size));
+        }
+    }
+
+    /**
+     * Copies the live records into a new file with {@code newSlotCount} slots, and replaces the current file with it.
+     */
+    private void rebuild(int newSlotCount) {
+        Path rebuiltPath = filePath.resolveSibling(filePath.getFileName() + ".rebuild");
+        try {
+            int liveBytes = recordEnd - recordStart(slotCount) - garbageBytes;
+            create(rebuiltPath, newSlotCount, Math.max(INITIAL_RECORD_AREA_SIZE, liveBytes * 2));
+            MappedPatientStore rebuilt = new MappedPatientStore(rebuiltPath, 0);
+            for (int i = 0; i < size; i++) {
+                rebuilt.copyRecordFrom(this, order[i]);
+            }
+            rebuilt.close();
+            channel.close();
+            Files.move(rebuiltPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            open();
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    /**
+     * Appends the record in {@code slot} of {@code source} to this file, keeping its sequence number.
+     */
+    private void copyRecordFrom(MappedPatientStore source, int slot) {
+        int sourcePosition = slotPosition(slot);
+        long key = source.buffer.getLong(sourcePosition + SLOT_KEY_OFFSET);
+        int offset = (int) source.buffer.getLong(sourcePosition + SLOT_RECORD_OFFSET);
+        int length = source.buffer.getInt(sourcePosition + SLOT_RECORD_LENGTH_OFFSET);
+        ByteBuffer record = source.buffer.duplicate();
+        record.position(offset).limit(offset + length);
+
+        int newSlot = insertSlot(key);
+        appendRecord(newSlot, record, length);
+        nextSequence = Math.max(nextSequence, source.nextSequence);
+        writeHeader();
+    }
+
+    //// records
+
+    private void writeRecord(int slot, Patient patient, long sequence) {
+        byte[] bytes = encode(patient, sequence);
+        appendRecord(slot, ByteBuffer.wrap(bytes), bytes.length);
+        cache.put(slot, patient);
+    }
+
+    private void appendRecord(int slot, ByteBuffer record, int length) {
+        ensureCapacity(recordEnd + length);
+        ByteBuffer target = buffer.duplicate();
+        target.position(recordEnd);
+        target.put(record);
+
+        int position = slotPosition(slot);
+        buffer.putLong(position + SLOT_RECORD_OFFSET, recordEnd);
+        buffer.putInt(position + SLOT_RECORD_LENGTH_OFFSET, length);
+        recordEnd += length;
+    }
+
+    /**
+     * Maps more of the file if it is shorter than {@code requiredSize}.
+     */
+    private void ensureCapacity(long requiredSize) {
+        if (requiredSize <= buffer.capacity()) {
+            return;
+        }
+        long newSize = Math.max(requiredSize, (long) buffer.capacity() * 2);
+        if (newSize > Integer.MAX_VALUE) {
+            newSize = Integer.MAX_VALUE;
+        }
+        if (requiredSize > newSize) {
+            throw new UncheckedIOException(new IOException(MESSAGE_FILE_TOO_LARGE));
+        }
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, newSize);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private ByteBuffer recordOf(int slot) {
+        int position = slotPosition(slot);
+        int offset = (int) buffer.getLong(position + SLOT_RECORD_OFFSET);
+        int length = buffer.getInt(position + SLOT_RECORD_LENGTH_OFFSET);
+        ByteBuffer record = buffer.duplicate();
+        record.position(offset).limit(offset + length);
+        return record.slice();
+    }
+
+    private long readSequence(int slot) {
+        return recordOf(slot).getLong(0);
+    }
+
+    private Patient decode(int slot) {
+        Patient cached = cache.get(slot);
+        if (cached != null) {
+            return cached;
+        }
+
+        ByteBuffer record = recordOf(slot);
+        record.getLong(); // sequence
+        Nric nric = new Nric(BinaryAddressBookStorage.unpackNric(record.getLong()));
+        DateOfBirth dob = new DateOfBirth(LocalDate.ofEpochDay(record.getInt()).toString());
+        Name name = new Name(readString(record));
+        Phone phone = new Phone(readString(record));
+        Email email = new Email(readString(record));
+        Address address = new Address(readString(record));
+        int tagCount = record.getShort() & 0xFFFF;
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(readString(record)));
+        }
+
+        Patient patient = new Patient(name, nric, dob, phone, email, address, tags);
+        cache.put(slot, patient);
+        return patient;
+    }
+
+    private static byte[] encode(Patient patient, long sequence) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(bytes);
+            output.writeLong(sequence);
+            output.writeLong(BinaryAddressBookStorage.packNric(patient.getNric()));
+            output.writeInt((int) patient.getDob().value.toEpochDay());
+            writeString(patient.getName().fullName, output);
+            writeString(patient.getPhone().value, output);
+            writeString(patient.getEmail().value, output);
+            writeString(patient.getAddress().value, output);
+            output.writeShort(patient.getTags().size());
+            for (Tag tag : patient.getTags()) {
+                writeString(tag.tagName, output);
+            }
+            return bytes.toByteArray();
+        } catch (IOException ioe) {
+            // Writing to an in-memory stream cannot fail
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private static void writeString(String value, DataOutputStream output) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer record) {
+        byte[] bytes = new byte[record.getInt()];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts stored records into model objects in parallel on the common fork-join pool.
+ * The converted records are handed on in their original order, and the error reported is always the one that
+ * converting and handing on the records one at a time would have run into first.
+ */
+class ParallelRecordConverter {
+
+    /** The number of records below which a chunk is converted without being split further. */
+    static final int CHUNK_SIZE = 256;
+
+    /**
+     * Converts a single stored record into a model object.
+     */
+    @FunctionalInterface
+    interface Conversion<A, M> {
+        M convert(A record) throws IllegalValueException;
+    }
+
+    /**
+     * Receives converted records in their original order.
+     */
+    @FunctionalInterface
+    interface RecordSink<M> {
+        void accept(M record) throws IllegalValueException;
+    }
+
+    private ParallelRecordConverter() {}
+
+    /**
+     * Converts every record in {@code records} with {@code conversion}, and passes the results to {@code sink}
+     * in the same order as {@code records}.
+     *
+     * @throws IllegalValueException the first error, in the order of {@code records}, thrown by either
+     *     {@code conversion} or {@code sink}. No records after it are passed to {@code sink}.
+     */
+    static <A, M> void convertInOrder(List<A> records, Conversion<A, M> conversion, RecordSink<M> sink)
+            throws IllegalValueException {
+        requireAllNonNull(records, conversion, sink);
+        Object[] results = new Object[records.size()];
+        IllegalValueException[] errors = new IllegalValueException[records.size()];
+
+        ConvertTask<A, M> task = new ConvertTask<>(records, conversion, results, errors, 0, records.size());
+        if (records.size() <= CHUNK_SIZE) {
+            task.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+
+        for (int i = 0; i < results.length; i++) {
+            if (errors[i] != null) {
+                throw errors[i];
+            }
+            @SuppressWarnings("unchecked")
+            M result = (M) results[i];
+            sink.accept(result);
+        }
+    }
+
+    /**
+     * Converts the records in {@code [from, to)}, splitting the range in half until it fits in one chunk.
+     */
+    private static class ConvertTask<A, M> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<A> records;
+        private final Conversion<A, M> conversion;
+        private final Object[] results;
+        private final IllegalValueException[] errors;
+        private final int from;
+        private final int to;
+
+        ConvertTask(List<A> records, Conversion<A, M> conversion, Object[] results, IllegalValueException[] errors,
+                    int from, int to) {
+            this.records = records;
+            this.conversion = conversion;
+            this.results = results;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                convertChunk();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ConvertTask<>(records, conversion, results, errors, from, middle),
+                    new ConvertTask<>(records, conversion, results, errors, middle, to));
+        }
+
+        private void convertChunk() {
+            for (int i = from; i < to; i++) {
+                try {
+                    results[i] = conversion.convert(records.get(i));
+                } catch (IllegalValueException ive) {
+                    errors[i] = ive;
+                }
+            }
+        }
+    }
+}
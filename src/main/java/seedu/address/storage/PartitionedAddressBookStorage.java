@@ -0,0 +1,352 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.PartitionSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentArchive;
+import seedu.address.model.patient.Patient;
+
+/**
+ * A class to access AddressBook data stored on the hard disk with the appointments split into one json file per
+ * month, next to a json file with the patients.
+ * Only the appointments of the recent months in {@link PartitionSettings} are read on startup. The appointments
+ * of older months stay on disk until they are loaded through the {@link AppointmentArchive} interface.
+ * Each save only rewrites the months whose appointments changed.
+ */
+public class PartitionedAddressBookStorage implements AddressBookStorage, AppointmentArchive {
+
+    public static final String PARTITION_FOLDER_SUFFIX = ".appointments";
+
+    private static final DateTimeFormatter PARTITION_NAME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final String PARTITION_FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(PartitionedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path partitionFolderPath;
+    private final PartitionSettings partitionSettings;
+    private final JsonAddressBookStorage patientStorage;
+
+    // Months with a partition on disk that have not been loaded into the address book
+    private final Set<YearMonth> unloadedMonths = new TreeSet<>();
+    // Appointments of each loaded month as last written, where a null value means the contents are not known
+    private final Map<YearMonth, List<Appointment>> savedPartitions = new HashMap<>();
+    // Modification version of the address book just before each month was loaded from the archive
+    private final Map<YearMonth, Long> loadedVersions = new HashMap<>();
+    private List<Patient> savedPatients;
+    private boolean hasAppointmentsInPatientFile;
+
+    /**
+     * Creates a {@code PartitionedAddressBookStorage} with the patients at {@code filePath}, and the appointment
+     * partitions in a folder next to it.
+     */
+    public PartitionedAddressBookStorage(Path filePath, PartitionSettings partitionSettings) {
+        this(filePath, partitionSettings, false);
+    }
+
+    /**
+     * Creates a {@code PartitionedAddressBookStorage} with the patients at {@code filePath}, and the appointment
+     * partitions in a folder next to it.
+     *
+     * @param isCompressed whether the patient file is compressed with gzip as it is written.
+     */
+    public PartitionedAddressBookStorage(Path filePath, PartitionSettings partitionSettings, boolean isCompressed) {
+        requireNonNull(filePath);
+        requireNonNull(partitionSettings);
+        this.filePath = filePath;
+        this.partitionFolderPath = filePath.resolveSibling(filePath.getFileName() + PARTITION_FOLDER_SUFFIX);
+        this.partitionSettings = partitionSettings;
+        this.patientStorage = new JsonAddressBookStorage(filePath, false, isCompressed);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getPartitionFolderPath() {
+        return partitionFolderPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The partitions are only read when {@code filePath} is the data file of this storage, otherwise the whole
+     * address book is read from {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            return patientStorage.readAddressBook(filePath);
+        }
+        return readPartitioned();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The appointments are only partitioned when {@code filePath} is the data file of this storage, otherwise the
+     * whole address book is written to {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            patientStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        savePartitioned(addressBook);
+    }
+
+    //// archive
+
+    @Override
+    public synchronized List<Appointment> loadAppointmentsInMonthOf(LocalDate date, long addressBookVersion)
+            throws DataLoadingException {
+        requireNonNull(date);
+        YearMonth month = YearMonth.from(date);
+        if (!unloadedMonths.contains(month)) {
+            return Collections.emptyList();
+        }
+        return loadMonth(month, addressBookVersion);
+    }
+
+    @Override
+    public synchronized List<Appointment> loadAllAppointments(long addressBookVersion) throws DataLoadingException {
+        List<Appointment> appointments = new ArrayList<>();
+        for (YearMonth month : new ArrayList<>(unloadedMonths)) {
+            appointments.addAll(loadMonth(month, addressBookVersion));
+        }
+        return appointments;
+    }
+
+    @Override
+    public synchronized void discardUnloadedAppointments() {
+        unloadedMonths.forEach(month -> savedPartitions.put(month, null));
+        unloadedMonths.clear();
+    }
+
+    private List<Appointment> loadMonth(YearMonth month, long addressBookVersion) throws DataLoadingException {
+        List<Appointment> appointments = readPartition(month);
+        unloadedMonths.remove(month);
+        savedPartitions.put(month, appointments);
+        loadedVersions.put(month, addressBookVersion);
+        logger.fine("Loaded " + appointments.size() + " appointments in " + month + " from the archive");
+        return appointments;
+    }
+
+    //// saving
+
+    private synchronized void savePartitioned(ReadOnlyAddressBook addressBook) throws IOException {
+        long version = addressBook.getModificationVersion();
+        Map<YearMonth, List<Appointment>> partitions = partitionByMonth(addressBook.getAppointmentList());
+        Set<YearMonth> months = new TreeSet<>(partitions.keySet());
+        months.addAll(savedPartitions.keySet());
+
+        for (YearMonth month : months) {
+            List<Appointment> appointments = partitions.getOrDefault(month, Collections.emptyList());
+            if (unloadedMonths.contains(month)) {
+                // The address book has appointments in a month it never loaded, so the stored ones are kept too
+                writePartition(month, mergeWithStored(month, appointments));
+                continue;
+            }
+            if (version <= loadedVersions.getOrDefault(month, Long.MIN_VALUE)) {
+                // The address book was copied before this month was loaded into it, so it says nothing about it
+                continue;
+            }
+            if (appointments.equals(savedPartitions.get(month))) {
+                continue;
+            }
+            if (appointments.isEmpty()) {
+                Files.deleteIfExists(getPartitionFilePath(month));
+                savedPartitions.remove(month);
+            } else {
+                writePartition(month, appointments);
+                savedPartitions.put(month, appointments);
+            }
+        }
+
+        // Partitions are written first, so an interrupted save never leaves appointments without their patients
+        List<Patient> patients = new ArrayList<>(addressBook.getPatientList());
+        if (hasAppointmentsInPatientFile || !patients.equals(savedPatients)) {
+            List<JsonAdaptedPatient> adaptedPatients = patients.stream()
+                    .map(JsonAdaptedPatient::new).collect(Collectors.toList());
+            patientStorage.saveSerializedAddressBook(new JsonSerializableAddressBook(adaptedPatients,
+                    new ArrayList<>()), filePath);
+            savedPatients = patients;
+            hasAppointmentsInPatientFile = false;
+        }
+    }
+
+    private List<Appointment> mergeWithStored(YearMonth month, List<Appointment> appointments) throws IOException {
+        List<Appointment> merged = new ArrayList<>();
+        try {
+            merged.addAll(readPartition(month));
+        } catch (DataLoadingException dle) {
+            throw new IOException(dle);
+        }
+        appointments.stream()
+                .filter(appointment -> merged.stream().noneMatch(appointment::isSameAppointment))
+                .forEach(merged::add);
+        return merged;
+    }
+
+    private void writePartition(YearMonth month, List<Appointment> appointments) throws IOException {
+        JsonUtil.saveJsonFile(JsonSerializableAppointmentPartition.of(appointments), getPartitionFilePath(month));
+    }
+
+    private static Map<YearMonth, List<Appointment>> partitionByMonth(List<Appointment> appointments) {
+        Map<YearMonth, List<Appointment>> partitions = new TreeMap<>();
+        for (Appointment appointment : appointments) {
+            partitions.computeIfAbsent(YearMonth.from(appointment.getDate().value), month -> new ArrayList<>())
+                    .add(appointment);
+        }
+        return partitions;
+    }
+
+    //// reading
+
+    private synchronized Optional<ReadOnlyAddressBook> readPartitioned() throws DataLoadingException {
+        unloadedMonths.clear();
+        savedPartitions.clear();
+        loadedVersions.clear();
+        savedPatients = null;
+        hasAppointmentsInPatientFile = false;
+
+        Optional<ReadOnlyAddressBook> patientFile = patientStorage.readAddressBook(filePath);
+        if (!patientFile.isPresent()) {
+            return Optional.empty();
+        }
+
+        ReadOnlyAddressBook stored = patientFile.get();
+        AddressBookLoader loader = new AddressBookLoader();
+        YearMonth firstRecentMonth = YearMonth.now().minusMonths(partitionSettings.getRecentMonths() - 1);
+        try {
+            for (Patient patient : stored.getPatientList()) {
+                loader.addPatient(patient);
+            }
+            // Appointments left in the patient file by a full save are moved into partitions on the next save
+            for (Appointment appointment : stored.getAppointmentList()) {
+                loader.addAppointment(appointment);
+            }
+            hasAppointmentsInPatientFile = !stored.getAppointmentList().isEmpty();
+
+            for (YearMonth month : findPartitionMonths()) {
+                if (month.isBefore(firstRecentMonth)) {
+                    unloadedMonths.add(month);
+                    continue;
+                }
+                List<Appointment> appointments = readPartition(month);
+                for (Appointment appointment : appointments) {
+                    if (!loader.hasAppointment(appointment)) {
+                        loader.addAppointment(appointment);
+                    }
+                }
+                savedPartitions.put(month, appointments);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        savedPatients = new ArrayList<>(stored.getPatientList());
+        logger.info("Read " + savedPartitions.size() + " recent appointment partitions, leaving "
+                + unloadedMonths.size() + " in " + partitionFolderPath);
+        return Optional.of(loader.toAddressBook());
+    }
+
+    private List<Appointment> readPartition(YearMonth month) throws DataLoadingException {
+        Path partitionFilePath = getPartitionFilePath(month);
+        Optional<JsonSerializableAppointmentPartition> partition =
+                JsonUtil.readJsonFile(partitionFilePath, JsonSerializableAppointmentPartition.class);
+        if (!partition.isPresent()) {
+            return new ArrayList<>();
+        }
+
+        try {
+            List<Appointment> appointments = partition.get().toModelType();
+            for (Appointment appointment : appointments) {
+                if (!YearMonth.from(appointment.getDate().value).equals(month)) {
+                    throw new IllegalValueException("Appointment on " + appointment.getDate()
+                            + " found in the partition for " + month);
+                }
+            }
+            return appointments;
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + partitionFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private List<YearMonth> findPartitionMonths() throws DataLoadingException {
+        List<YearMonth> months = new ArrayList<>();
+        if (!Files.isDirectory(partitionFolderPath)) {
+            return months;
+        }
+
+        try (DirectoryStream<Path> partitionFiles =
+                Files.newDirectoryStream(partitionFolderPath, "*" + PARTITION_FILE_EXTENSION)) {
+            for (Path partitionFile : partitionFiles) {
+                String fileName = partitionFile.getFileName().toString();
+                String partitionName = fileName.substring(0, fileName.length() - PARTITION_FILE_EXTENSION.length());
+                try {
+                    months.add(YearMonth.parse(partitionName, PARTITION_NAME_FORMATTER));
+                } catch (DateTimeParseException dtpe) {
+                    logger.warning("Ignoring unexpected file in " + partitionFolderPath + ": " + fileName);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + partitionFolderPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+        Collections.sort(months);
+        return months;
+    }
+
+    private Path getPartitionFilePath(YearMonth month) {
+        return partitionFolderPath.resolve(month.format(PARTITION_NAME_FORMATTER) + PARTITION_FILE_EXTENSION);
+    }
+}
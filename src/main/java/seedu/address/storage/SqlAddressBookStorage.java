@@ -0,0 +1,412 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.AddressBookSnapshot.Changes;
+import seedu.address.storage.AddressBookSnapshot.RecordChange;
+
+/**
+ * A class to access AddressBook data stored in an embedded SQLite database file on the hard disk.
+ * Patients, their tags and appointments are kept in separate tables, indexed by NRIC and date, so that each
+ * patient or appointment that changed is written as a single row instead of rewriting the whole file.
+ * The rows changed by one save are written in a single transaction.
+ * JSON and binary data files are also read, so that switching to this format converts the file on the next save.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage {
+
+    /** The first bytes of every SQLite database file, which tell it apart from the other data files. */
+    static final byte[] MAGIC = "SQLite format 3\0".getBytes(StandardCharsets.US_ASCII);
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    private static final String JDBC_URL_PREFIX = "jdbc:sqlite:";
+
+    private static final String[] CREATE_SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS patients (nric TEXT PRIMARY KEY, name TEXT, dob TEXT, phone TEXT,"
+                + " email TEXT, address TEXT)",
+        "CREATE TABLE IF NOT EXISTS tags (nric TEXT NOT NULL, tag_name TEXT NOT NULL,"
+                + " PRIMARY KEY (nric, tag_name))",
+        "CREATE TABLE IF NOT EXISTS appointments (nric TEXT NOT NULL, date TEXT NOT NULL,"
+                + " start_time TEXT NOT NULL, end_time TEXT NOT NULL, appointment_type TEXT, note TEXT,"
+                + " is_marked INTEGER)",
+        "CREATE INDEX IF NOT EXISTS appointments_nric ON appointments (nric)",
+        "CREATE INDEX IF NOT EXISTS appointments_date ON appointments (date)",
+        // A patient's appointments never overlap, so no two of them start at the same time on the same date
+        "CREATE UNIQUE INDEX IF NOT EXISTS appointments_nric_date_start ON appointments (nric, date, start_time)"
+    };
+
+    private static final String INSERT_PATIENT =
+            "INSERT INTO patients (nric, name, dob, phone, email, address) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_TAG = "INSERT INTO tags (nric, tag_name) VALUES (?, ?)";
+    private static final String INSERT_APPOINTMENT = "INSERT INTO appointments"
+            + " (nric, date, start_time, end_time, appointment_type, note, is_marked) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_PATIENT = "DELETE FROM patients WHERE nric = ?";
+    private static final String DELETE_TAGS = "DELETE FROM tags WHERE nric = ?";
+    private static final String DELETE_APPOINTMENT =
+            "DELETE FROM appointments WHERE nric = ? AND date = ? AND start_time = ? AND end_time = ?";
+    private static final String[] DELETE_ALL = {
+        "DELETE FROM appointments", "DELETE FROM tags", "DELETE FROM patients"
+    };
+
+    private final Path filePath;
+
+    private Connection connection;
+    private ReadOnlyAddressBook lastSavedSource;
+    private long lastSavedVersion;
+
+    public SqlAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts with the SQLite database header.
+     */
+    public static boolean isSqlDatabase(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            return Arrays.equals(MAGIC, inputStream.readNBytes(MAGIC.length));
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A JSON or binary data file at {@code filePath} is read in its own format.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!isSqlDatabase(filePath)) {
+                return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+            }
+            logger.info("SQL database " + filePath + " found.");
+            try (Connection readConnection = openConnection(filePath)) {
+                return Optional.of(readTables(readConnection));
+            }
+        } catch (IOException | SQLException e) {
+            logger.warning("Error reading from SQL database " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changed rows are written when {@code filePath} is the database of this storage, and
+     * {@code addressBook} carries the changes since the snapshot saved last. Otherwise, all the rows are rewritten.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        try {
+            if (!filePath.equals(this.filePath)) {
+                try (Connection otherConnection = openConnection(filePath)) {
+                    inTransaction(otherConnection, () -> writeAll(otherConnection, addressBook));
+                }
+                return;
+            }
+
+            Optional<Changes> changes = getChangesSinceLastSave(addressBook);
+            Connection ownConnection = getConnection();
+            if (changes.isPresent()) {
+                inTransaction(ownConnection, () -> writeChanges(ownConnection, changes.get()));
+            } else {
+                inTransaction(ownConnection, () -> writeAll(ownConnection, addressBook));
+            }
+            recordSave(addressBook);
+        } catch (SQLException sqle) {
+            lastSavedSource = null;
+            throw new IOException("Could not save to SQL database " + filePath, sqle);
+        }
+    }
+
+    @Override
+    public boolean isIncremental() {
+        return true;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException sqle) {
+            throw new IOException("Could not close SQL database " + filePath, sqle);
+        } finally {
+            connection = null;
+        }
+    }
+
+    //// connections
+
+    private Connection getConnection() throws SQLException, IOException {
+        if (connection == null) {
+            connection = openConnection(filePath);
+        }
+        return connection;
+    }
+
+    /**
+     * Opens the database at {@code filePath}, creating it and its tables and indexes if they do not exist yet.
+     */
+    private static Connection openConnection(Path filePath) throws SQLException, IOException {
+        Path parent = filePath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Connection connection = DriverManager.getConnection(JDBC_URL_PREFIX + filePath.toAbsolutePath());
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : CREATE_SCHEMA) {
+                statement.execute(sql);
+            }
+        } catch (SQLException sqle) {
+            connection.close();
+            throw sqle;
+        }
+        return connection;
+    }
+
+    /**
+     * Runs {@code work} in a single transaction on {@code connection}, which is rolled back if it fails.
+     */
+    private static void inTransaction(Connection connection, SqlWork work) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            work.run();
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    //// reading
+
+    private static ReadOnlyAddressBook readTables(Connection connection) throws SQLException, IllegalValueException {
+        Map<String, List<JsonAdaptedTag>> tagsByNric = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT nric, tag_name FROM tags")) {
+            while (rows.next()) {
+                tagsByNric.computeIfAbsent(rows.getString(1), nric -> new ArrayList<>())
+                        .add(new JsonAdaptedTag(rows.getString(2)));
+            }
+        }
+
+        AddressBookLoader loader = new AddressBookLoader();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery(
+                        "SELECT name, nric, dob, phone, email, address FROM patients ORDER BY rowid")) {
+            while (rows.next()) {
+                String nric = rows.getString(2);
+                loader.addPatient(new JsonAdaptedPatient(rows.getString(1), nric, rows.getString(3),
+                        rows.getString(4), rows.getString(5), rows.getString(6),
+                        tagsByNric.getOrDefault(nric, List.of())).toModelType());
+            }
+        }
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery("SELECT nric, date, start_time, end_time, appointment_type,"
+                        + " note, is_marked FROM appointments ORDER BY rowid")) {
+            while (rows.next()) {
+                loader.addAppointment(new JsonAdaptedAppointment(rows.getString(1), rows.getString(2),
+                        rows.getString(3), rows.getString(4), rows.getString(5), rows.getString(6),
+                        Boolean.toString(rows.getBoolean(7))).toModelType());
+            }
+        }
+        return loader.toAddressBook();
+    }
+
+    //// saving
+
+    /**
+     * Returns the changes carried by {@code addressBook} if it is an {@code AddressBookSnapshot} whose changes are
+     * based on the snapshot saved last.
+     *
+     * @throws IOException if {@code addressBook} is a snapshot that neither has its contents nor usable changes.
+     */
+    private Optional<Changes> getChangesSinceLastSave(ReadOnlyAddressBook addressBook) throws IOException {
+        if (!(addressBook instanceof AddressBookSnapshot)) {
+            return Optional.empty();
+        }
+        AddressBookSnapshot snapshot = (AddressBookSnapshot) addressBook;
+        Optional<Changes> changes = snapshot.getChanges()
+                .filter(snapshotChanges -> snapshot.getSource() == lastSavedSource
+                        && snapshotChanges.getBaseVersion() == lastSavedVersion);
+        if (!changes.isPresent() && !snapshot.hasContents()) {
+            throw new IOException("Changes to the address book are not based on what was last saved");
+        }
+        return changes;
+    }
+
+    private void recordSave(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBookSnapshot) {
+            lastSavedSource = ((AddressBookSnapshot) addressBook).getSource();
+            lastSavedVersion = addressBook.getModificationVersion();
+        } else {
+            lastSavedSource = null;
+        }
+    }
+
+    private static void writeAll(Connection connection, ReadOnlyAddressBook addressBook) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : DELETE_ALL) {
+                statement.executeUpdate(sql);
+            }
+        }
+        try (PreparedStatement insertPatient = connection.prepareStatement(INSERT_PATIENT);
+                PreparedStatement insertTag = connection.prepareStatement(INSERT_TAG);
+                PreparedStatement insertAppointment = connection.prepareStatement(INSERT_APPOINTMENT)) {
+            for (Patient patient : addressBook.getPatientList()) {
+                bindPatient(insertPatient, patient);
+                insertPatient.addBatch();
+                for (Tag tag : patient.getTags()) {
+                    bindTag(insertTag, patient, tag);
+                    insertTag.addBatch();
+                }
+            }
+            for (Appointment appointment : addressBook.getAppointmentList()) {
+                bindAppointment(insertAppointment, appointment);
+                insertAppointment.addBatch();
+            }
+            insertPatient.executeBatch();
+            insertTag.executeBatch();
+            insertAppointment.executeBatch();
+        }
+    }
+
+    /**
+     * Applies {@code changes} one row at a time, in the order they were made.
+     */
+    private static void writeChanges(Connection connection, Changes changes) throws SQLException {
+        try (PreparedStatement insertPatient = connection.prepareStatement(INSERT_PATIENT);
+                PreparedStatement insertTag = connection.prepareStatement(INSERT_TAG);
+                PreparedStatement deletePatient = connection.prepareStatement(DELETE_PATIENT);
+                PreparedStatement deleteTags = connection.prepareStatement(DELETE_TAGS)) {
+            for (RecordChange<Patient> change : changes.getPatientChanges()) {
+                Patient patient = change.getRecord();
+                if (!change.isAdded()) {
+                    deleteTags.setString(1, patient.getNric().value);
+                    deleteTags.executeUpdate();
+                    deletePatient.setString(1, patient.getNric().value);
+                    deletePatient.executeUpdate();
+                    continue;
+                }
+                bindPatient(insertPatient, patient);
+                insertPatient.executeUpdate();
+                for (Tag tag : patient.getTags()) {
+                    bindTag(insertTag, patient, tag);
+                    insertTag.executeUpdate();
+                }
+            }
+        }
+        try (PreparedStatement insertAppointment = connection.prepareStatement(INSERT_APPOINTMENT);
+                PreparedStatement deleteAppointment = connection.prepareStatement(DELETE_APPOINTMENT)) {
+            for (RecordChange<Appointment> change : changes.getAppointmentChanges()) {
+                Appointment appointment = change.getRecord();
+                if (change.isAdded()) {
+                    bindAppointment(insertAppointment, appointment);
+                    insertAppointment.executeUpdate();
+                } else {
+                    deleteAppointment.setString(1, appointment.getNric().value);
+                    deleteAppointment.setString(2, appointment.getDate().toString());
+                    deleteAppointment.setString(3, appointment.getStartTime().toString());
+                    deleteAppointment.setString(4, appointment.getEndTime().toString());
+                    deleteAppointment.executeUpdate();
+                }
+            }
+        }
+    }
+
+    private static void bindPatient(PreparedStatement statement, Patient patient) throws SQLException {
+        statement.setString(1, patient.getNric().value);
+        statement.setString(2, patient.getName().fullName);
+        statement.setString(3, patient.getDob().toString());
+        statement.setString(4, patient.getPhone().value);
+        statement.setString(5, patient.getEmail().value);
+        statement.setString(6, patient.getAddress().value);
+    }
+
+    private static void bindTag(PreparedStatement statement, Patient patient, Tag tag) throws SQLException {
+        statement.setString(1, patient.getNric().value);
+        statement.setString(2, tag.tagName);
+    }
+
+    private static void bindAppointment(PreparedStatement statement, Appointment appointment) throws SQLException {
+        statement.setString(1, appointment.getNric().value);
+        statement.setString(2, appointment.getDate().toString());
+        statement.setString(3, appointment.getStartTime().toString());
+        statement.setString(4, appointment.getEndTime().toString());
+        statement.setString(5, appointment.getAppointmentType().typeName);
+        statement.setString(6, appointment.getNote().note);
+        statement.setBoolean(7, appointment.getMark().isMarked);
+    }
+
+    /**
+     * Work done with the database that may fail.
+     */
+    @FunctionalInterface
+    private interface SqlWork {
+        void run() throws SQLException;
+    }
+}
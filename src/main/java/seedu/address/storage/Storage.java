@@ -14,6 +14,8 @@ import seedu.address.model.UserPrefs;
  */
 public interface Storage extends AddressBookStorage, UserPrefsStorage {
 
+    long NO_SAVED_VERSION = -1;
+
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
 
@@ -26,7 +28,30 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException;
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} to the storage, unless it is unchanged since it was last saved.
+     * @param addressBook cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Returns the modification version of the address book when it was last saved,
+     * or {@code NO_SAVED_VERSION} if no address book has been saved yet.
+     */
+    long getLastSavedAddressBookVersion();
+
+    /**
+     * Returns true if the data file has not been changed since it was last saved through this storage, such as by
+     * another process writing to it.
+     */
+    boolean isAddressBookFileUnchangedSinceSave();
+
+    /**
+     * Records {@code addressBook} as saved to the data file as the file was when it was last read, such as after
+     * the model was updated with what was read, so that it is not written back until it is changed.
+     */
+    void markAddressBookSaved(ReadOnlyAddressBook addressBook);
+
 }
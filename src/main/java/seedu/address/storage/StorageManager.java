@@ -1,12 +1,19 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -19,13 +26,29 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private CompressedBackups addressBookBackups;
+    private boolean isAddressBookBackedUp;
+    // Replaced as a whole on each save, so that other threads see the version and the file it was saved to together
+    private volatile SavedAddressBook lastSavedAddressBook;
+    // State of the data file just before it was last read, so that a change while it was being read is still noticed
+    private volatile FileState lastReadFileState;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, new CompressedBackups(0));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}, which
+     * backs up the data file to {@code addressBookBackups} before it is first overwritten.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          CompressedBackups addressBookBackups) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.addressBookBackups = addressBookBackups;
     }
 
     // ================ UserPrefs methods ==============================
@@ -55,6 +78,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        lastReadFileState = getAddressBookFileState();
         return readAddressBook(addressBookStorage.getAddressBookFilePath());
     }
 
@@ -66,7 +90,16 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        long version = addressBook.getModificationVersion();
+        ReadOnlyAddressBook source = AddressBookSnapshot.sourceOf(addressBook);
+        SavedAddressBook lastSaved = lastSavedAddressBook;
+        if (lastSaved != null && source == lastSaved.source && version == lastSaved.version) {
+            logger.fine("Address book unchanged since version " + version + " was saved, skipping write");
+            return;
+        }
+        backUpAddressBookOnce();
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        lastSavedAddressBook = new SavedAddressBook(source, version, getAddressBookFileState());
     }
 
     @Override
@@ -75,4 +108,112 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public boolean isIncremental() {
+        return addressBookStorage.isIncremental();
+    }
+
+    @Override
+    public void close() throws IOException {
+        addressBookStorage.close();
+    }
+
+    /**
+     * Backs up the data file as it was when the application started, before the first save replaces it.
+     * A failed backup is logged, and does not stop the data from being saved.
+     */
+    private void backUpAddressBookOnce() {
+        if (isAddressBookBackedUp) {
+            return;
+        }
+        try {
+            addressBookBackups.backUp(addressBookStorage.getAddressBookFilePath());
+        } catch (IOException ioe) {
+            logger.warning("Failed to back up data file : " + StringUtil.getDetails(ioe));
+        }
+        isAddressBookBackedUp = true;
+    }
+
+    @Override
+    public long getLastSavedAddressBookVersion() {
+        SavedAddressBook lastSaved = lastSavedAddressBook;
+        return lastSaved == null ? NO_SAVED_VERSION : lastSaved.version;
+    }
+
+    @Override
+    public boolean isAddressBookFileUnchangedSinceSave() {
+        SavedAddressBook lastSaved = lastSavedAddressBook;
+        FileState fileState = getAddressBookFileState();
+        return lastSaved != null && fileState != null && fileState.equals(lastSaved.fileState);
+    }
+
+    @Override
+    public void markAddressBookSaved(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        lastSavedAddressBook = new SavedAddressBook(AddressBookSnapshot.sourceOf(addressBook),
+                addressBook.getModificationVersion(), lastReadFileState);
+    }
+
+    /**
+     * Returns the modification time and size of the data file, or null if they cannot be read.
+     */
+    private FileState getAddressBookFileState() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(addressBookStorage.getAddressBookFilePath(),
+                    BasicFileAttributes.class);
+            return new FileState(attributes.lastModifiedTime(), attributes.size());
+        } catch (IOException ioe) {
+            return null;
+        }
+    }
+
+    /**
+     * The address book last saved, its version when saved, and the state of the data file right after it was saved.
+     */
+    private static final class SavedAddressBook {
+        private final ReadOnlyAddressBook source;
+        private final long version;
+        private final FileState fileState;
+
+        private SavedAddressBook(ReadOnlyAddressBook source, long version, FileState fileState) {
+            this.source = source;
+            this.version = version;
+            this.fileState = fileState;
+        }
+    }
+
+    /**
+     * The modification time and size of a file. A change by another process that keeps the modification time,
+     * such as one within the resolution of the file system clock, is still noticed if it changes the size.
+     */
+    private static final class FileState {
+        private final FileTime lastModifiedTime;
+        private final long size;
+
+        private FileState(FileTime lastModifiedTime, long size) {
+            this.lastModifiedTime = lastModifiedTime;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof FileState)) {
+                return false;
+            }
+
+            FileState otherFileState = (FileState) other;
+            return lastModifiedTime.equals(otherFileState.lastModifiedTime) && size == otherFileState.size;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lastModifiedTime, size);
+        }
+    }
+
 }
@@ -0,0 +1,247 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.patient.Patient;
+import seedu.address.storage.AddressBookSnapshot.Changes;
+import seedu.address.storage.AddressBookSnapshot.RecordChange;
+
+/**
+ * Saves the address book to an {@code AddressBookStorage} on a dedicated thread, so that callers do not wait
+ * for the data to be written.
+ * Each save request takes a snapshot of the address book. Requests made while a write is in progress are
+ * coalesced, so that only the latest snapshot is written once the current write completes.
+ * If the storage only writes what changed, each snapshot also carries the patients and appointments changed since
+ * the one before it, and once the previous snapshot has been written, the contents are not copied at all.
+ */
+public class WriteBehindAddressBookSaver {
+
+    public static final String MESSAGE_UNEXPECTED_WRITE_ERROR = "Unexpected error while saving: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookSaver.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final boolean isStorageIncremental;
+    private final ExecutorService writer;
+    private Consumer<IOException> errorHandler = ioe -> { };
+
+    private ReadOnlyAddressBook lastRequestedAddressBook;
+    private long lastRequestedVersion;
+    private AddressBookSnapshot pendingSnapshot;
+    private boolean isWriteScheduled;
+    private boolean isLastWriteSaved;
+    private boolean isRetryNeeded;
+
+    // Changes to the tracked address book since it was last requested to be saved, only used on its thread
+    private final List<RecordChange<Patient>> patientChanges = new ArrayList<>();
+    private final List<RecordChange<Appointment>> appointmentChanges = new ArrayList<>();
+    private final ListChangeListener<Patient> patientChangeListener =
+            change -> recordChanges(change, patientChanges);
+    private final ListChangeListener<Appointment> appointmentChangeListener =
+            change -> recordChanges(change, appointmentChanges);
+    private ReadOnlyAddressBook trackedAddressBook;
+
+    /**
+     * Creates a {@code WriteBehindAddressBookSaver} that writes to {@code addressBookStorage}.
+     */
+    public WriteBehindAddressBookSaver(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+        this.isStorageIncremental = addressBookStorage.isIncremental();
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler that is called, on the saving thread, with the error of every write that fails.
+     */
+    public synchronized void setErrorHandler(Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Records {@code addressBook} as already saved as it is now, such as right after it was read from the storage,
+     * so that nothing is written until it is changed.
+     * Must be called on the thread that modifies {@code addressBook}.
+     */
+    public synchronized void markSaved(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        lastRequestedAddressBook = addressBook;
+        lastRequestedVersion = addressBook.getModificationVersion();
+        isRetryNeeded = false;
+        if (isStorageIncremental) {
+            track(addressBook);
+        }
+    }
+
+    /**
+     * Requests for {@code addressBook} to be saved, and returns without waiting for it to be written.
+     * Nothing is saved if {@code addressBook} is unchanged since it was last requested to be saved.
+     * Must be called on the thread that modifies {@code addressBook}.
+     */
+    public synchronized void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        long version = addressBook.getModificationVersion();
+        if (addressBook == lastRequestedAddressBook && version == lastRequestedVersion && !isRetryNeeded) {
+            return;
+        }
+
+        Changes changes = isStorageIncremental ? takeChanges(addressBook) : null;
+        if (changes != null && pendingSnapshot != null) {
+            // The pending snapshot is replaced before it is written, so its changes are carried over
+            Changes laterChanges = changes;
+            changes = pendingSnapshot.getChanges()
+                    .map(pendingChanges -> pendingChanges.followedBy(laterChanges))
+                    .orElse(null);
+        }
+        // The contents are only left out if the storage is known to hold the snapshot the changes are based on
+        boolean isChangesOnly = changes != null && isLastWriteSaved && !isWriteScheduled;
+
+        lastRequestedAddressBook = addressBook;
+        lastRequestedVersion = version;
+        isRetryNeeded = false;
+        pendingSnapshot = isChangesOnly
+                ? AddressBookSnapshot.changesOf(addressBook, changes)
+                : AddressBookSnapshot.copyOf(addressBook, changes);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.execute(this::writePendingSnapshots);
+        }
+    }
+
+    /**
+     * Waits until every save requested so far has been written.
+     */
+    public synchronized void flush() {
+        boolean isInterrupted = false;
+        while (isWriteScheduled) {
+            try {
+                wait();
+            } catch (InterruptedException ie) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until every save requested so far has been written, and stops the saving thread.
+     */
+    public void close() {
+        flush();
+        writer.shutdown();
+    }
+
+    /**
+     * Starts recording the changes to {@code addressBook}, instead of those to the address book tracked before.
+     */
+    private void track(ReadOnlyAddressBook addressBook) {
+        if (addressBook == trackedAddressBook) {
+            return;
+        }
+        if (trackedAddressBook != null) {
+            trackedAddressBook.getPatientList().removeListener(patientChangeListener);
+            trackedAddressBook.getAppointmentList().removeListener(appointmentChangeListener);
+        }
+        addressBook.getPatientList().addListener(patientChangeListener);
+        addressBook.getAppointmentList().addListener(appointmentChangeListener);
+        trackedAddressBook = addressBook;
+        patientChanges.clear();
+        appointmentChanges.clear();
+    }
+
+    /**
+     * Returns the changes to {@code addressBook} since it was last requested to be saved, or null if they were not
+     * recorded, and starts recording afresh.
+     */
+    private Changes takeChanges(ReadOnlyAddressBook addressBook) {
+        if (addressBook != trackedAddressBook || addressBook != lastRequestedAddressBook) {
+            track(addressBook);
+            return null;
+        }
+        Changes changes = new Changes(lastRequestedVersion, patientChanges, appointmentChanges);
+        patientChanges.clear();
+        appointmentChanges.clear();
+        return changes;
+    }
+
+    private static <T> void recordChanges(ListChangeListener.Change<? extends T> change,
+                                          List<RecordChange<T>> recordChanges) {
+        while (change.next()) {
+            change.getRemoved().forEach(record -> recordChanges.add(new RecordChange<>(record, false)));
+            change.getAddedSubList().forEach(record -> recordChanges.add(new RecordChange<>(record, true)));
+        }
+    }
+
+    private void writePendingSnapshots() {
+        try {
+            while (true) {
+                AddressBookSnapshot snapshot;
+                synchronized (this) {
+                    snapshot = pendingSnapshot;
+                    pendingSnapshot = null;
+                    if (snapshot == null) {
+                        return;
+                    }
+                }
+                write(snapshot);
+            }
+        } finally {
+            // Even if a write fails unexpectedly, later saves are scheduled afresh and callers waiting on a flush
+            // are woken up
+            synchronized (this) {
+                isWriteScheduled = false;
+                notifyAll();
+            }
+        }
+    }
+
+    private void write(AddressBookSnapshot snapshot) {
+        try {
+            addressBookStorage.saveAddressBook(snapshot);
+            synchronized (this) {
+                isLastWriteSaved = true;
+            }
+        } catch (IOException ioe) {
+            handleWriteFailure(ioe);
+        } catch (RuntimeException re) {
+            handleWriteFailure(new IOException(String.format(MESSAGE_UNEXPECTED_WRITE_ERROR, re), re));
+        }
+    }
+
+    /**
+     * Records that the last write failed, so that it is retried on the next request, and reports {@code ioe}.
+     */
+    private void handleWriteFailure(IOException ioe) {
+        logger.warning("Failed to save address book: " + StringUtil.getDetails(ioe));
+        Consumer<IOException> handler;
+        synchronized (this) {
+            isLastWriteSaved = false;
+            // Retry on the next request, even if the address book is unchanged by then
+            if (pendingSnapshot == null) {
+                isRetryNeeded = true;
+            }
+            handler = errorHandler;
+        }
+        handler.accept(ioe);
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -27,6 +30,9 @@ public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
 
+    private static final String MESSAGE_LOADING = "Loading data file %s...\n"
+            + "Commands entered now will be executed once it has loaded.";
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
@@ -129,6 +135,11 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
+        logic.setAddressBookLoadedHandler(this::handleAddressBookLoaded);
+        if (logic.isAddressBookLoading()) {
+            resultDisplay.setFeedbackToUser(String.format(MESSAGE_LOADING, logic.getAddressBookFilePath()));
+        }
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -248,17 +259,7 @@ public class MainWindow extends UiPart<Stage> {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
-
-            if (commandResult.isExit()) {
-                handleExit();
-            }
-
-            setView(commandResult.getViewMode());
-
+            handleCommandResult(commandResult);
             return commandResult;
         } catch (CommandException | ParseException e) {
             logger.info("An error occurred while executing command: " + commandText);
@@ -266,4 +267,31 @@ public class MainWindow extends UiPart<Stage> {
             throw e;
         }
     }
+
+    /**
+     * Shows the results of the commands that were entered while the address book was loading, which have just
+     * been executed.
+     */
+    private void handleAddressBookLoaded(List<CommandResult> queuedCommandResults) {
+        if (queuedCommandResults.isEmpty()) {
+            resultDisplay.setFeedbackToUser("");
+            return;
+        }
+        resultDisplay.setFeedbackToUser(queuedCommandResults.stream()
+                .map(CommandResult::getFeedbackToUser)
+                .collect(Collectors.joining("\n")));
+        queuedCommandResults.forEach(this::handleCommandResult);
+    }
+
+    private void handleCommandResult(CommandResult commandResult) {
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+
+        setView(commandResult.getViewMode());
+    }
 }
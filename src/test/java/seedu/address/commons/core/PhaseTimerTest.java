@@ -0,0 +1,62 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class PhaseTimerTest {
+
+    private long nanos = 0;
+    private final PhaseTimer timer = new PhaseTimer(() -> nanos);
+
+    @Test
+    public void endPhase_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> timer.endPhase(null));
+    }
+
+    @Test
+    public void endPhase_consecutivePhases_eachTimedFromPreviousEnd() {
+        advanceMillis(5);
+        assertEquals(Duration.ofMillis(5), timer.endPhase("config"));
+        advanceMillis(20);
+        assertEquals(Duration.ofMillis(20), timer.endPhase("load"));
+
+        Map<String, Duration> expectedPhases = new LinkedHashMap<>();
+        expectedPhases.put("config", Duration.ofMillis(5));
+        expectedPhases.put("load", Duration.ofMillis(20));
+        assertEquals(expectedPhases, timer.getPhases());
+        assertEquals(Duration.ofMillis(25), timer.getTotal());
+    }
+
+    @Test
+    public void endPhase_samePhaseTwice_durationsAdded() {
+        advanceMillis(3);
+        timer.endPhase("ui");
+        advanceMillis(4);
+        timer.endPhase("load");
+        advanceMillis(2);
+        timer.endPhase("ui");
+
+        assertEquals(Duration.ofMillis(5), timer.getPhases().get("ui"));
+        assertEquals(Duration.ofMillis(9), timer.getTotal());
+    }
+
+    @Test
+    public void getSummary() {
+        advanceMillis(5);
+        timer.endPhase("config");
+        advanceMillis(115);
+        timer.endPhase("load");
+        assertEquals("120 ms (config 5 ms, load 115 ms)", timer.getSummary());
+    }
+
+    private void advanceMillis(long millis) {
+        nanos += TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
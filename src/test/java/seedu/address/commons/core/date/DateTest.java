@@ -1,9 +1,13 @@
 package seedu.address.commons.core.date;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDate;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 public class DateTest {
@@ -19,6 +23,12 @@ public class DateTest {
         assertThrows(IllegalArgumentException.class, () -> new Date(invalidDate));
     }
 
+    @Test
+    public void ofTrusted_validDate_equalsValidatedDate() {
+        assertEquals(new Date("2024-04-04"), Date.ofTrusted("2024-04-04"));
+        assertEquals(new Date("+10000-02-29"), Date.ofTrusted("+10000-02-29"));
+    }
+
     @Test
     public void isBefore_otherDateIsBefore_returnsTrue() {
         Date targetDate = new Date("2024-04-04");
@@ -33,6 +43,23 @@ public class DateTest {
         assertFalse(targetDate.isBefore(dateBeforeTargetDate));
     }
 
+    @Test
+    public void parse() {
+        assertThrows(NullPointerException.class, () -> Date.parse(null));
+
+        // invalid date -> returns empty
+        assertEquals(Optional.empty(), Date.parse(""));
+        assertEquals(Optional.empty(), Date.parse("2023-02-29"));
+        assertEquals(Optional.empty(), Date.parse("1900-01-01"));
+        assertEquals(Optional.empty(), Date.parse("2024-1-01"));
+        assertEquals(Optional.empty(), Date.parse("+2024-01-01"));
+
+        // valid date -> returns the date
+        assertEquals(LocalDate.of(2024, 2, 29), Date.parse("2024-02-29").get().value);
+        assertEquals(Optional.of(new Date("1900-01-02")), Date.parse("1900-01-02"));
+        assertEquals(LocalDate.of(12024, 1, 1), Date.parse("+12024-01-01").get().value);
+    }
+
     @Test
     public void isValidDate() {
         // null time
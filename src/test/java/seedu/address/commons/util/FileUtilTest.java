@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,47 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacedWithoutTempFileLeft() throws IOException {
+        Path file = testFolder.resolve("data").resolve("file.json");
+        FileUtil.writeToFileAtomically(file, outputStream -> outputStream.write(toBytes("old")));
+
+        FileUtil.writeToFileAtomically(file, outputStream -> outputStream.write(toBytes("new")));
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(file.getParent()).count());
+    }
+
+    @Test
+    public void writeToFileAtomically_writeFails_existingFileUnchanged() throws IOException {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, outputStream -> {
+            outputStream.write(toBytes("partial"));
+            throw new IOException("dummy IO exception");
+        }));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void writeToFileAtomically_writerThrowsRuntimeException_noTempFileLeft() throws IOException {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IllegalStateException.class, () -> FileUtil.writeToFileAtomically(file, outputStream -> {
+            outputStream.write(toBytes("partial"));
+            throw new IllegalStateException("dummy serialization bug");
+        }));
+
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    private static byte[] toBytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
 }
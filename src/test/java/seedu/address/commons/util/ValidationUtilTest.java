@@ -0,0 +1,45 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    @Test
+    public void isAlphanumeric_character() {
+        assertTrue(ValidationUtil.isAlphanumeric('0'));
+        assertTrue(ValidationUtil.isAlphanumeric('Z'));
+        assertTrue(ValidationUtil.isAlphanumeric('a'));
+
+        assertFalse(ValidationUtil.isAlphanumeric(' '));
+        assertFalse(ValidationUtil.isAlphanumeric('_'));
+        assertFalse(ValidationUtil.isAlphanumeric('\u00e9')); // non US-ASCII letter
+        assertFalse(ValidationUtil.isAlphanumeric('\u0663')); // non US-ASCII digit
+    }
+
+    @Test
+    public void isAlphanumeric_string() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAlphanumeric(null));
+
+        assertFalse(ValidationUtil.isAlphanumeric("")); // empty string
+        assertFalse(ValidationUtil.isAlphanumeric("ab c")); // space in between
+        assertTrue(ValidationUtil.isAlphanumeric("aB3"));
+    }
+
+    @Test
+    public void parseDigits() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.parseDigits(null, 0, 1));
+
+        assertEquals(-1, ValidationUtil.parseDigits("12", 1, 1)); // no digits
+        assertEquals(-1, ValidationUtil.parseDigits("1a", 0, 2)); // not a digit
+        assertEquals(-1, ValidationUtil.parseDigits("-1", 0, 2)); // sign
+        assertEquals(-1, ValidationUtil.parseDigits("1234567890123456789", 0, 19)); // too many digits
+
+        assertEquals(7, ValidationUtil.parseDigits("07", 0, 2));
+        assertEquals(2024, ValidationUtil.parseDigits("x2024-", 1, 5));
+    }
+}
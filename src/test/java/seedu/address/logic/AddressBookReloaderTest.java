@@ -0,0 +1,114 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class AddressBookReloaderTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path dataFilePath;
+    private StorageManager storage;
+    private Model model;
+    private AddressBookReloader reloader;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        dataFilePath = testFolder.resolve("addressBook.json");
+        storage = new StorageManager(new JsonAddressBookStorage(dataFilePath),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        new JsonAddressBookStorage(dataFilePath).saveAddressBook(getTypicalAddressBookWithAppointments());
+        model = new ModelManager(storage.readAddressBook().get(), new UserPrefs());
+        reloader = new AddressBookReloader(model, storage, Runnable::run);
+    }
+
+    @Test
+    public void reload_fileChangedElsewhere_changesApplied() throws Exception {
+        AddressBook changed = writeChangedDataFile();
+
+        reloader.reload();
+        assertEquals(changed, model.getAddressBook());
+
+        // Reloads keep applying while nothing is changed here
+        changed.deletePatientWithNric(ALICE.getNric());
+        writeDataFile(changed);
+        reloader.reload();
+        assertEquals(changed, model.getAddressBook());
+    }
+
+    @Test
+    public void reload_readOnlyCommandAfterReload_fileNotWritten() throws Exception {
+        writeChangedDataFile();
+        reloader.reload();
+        FileTime reloadedTime = Files.getLastModifiedTime(dataFilePath);
+        String reloadedContents = Files.readString(dataFilePath);
+
+        new LogicManager(model, storage).execute(ListCommand.COMMAND_WORD);
+
+        assertEquals(reloadedTime, Files.getLastModifiedTime(dataFilePath));
+        assertEquals(reloadedContents, Files.readString(dataFilePath));
+    }
+
+    @Test
+    public void reload_unsavedChangesHere_reloadSkipped() throws Exception {
+        model.deletePatientWithNric(ALICE.getNric());
+        AddressBook expected = new AddressBook(model.getAddressBook());
+        writeChangedDataFile();
+
+        reloader.reload();
+
+        assertEquals(expected, model.getAddressBook());
+    }
+
+    @Test
+    public void reload_fileLastSavedHere_reloadSkipped() throws Exception {
+        model.addPatient(HOON);
+        storage.saveAddressBook(model.getAddressBook());
+
+        // Change the contents without changing the time or size, so that the file still looks like the one saved here
+        FileTime savedTime = Files.getLastModifiedTime(dataFilePath);
+        String savedContents = Files.readString(dataFilePath);
+        String changedContents = savedContents.replace(HOON.getNric().toString(), "T0123456J");
+        assertNotEquals(savedContents, changedContents);
+        Files.writeString(dataFilePath, changedContents);
+        Files.setLastModifiedTime(dataFilePath, savedTime);
+        reloader.reload();
+
+        assertTrue(model.hasPatientWithNric(HOON.getNric()));
+    }
+
+    private AddressBook writeChangedDataFile() throws Exception {
+        AddressBook changed = getTypicalAddressBookWithAppointments();
+        changed.addPatient(HOON);
+        writeDataFile(changed);
+        return changed;
+    }
+
+    private void writeDataFile(AddressBook addressBook) throws Exception {
+        new JsonAddressBookStorage(dataFilePath).saveAddressBook(addressBook);
+        // Make sure the change is seen even if the file system only keeps whole seconds
+        Files.setLastModifiedTime(dataFilePath, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+    }
+}
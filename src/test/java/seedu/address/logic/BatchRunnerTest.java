@@ -0,0 +1,146 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PATIENT_NRIC_NOT_FOUND;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.DOB_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.DOB_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.MISSING_NRIC;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NRIC_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NRIC_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NRIC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NRIC_BOB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.BatchReport.LineFailure;
+import seedu.address.logic.commands.AddPatientCommand;
+import seedu.address.logic.commands.DeletePatientCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.patient.Nric;
+import seedu.address.model.patient.Patient;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+    private static final String ADD_AMY_COMMAND = AddPatientCommand.COMMAND_WORD + NAME_DESC_AMY + NRIC_DESC_AMY
+            + DOB_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+    private static final String ADD_BOB_COMMAND = AddPatientCommand.COMMAND_WORD + NAME_DESC_BOB + NRIC_DESC_BOB
+            + DOB_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("CLInic.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+    }
+
+    @Test
+    public void run_failingCommands_reportedWithLineNumbersAndRunContinues() throws Exception {
+        String deleteCommand = DeletePatientCommand.COMMAND_WORD + " " + PREFIX_NRIC + new Nric(MISSING_NRIC);
+        BatchReport report = run(0, "# Patients for tomorrow", "", "uicfhmowqewca", deleteCommand,
+                "  " + ADD_AMY_COMMAND);
+
+        assertEquals(3, report.getCommandCount());
+        assertEquals(2, report.getFailures().size());
+        LineFailure unknownCommand = report.getFailures().get(0);
+        assertEquals(3, unknownCommand.getLineNumber());
+        assertEquals("uicfhmowqewca", unknownCommand.getCommandText());
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, unknownCommand.getMessage());
+        assertEquals(4, report.getFailures().get(1).getLineNumber());
+        assertEquals(MESSAGE_PATIENT_NRIC_NOT_FOUND, report.getFailures().get(1).getMessage());
+
+        assertEquals(1, report.getSaveCount());
+        assertTrue(readSavedAddressBook().getPatientList().stream()
+                .anyMatch(patient -> patient.getNric().equals(new Nric(VALID_NRIC_AMY))));
+    }
+
+    @Test
+    public void run_checkpointInterval_savedAtCheckpointsAndAtEnd() throws Exception {
+        BatchReport report = run(2, ADD_AMY_COMMAND, ListCommand.COMMAND_WORD, ADD_BOB_COMMAND);
+
+        assertEquals(3, report.getCommandCount());
+        assertTrue(report.getFailures().isEmpty());
+        assertEquals(2, report.getSaveCount());
+        assertEquals(2, readSavedAddressBook().getPatientList().size());
+    }
+
+    @Test
+    public void run_noChanges_notSaved() throws Exception {
+        BatchReport report = run(1, ListCommand.COMMAND_WORD, "uicfhmowqewca");
+
+        assertEquals(0, report.getSaveCount());
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsNotRun() throws Exception {
+        BatchReport report = run(0, ADD_AMY_COMMAND, ExitCommand.COMMAND_WORD, ADD_BOB_COMMAND);
+
+        assertEquals(2, report.getCommandCount());
+        assertEquals(1, report.getSaveCount());
+        assertTrue(model.hasPatientWithNric(new Nric(VALID_NRIC_AMY)));
+        assertFalse(model.hasPatientWithNric(new Nric(VALID_NRIC_BOB)));
+    }
+
+    @Test
+    public void run_unexpectedError_reportedAndEarlierCommandsSaved() throws Exception {
+        IllegalStateException error = new IllegalStateException("Patient list is corrupted");
+        model = new ModelManager() {
+            @Override
+            public void addPatient(Patient patient) {
+                if (patient.getNric().equals(new Nric(VALID_NRIC_BOB))) {
+                    throw error;
+                }
+                super.addPatient(patient);
+            }
+        };
+        BatchReport report = run(0, ADD_AMY_COMMAND, ADD_BOB_COMMAND, ListCommand.COMMAND_WORD);
+
+        assertEquals(2, report.getCommandCount());
+        assertEquals(1, report.getFailures().size());
+        LineFailure failure = report.getFailures().get(0);
+        assertEquals(2, failure.getLineNumber());
+        assertEquals(String.format(BatchRunner.MESSAGE_UNEXPECTED_ERROR, error), failure.getMessage());
+        assertEquals(1, report.getSaveCount());
+        assertEquals(1, readSavedAddressBook().getPatientList().size());
+    }
+
+    private BatchReport run(int checkpointInterval, String... lines) throws Exception {
+        BufferedReader commands = new BufferedReader(new StringReader(String.join("\n", lines)));
+        return new BatchRunner(model, storage, checkpointInterval).run(commands);
+    }
+
+    private ReadOnlyAddressBook readSavedAddressBook() throws Exception {
+        return storage.readAddressBook().get();
+    }
+}
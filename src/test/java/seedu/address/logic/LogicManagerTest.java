@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PATIENT_NRIC_NOT_FOUND;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -13,10 +15,14 @@ import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.AMY;
+import static seedu.address.testutil.TypicalPatients.CARL;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,6 +32,7 @@ import seedu.address.logic.commands.AddPatientCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeletePatientCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.TransactionCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -37,6 +44,8 @@ import seedu.address.model.patient.Patient;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindAddressBookSaver;
+import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PatientBuilder;
 
 public class LogicManagerTest {
@@ -71,6 +80,16 @@ public class LogicManagerTest {
         assertCommandException(deleteCommand, MESSAGE_PATIENT_NRIC_NOT_FOUND);
     }
 
+    @Test
+    public void execute_transactionWithFailingCommand_nothingChangedOrSaved() {
+        String addCommand = AddPatientCommand.COMMAND_WORD + NAME_DESC_AMY + NRIC_DESC_AMY + DOB_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        String deleteCommand = DeletePatientCommand.COMMAND_WORD + " " + PREFIX_NRIC + new Nric(MISSING_NRIC);
+        assertCommandException(addCommand + " " + TransactionCommand.DELIMITER + " " + deleteCommand,
+                String.format(TransactionCommand.MESSAGE_COMMAND_FAILED, 2, 2, MESSAGE_PATIENT_NRIC_NOT_FOUND));
+        assertFalse(Files.exists(temporaryFolder.resolve("CLInic.json")));
+    }
+
     @Test
     public void execute_validCommand_success() throws Exception {
         String listCommand = ListCommand.COMMAND_WORD;
@@ -89,6 +108,83 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_storageThrowsIoExceptionInBackground_errorHandlerCalled() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(temporaryFolder.resolve("CLInic.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        WriteBehindAddressBookSaver addressBookSaver = new WriteBehindAddressBookSaver(storage);
+        logic = new LogicManager(model, storage, addressBookSaver);
+        List<String> errorMessages = new ArrayList<>();
+        logic.setSaveErrorHandler(errorMessages::add);
+
+        String addCommand = AddPatientCommand.COMMAND_WORD + NAME_DESC_AMY + NRIC_DESC_AMY + DOB_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        addressBookSaver.close();
+
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage())),
+                errorMessages);
+    }
+
+    @Test
+    public void execute_whileLoading_commandQueued() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("CLInic.json");
+        LogicManager logicManager = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        logicManager.startLoading();
+        assertTrue(logicManager.isAddressBookLoading());
+
+        String addCommand = AddPatientCommand.COMMAND_WORD + NAME_DESC_AMY + NRIC_DESC_AMY + DOB_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        CommandResult result = logicManager.execute(addCommand);
+
+        assertEquals(String.format(LogicManager.MESSAGE_COMMAND_QUEUED, addCommand), result.getFeedbackToUser());
+        assertFalse(model.hasPatientWithNric(AMY.getNric()));
+        assertFalse(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void execute_invalidCommandWhileLoading_throwsParseException() {
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.startLoading();
+        assertParseException("uicfhmowqewca", MESSAGE_UNKNOWN_COMMAND);
+    }
+
+    @Test
+    public void finishLoading_queuedCommands_executedInOrderAndSaved() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("CLInic.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookFilePath);
+        LogicManager logicManager = new LogicManager(model, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        List<CommandResult> queuedCommandResults = new ArrayList<>();
+        logicManager.setAddressBookLoadedHandler(queuedCommandResults::addAll);
+        logicManager.startLoading();
+
+        String addCommand = AddPatientCommand.COMMAND_WORD + NAME_DESC_AMY + NRIC_DESC_AMY + DOB_DESC_AMY
+                + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        String deleteCommand = DeletePatientCommand.COMMAND_WORD + " " + PREFIX_NRIC + new Nric(MISSING_NRIC);
+        logicManager.execute(addCommand);
+        logicManager.execute(deleteCommand);
+
+        ReadOnlyAddressBook loadedAddressBook = new AddressBookBuilder().withPatient(CARL).build();
+        model.setAddressBook(loadedAddressBook);
+        logicManager.finishLoading();
+
+        assertFalse(logicManager.isAddressBookLoading());
+        assertEquals(2, queuedCommandResults.size());
+        assertEquals(MESSAGE_PATIENT_NRIC_NOT_FOUND, queuedCommandResults.get(1).getFeedbackToUser());
+        assertTrue(model.hasPatientWithNric(AMY.getNric()));
+        assertTrue(model.hasPatientWithNric(CARL.getNric()));
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().get());
+    }
+
     @Test
     public void getFilteredPatientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPatientList().remove(0));
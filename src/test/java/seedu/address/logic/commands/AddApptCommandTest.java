@@ -10,7 +10,9 @@ import static seedu.address.testutil.TypicalAppointments.BOB_APPT;
 import static seedu.address.testutil.TypicalPatients.ALICE;
 
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -21,10 +23,12 @@ import seedu.address.commons.core.date.Date;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentArchive;
 import seedu.address.model.appointment.AppointmentView;
 import seedu.address.model.appointment.Time;
 import seedu.address.model.patient.Nric;
@@ -178,6 +182,11 @@ public class AddApptCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateAddressBook(ReadOnlyAddressBook newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -256,6 +265,11 @@ public class AddApptCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Appointment> findMatchingAppointment(Nric nric, Date date, Time startTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteAppointmentsWithNric(Nric targetNric) {
             throw new AssertionError("This method should not be called.");
@@ -280,6 +294,44 @@ public class AddApptCommandTest {
         public ObservableList<AppointmentView> getFilteredAppointmentViewList() {
             return null;
         }
+
+        @Override
+        public void setAppointmentArchive(AppointmentArchive appointmentArchive) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadArchivedAppointments(Date date) {
+        }
+
+        @Override
+        public void loadAllArchivedAppointments() {
+        }
+
+        @Override
+        public void setAddressBookHistory(AddressBookHistory addressBookHistory) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBookAt(Instant time) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollBackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
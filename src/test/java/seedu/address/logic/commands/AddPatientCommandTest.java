@@ -8,8 +8,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.ALICE;
 
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,10 +22,12 @@ import seedu.address.commons.core.date.Date;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentArchive;
 import seedu.address.model.appointment.AppointmentView;
 import seedu.address.model.appointment.Time;
 import seedu.address.model.patient.Nric;
@@ -135,6 +139,11 @@ public class AddPatientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateAddressBook(ReadOnlyAddressBook newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -215,6 +224,11 @@ public class AddPatientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Appointment> findMatchingAppointment(Nric nric, Date date, Time startTime) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteAppointmentsWithNric(Nric targetNric) {
             throw new AssertionError("This method should not be called.");
@@ -239,6 +253,46 @@ public class AddPatientCommandTest {
         public ObservableList<AppointmentView> getFilteredAppointmentViewList() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void setAppointmentArchive(AppointmentArchive appointmentArchive) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadArchivedAppointments(Date date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadAllArchivedAppointments() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setAddressBookHistory(AddressBookHistory addressBookHistory) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBookAt(Instant time) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollBackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
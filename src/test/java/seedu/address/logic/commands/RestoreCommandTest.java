@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertOverallCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.date.Date;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Time;
+
+public class RestoreCommandTest {
+
+    private static final Date DATE = new Date("2024-04-10");
+    private static final Time TIME = new Time("10:00");
+    private static final Instant INSTANT = LocalDateTime.of(DATE.value, TIME.value)
+            .atZone(ZoneId.systemDefault()).toInstant();
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RestoreCommand(null, TIME));
+        assertThrows(NullPointerException.class, () -> new RestoreCommand(DATE, null));
+    }
+
+    @Test
+    public void execute_historyAtTime_addressBookRestored() {
+        Model model = new ModelManager();
+        AddressBook savedAddressBook = getTypicalAddressBookWithAppointments();
+        model.setAddressBookHistory(time -> {
+            assertEquals(INSTANT, time);
+            return Optional.of(savedAddressBook);
+        });
+
+        Model expectedModel = new ModelManager(savedAddressBook, new UserPrefs());
+        assertOverallCommandSuccess(new RestoreCommand(DATE, TIME), model,
+                String.format(RestoreCommand.MESSAGE_RESTORE_SUCCESS, DATE, TIME), expectedModel);
+    }
+
+    @Test
+    public void execute_noHistory_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBookWithAppointments(), new UserPrefs());
+        assertCommandFailure(new RestoreCommand(DATE, TIME), model,
+                String.format(RestoreCommand.MESSAGE_NO_HISTORY_AT_TIME, DATE, TIME));
+    }
+
+    @Test
+    public void execute_historyUnreadable_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBookWithAppointments(), new UserPrefs());
+        DataLoadingException error = new DataLoadingException(new IOException("unreadable"));
+        model.setAddressBookHistory(time -> {
+            throw error;
+        });
+        assertCommandFailure(new RestoreCommand(DATE, TIME), model,
+                String.format(RestoreCommand.MESSAGE_HISTORY_LOADING_FAILURE, error.getMessage()));
+    }
+
+    @Test
+    public void equals() {
+        RestoreCommand restoreCommand = new RestoreCommand(DATE, TIME);
+
+        // same object -> returns true
+        assertTrue(restoreCommand.equals(restoreCommand));
+
+        // same values -> returns true
+        assertTrue(restoreCommand.equals(new RestoreCommand(new Date("2024-04-10"), new Time("10:00"))));
+
+        // different types -> returns false
+        assertFalse(restoreCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(restoreCommand.equals(null));
+
+        // different date -> returns false
+        assertFalse(restoreCommand.equals(new RestoreCommand(new Date("2024-04-11"), TIME)));
+
+        // different time -> returns false
+        assertFalse(restoreCommand.equals(new RestoreCommand(DATE, new Time("11:00"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RestoreCommand restoreCommand = new RestoreCommand(DATE, TIME);
+        String expected = RestoreCommand.class.getCanonicalName() + "{date=" + DATE + ", time=" + TIME + "}";
+        assertEquals(expected, restoreCommand.toString());
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PATIENT_NRIC_NOT_FOUND;
+import static seedu.address.logic.commands.CommandTestUtil.MISSING_NRIC;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.AMY_APPT;
+import static seedu.address.testutil.TypicalPatients.AMY;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.patient.Nric;
+import seedu.address.ui.ViewMode;
+
+public class TransactionCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_allCommandsSucceed_changesKept() throws Exception {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String expectedMessage = String.join("\n",
+                new ClearCommand().execute(expectedModel).getFeedbackToUser(),
+                new AddPatientCommand(AMY).execute(expectedModel).getFeedbackToUser(),
+                new AddApptCommand(AMY_APPT).execute(expectedModel).getFeedbackToUser());
+        TransactionCommand transactionCommand = new TransactionCommand(
+                List.of(new ClearCommand(), new AddPatientCommand(AMY), new AddApptCommand(AMY_APPT)));
+
+        assertCommandSuccess(transactionCommand, model, new CommandResult(expectedMessage, ViewMode.OVERALL),
+                expectedModel);
+        assertEquals(1, model.getFilteredAppointmentViewList().size());
+    }
+
+    @Test
+    public void execute_laterCommandFails_earlierChangesRolledBack() {
+        TransactionCommand transactionCommand = new TransactionCommand(List.of(new ClearCommand(),
+                new AddPatientCommand(AMY), new DeletePatientCommand(new Nric(MISSING_NRIC))));
+        String expectedMessage = String.format(TransactionCommand.MESSAGE_COMMAND_FAILED, 3, 3,
+                MESSAGE_PATIENT_NRIC_NOT_FOUND);
+
+        assertCommandFailure(transactionCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_commandFails_transactionEnded() {
+        TransactionCommand transactionCommand = new TransactionCommand(
+                List.of(new DeletePatientCommand(new Nric(MISSING_NRIC))));
+        assertThrows(CommandException.class, () -> transactionCommand.execute(model));
+
+        // a new transaction can begin
+        model.beginTransaction();
+        model.commitTransaction();
+    }
+
+    @Test
+    public void execute_viewModes_combinedInOrder() throws Exception {
+        assertEquals(ViewMode.DAY, new TransactionCommand(List.of(new ListCommand(), new SwitchViewCommand()))
+                .execute(model).getViewMode());
+        assertEquals(ViewMode.ANY, new TransactionCommand(List.of(new SwitchViewCommand(), new SwitchViewCommand()))
+                .execute(model).getViewMode());
+        assertEquals(ViewMode.SWITCH, new TransactionCommand(List.of(new NoOpCommand(),
+                new SwitchViewCommand())).execute(model).getViewMode());
+    }
+
+    @Test
+    public void execute_exitCommand_exitAfterAllCommands() throws Exception {
+        CommandResult result = new TransactionCommand(List.of(new ExitCommand(), new AddPatientCommand(AMY)))
+                .execute(new ModelManager());
+        assertTrue(result.isExit());
+        assertFalse(result.isShowHelp());
+    }
+
+    @Test
+    public void equals() {
+        TransactionCommand transactionCommand = new TransactionCommand(List.of(new AddPatientCommand(AMY)));
+
+        // same object -> returns true
+        assertTrue(transactionCommand.equals(transactionCommand));
+
+        // same values -> returns true
+        assertTrue(transactionCommand.equals(new TransactionCommand(List.of(new AddPatientCommand(AMY)))));
+
+        // different types -> returns false
+        assertFalse(transactionCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(transactionCommand.equals(null));
+
+        // different commands -> returns false
+        assertFalse(transactionCommand.equals(new TransactionCommand(List.of(new AddApptCommand(AMY_APPT)))));
+    }
+
+    @Test
+    public void hashCodeMethod() {
+        TransactionCommand transactionCommand = new TransactionCommand(List.of(new AddPatientCommand(AMY)));
+
+        // equal commands -> same hash code
+        assertEquals(transactionCommand.hashCode(),
+                new TransactionCommand(List.of(new AddPatientCommand(AMY))).hashCode());
+    }
+
+    /**
+     * A command that changes nothing and leaves the view as it is.
+     */
+    private static class NoOpCommand extends Command {
+        @Override
+        public CommandResult execute(Model model) {
+            return new CommandResult("");
+        }
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_IN_TRANSACTION;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
@@ -13,6 +16,7 @@ import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.date.Date;
 import seedu.address.logic.commands.AddApptCommand;
 import seedu.address.logic.commands.AddPatientCommand;
 import seedu.address.logic.commands.ClearCommand;
@@ -24,9 +28,12 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindPatientCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RestoreCommand;
 import seedu.address.logic.commands.SwitchViewCommand;
+import seedu.address.logic.commands.TransactionCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.Time;
 import seedu.address.model.patient.NameContainsKeywordsPredicate;
 import seedu.address.model.patient.NricContainsMatchPredicate;
 import seedu.address.model.patient.Patient;
@@ -75,6 +82,39 @@ public class AddressBookParserTest {
         assertEquals(new AddApptCommand(appointment), command);
     }
 
+    @Test
+    public void parseCommand_restore() throws Exception {
+        RestoreCommand command = (RestoreCommand) parser.parseCommand(RestoreCommand.COMMAND_WORD + " "
+                + PREFIX_DATE + "2024-04-10 " + PREFIX_START_TIME + "10:00");
+        assertEquals(new RestoreCommand(new Date("2024-04-10"), new Time("10:00")), command);
+    }
+
+    @Test
+    public void parseCommand_transaction() throws Exception {
+        Patient patient = new PatientBuilder().build();
+        Appointment appointment = new AppointmentBuilder().build();
+        String delimiter = " " + TransactionCommand.DELIMITER + " ";
+        TransactionCommand command = (TransactionCommand) parser.parseCommand(PatientUtil.getAddPatientCommand(patient)
+                + delimiter + AppointmentUtil.getAddApptCommand(appointment));
+        assertEquals(new TransactionCommand(List.of(new AddPatientCommand(patient), new AddApptCommand(appointment))),
+                command);
+
+        // delimiter not surrounded by whitespace -> not a transaction
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand(
+                ListCommand.COMMAND_WORD + TransactionCommand.DELIMITER + ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_transactionWithInvalidCommand_throwsParseException() {
+        String delimiter = " " + TransactionCommand.DELIMITER + " ";
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_IN_TRANSACTION, 2, 3,
+                MESSAGE_UNKNOWN_COMMAND), () -> parser.parseCommand(ListCommand.COMMAND_WORD + delimiter
+                + "unknownCommand" + delimiter + ListCommand.COMMAND_WORD));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_IN_TRANSACTION, 2, 2,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE)), () -> parser.parseCommand(
+                ListCommand.COMMAND_WORD + " " + TransactionCommand.DELIMITER));
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -4,6 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEW_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import org.junit.jupiter.api.Test;
 
@@ -136,6 +140,26 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingCharacters_eachRecognised() {
+        String argsString = " t/tag to/10:00 newt/new tag note/t/ to/ not a tag";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, PREFIX_TAG, "tag");
+        assertArgumentPresent(argMultimap, PREFIX_END_TIME, "10:00", "not a tag");
+        assertArgumentPresent(argMultimap, PREFIX_NEW_TAG, "new tag");
+        assertArgumentPresent(argMultimap, PREFIX_NOTE, "t/");
+    }
+
+    @Test
+    public void tokenize_prefixAfterOtherWhitespace_notRecognised() {
+        String argsString = "preamble\tp/value\n-t value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertPreamblePresent(argMultimap, argsString);
+        assertArgumentAbsent(argMultimap, pSlash);
+        assertArgumentAbsent(argMultimap, dashT);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
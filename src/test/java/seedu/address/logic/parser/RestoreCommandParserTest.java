@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.DATE_DESC_APPOINTMENT_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_DATE_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_TIME_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.NRIC_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
+import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
+import static seedu.address.logic.commands.CommandTestUtil.START_TIME_DESC_APPOINTMENT_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_APPOINTMENT_DATE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_APPOINTMENT_START_TIME_BOB;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.date.Date;
+import seedu.address.logic.commands.RestoreCommand;
+import seedu.address.model.appointment.Time;
+
+public class RestoreCommandParserTest {
+
+    private final RestoreCommandParser parser = new RestoreCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        RestoreCommand expectedCommand = new RestoreCommand(new Date(VALID_APPOINTMENT_DATE_BOB),
+                new Time(VALID_APPOINTMENT_START_TIME_BOB));
+
+        // whitespace only preamble
+        assertParseSuccess(parser, PREAMBLE_WHITESPACE + DATE_DESC_APPOINTMENT_BOB + START_TIME_DESC_APPOINTMENT_BOB,
+                expectedCommand);
+    }
+
+    @Test
+    public void parse_compulsoryFieldMissing_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreCommand.MESSAGE_USAGE);
+
+        // missing date prefix
+        assertParseFailure(parser, START_TIME_DESC_APPOINTMENT_BOB, expectedMessage);
+
+        // missing time prefix
+        assertParseFailure(parser, DATE_DESC_APPOINTMENT_BOB, expectedMessage);
+
+        // all prefixes missing
+        assertParseFailure(parser, VALID_APPOINTMENT_DATE_BOB + VALID_APPOINTMENT_START_TIME_BOB, expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreCommand.MESSAGE_USAGE);
+
+        // invalid date
+        assertParseFailure(parser, INVALID_DATE_DESC + START_TIME_DESC_APPOINTMENT_BOB, Date.MESSAGE_CONSTRAINTS);
+
+        // invalid time
+        assertParseFailure(parser, DATE_DESC_APPOINTMENT_BOB + INVALID_TIME_DESC, Time.MESSAGE_CONSTRAINTS);
+
+        // unexpected prefix
+        assertParseFailure(parser, NRIC_DESC_BOB + DATE_DESC_APPOINTMENT_BOB + START_TIME_DESC_APPOINTMENT_BOB,
+                expectedMessage);
+
+        // non-empty preamble
+        assertParseFailure(parser, PREAMBLE_NON_EMPTY + DATE_DESC_APPOINTMENT_BOB + START_TIME_DESC_APPOINTMENT_BOB,
+                expectedMessage);
+    }
+}
@@ -7,17 +7,27 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAppointments.ALICE_APPT;
+import static seedu.address.testutil.TypicalAppointments.ALICE_APPT_TRUE;
+import static seedu.address.testutil.TypicalAppointments.BENSON_APPT;
+import static seedu.address.testutil.TypicalAppointments.HOON_APPT;
 import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
 import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.CARL;
+import static seedu.address.testutil.TypicalPatients.HOON;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.appointment.AppointmentView;
@@ -63,6 +73,45 @@ public class AddressBookTest {
         assertThrows(DuplicatePatientException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void updateData_changedData_onlyChangesReported() {
+        addressBook.resetData(getTypicalAddressBookWithAppointments());
+        AddressBook newData = getTypicalAddressBookWithAppointments();
+        Patient editedBenson = new PatientBuilder(BENSON).withPhone("91234567").build();
+        newData.setPatient(BENSON, editedBenson);
+        newData.deletePatientWithNric(CARL.getNric());
+        newData.addPatient(HOON);
+        newData.addAppointment(HOON_APPT);
+        newData.setAppointment(ALICE_APPT, ALICE_APPT_TRUE);
+        newData.deleteAppointment(BENSON_APPT);
+
+        List<Object> added = new ArrayList<>();
+        List<Object> removed = new ArrayList<>();
+        ListChangeListener<Object> listener = change -> {
+            while (change.next()) {
+                added.addAll(change.getAddedSubList());
+                removed.addAll(change.getRemoved());
+            }
+        };
+        addressBook.getPatientList().addListener(listener);
+        addressBook.getAppointmentList().addListener(listener);
+        addressBook.updateData(newData);
+
+        assertEquals(newData, addressBook);
+        assertEquals(Set.of(editedBenson, HOON, ALICE_APPT_TRUE, HOON_APPT), new HashSet<>(added));
+        assertEquals(Set.of(BENSON, CARL, ALICE_APPT, BENSON_APPT), new HashSet<>(removed));
+    }
+
+    @Test
+    public void updateData_sameData_versionUnchanged() {
+        addressBook.resetData(getTypicalAddressBookWithAppointments());
+        long version = addressBook.getModificationVersion();
+
+        addressBook.updateData(getTypicalAddressBookWithAppointments());
+
+        assertEquals(version, addressBook.getModificationVersion());
+    }
+
     @Test
     public void hasPatientWithNric_nullPatient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPatientWithNric(null));
@@ -123,6 +172,28 @@ public class AddressBookTest {
         assertTrue(addressBook.hasAppointment(editedAliceAppt));
     }
 
+    @Test
+    public void setPatient_nameEdited_appointmentViewsRenamed() {
+        addressBook.addPatient(ALICE);
+        addressBook.addAppointment(ALICE_APPT);
+        Patient renamedAlice = new PatientBuilder(ALICE).withName("Alice Tan").build();
+
+        addressBook.setPatient(ALICE, renamedAlice);
+
+        assertEquals(List.of(new AppointmentView(renamedAlice.getName(), ALICE_APPT)),
+                addressBook.getAppointmentViewList());
+    }
+
+    @Test
+    public void deleteAppointment_appointmentInAddressBook_viewRemoved() {
+        addressBook.addPatient(ALICE);
+        addressBook.addAppointment(ALICE_APPT);
+
+        addressBook.deleteAppointment(ALICE_APPT);
+
+        assertEquals(Collections.emptyList(), addressBook.getAppointmentViewList());
+    }
+
     @Test
     public void isValidApptForPatient_dobAfterApptDate_returnsTrue() {
         addressBook.addPatient(ALICE);
@@ -139,6 +210,29 @@ public class AddressBookTest {
         assertFalse(addressBook.isValidApptForPatient(editedAliceAppt));
     }
 
+    @Test
+    public void getModificationVersion_contentsChanged_versionIncreased() {
+        long initialVersion = addressBook.getModificationVersion();
+        addressBook.addPatient(ALICE);
+        long versionAfterAdd = addressBook.getModificationVersion();
+        assertTrue(versionAfterAdd > initialVersion);
+
+        addressBook.deleteAppointmentsWithNric(ALICE.getNric());
+        assertTrue(addressBook.getModificationVersion() > versionAfterAdd);
+    }
+
+    @Test
+    public void getModificationVersion_onlyQueried_versionUnchanged() {
+        addressBook.addPatient(ALICE);
+        long version = addressBook.getModificationVersion();
+
+        addressBook.hasPatientWithNric(ALICE.getNric());
+        addressBook.getPatientWithNric(ALICE.getNric());
+        addressBook.hasAppointment(ALICE_APPT);
+
+        assertEquals(version, addressBook.getModificationVersion());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{patients=" + addressBook.getPatientList() + "}";
@@ -175,5 +269,10 @@ public class AddressBookTest {
             return appointmentView;
         }
 
+        @Override
+        public long getModificationVersion() {
+            return 0;
+        }
+
     }
 }
@@ -13,12 +13,18 @@ import static seedu.address.testutil.TypicalPatients.BOB;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentArchive;
 import seedu.address.model.patient.NameContainsKeywordsPredicate;
 import seedu.address.model.patient.Nric;
 import seedu.address.model.patient.Patient;
@@ -384,6 +390,124 @@ public class ModelManagerTest {
         assertTrue(result);
     }
 
+    @Test
+    public void commitTransaction_changesMade_changesKept() {
+        modelManager.addPatient(ALICE);
+        modelManager.beginTransaction();
+        modelManager.addPatient(BOB);
+        modelManager.addAppointment(BOB_APPT);
+        modelManager.commitTransaction();
+
+        assertTrue(modelManager.hasPatientWithNric(BOB.getNric()));
+        assertTrue(modelManager.hasAppointment(BOB_APPT));
+        assertEquals(2, modelManager.getFilteredPatientList().size());
+        assertEquals(1, modelManager.getFilteredAppointmentViewList().size());
+    }
+
+    @Test
+    public void rollBackTransaction_changesMade_addressBookRestored() {
+        modelManager.addPatient(ALICE);
+        modelManager.addAppointment(ALICE_APPT);
+        AddressBook expectedAddressBook = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.beginTransaction();
+        modelManager.addPatient(BOB);
+        modelManager.addAppointment(BOB_APPT);
+        modelManager.deletePatientWithNric(ALICE.getNric());
+        modelManager.rollBackTransaction();
+
+        assertEquals(expectedAddressBook, modelManager.getAddressBook());
+        assertEquals(1, modelManager.getFilteredPatientList().size());
+        assertEquals(1, modelManager.getFilteredAppointmentViewList().size());
+    }
+
+    @Test
+    public void rollBackTransaction_changesMade_onlyChangesRestored() {
+        modelManager.addPatient(ALICE);
+        modelManager.addAppointment(ALICE_APPT);
+
+        modelManager.beginTransaction();
+        modelManager.addPatient(BOB);
+        long version = modelManager.getAddressBook().getModificationVersion();
+        List<Object> removed = new ArrayList<>();
+        List<Object> added = new ArrayList<>();
+        ListChangeListener<Object> listener = change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        };
+        modelManager.getAddressBook().getPatientList().addListener(listener);
+        modelManager.getAddressBook().getAppointmentList().addListener(listener);
+        modelManager.rollBackTransaction();
+
+        assertEquals(List.of(BOB), removed);
+        assertTrue(added.isEmpty());
+        assertEquals(version + 1, modelManager.getAddressBook().getModificationVersion());
+    }
+
+    @Test
+    public void updateFilteredPatientList_duringTransaction_appliedWhenRead() {
+        modelManager.addPatient(ALICE);
+        modelManager.addPatient(BENSON);
+        ObservableList<Patient> filteredPatients = modelManager.getFilteredPatientList();
+        String[] keywords = ALICE.getName().fullName.split("\\s+");
+
+        modelManager.beginTransaction();
+        modelManager.updateFilteredPatientList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+        assertEquals(2, filteredPatients.size());
+        assertEquals(1, modelManager.getFilteredPatientList().size());
+        modelManager.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+        modelManager.rollBackTransaction();
+
+        assertEquals(2, filteredPatients.size());
+    }
+
+    @Test
+    public void rollBackTransaction_archivedAppointmentsLoaded_archivedAppointmentsKept() throws Exception {
+        StubAppointmentArchive archive = new StubAppointmentArchive(ALICE_APPT);
+        modelManager.setAppointmentArchive(archive);
+        modelManager.addPatient(ALICE);
+
+        modelManager.beginTransaction();
+        modelManager.addPatient(BOB);
+        modelManager.loadArchivedAppointments(ALICE_APPT.getDate());
+        modelManager.rollBackTransaction();
+
+        assertFalse(modelManager.hasPatientWithNric(BOB.getNric()));
+        assertTrue(modelManager.hasAppointment(ALICE_APPT));
+    }
+
+    @Test
+    public void setAddressBook_duringTransaction_archiveDiscardedOnlyOnCommit() throws Exception {
+        StubAppointmentArchive archive = new StubAppointmentArchive(ALICE_APPT);
+        modelManager.setAppointmentArchive(archive);
+
+        modelManager.beginTransaction();
+        modelManager.setAddressBook(new AddressBookBuilder().withPatient(ALICE).build());
+        modelManager.loadAllArchivedAppointments();
+        assertFalse(modelManager.hasAppointment(ALICE_APPT));
+        modelManager.rollBackTransaction();
+        assertFalse(archive.isDiscarded);
+
+        modelManager.beginTransaction();
+        modelManager.setAddressBook(new AddressBook());
+        modelManager.commitTransaction();
+        assertTrue(archive.isDiscarded);
+    }
+
+    @Test
+    public void beginTransaction_transactionAlreadyBegun_throwsIllegalStateException() {
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, () -> modelManager.beginTransaction());
+    }
+
+    @Test
+    public void commitTransaction_noTransaction_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitTransaction());
+        assertThrows(IllegalStateException.class, () -> modelManager.rollBackTransaction());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPatient(ALICE).withPatient(BENSON).build();
@@ -420,4 +544,34 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    /**
+     * An appointment archive that hands out its appointments once, whatever month is asked for.
+     */
+    private static class StubAppointmentArchive implements AppointmentArchive {
+        private final List<Appointment> appointments;
+        private boolean isDiscarded;
+
+        StubAppointmentArchive(Appointment... appointments) {
+            this.appointments = new ArrayList<>(Arrays.asList(appointments));
+        }
+
+        @Override
+        public List<Appointment> loadAppointmentsInMonthOf(LocalDate date, long addressBookVersion) {
+            return loadAllAppointments(addressBookVersion);
+        }
+
+        @Override
+        public List<Appointment> loadAllAppointments(long addressBookVersion) {
+            List<Appointment> loaded = new ArrayList<>(appointments);
+            appointments.clear();
+            return loaded;
+        }
+
+        @Override
+        public void discardUnloadedAppointments() {
+            isDiscarded = true;
+            appointments.clear();
+        }
+    }
 }
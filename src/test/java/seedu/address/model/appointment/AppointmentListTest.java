@@ -8,12 +8,15 @@ import static seedu.address.testutil.TypicalAppointments.ALICE_APPT;
 import static seedu.address.testutil.TypicalAppointments.ALICE_APPT_1;
 import static seedu.address.testutil.TypicalAppointments.BOB_APPT;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.date.Date;
 import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
 import seedu.address.model.appointment.exceptions.DuplicateAppointmentException;
@@ -230,6 +233,39 @@ public class AppointmentListTest {
         );
     }
 
+    @Test
+    public void findMatchingAppointment_existingAppointment_returnsAppointment() {
+        appointmentList.add(ALICE_APPT);
+        assertEquals(Optional.of(ALICE_APPT), appointmentList.findMatchingAppointment(
+                ALICE_APPT.getNric(), ALICE_APPT.getDate(), ALICE_APPT.getStartTime()));
+    }
+
+    @Test
+    public void findMatchingAppointment_afterSetAppointment_returnsEditedAppointment() {
+        appointmentList.add(ALICE_APPT);
+        Appointment editedAppt = new AppointmentBuilder(ALICE_APPT).withStartTime("15:00").build();
+        appointmentList.setAppointment(ALICE_APPT, editedAppt);
+
+        assertEquals(Optional.empty(), appointmentList.findMatchingAppointment(
+                ALICE_APPT.getNric(), ALICE_APPT.getDate(), ALICE_APPT.getStartTime()));
+        assertEquals(Optional.of(editedAppt), appointmentList.findMatchingAppointment(
+                editedAppt.getNric(), editedAppt.getDate(), editedAppt.getStartTime()));
+    }
+
+    @Test
+    public void findMatchingAppointment_afterDeleteAppointmentsWithNric_returnsEmpty() {
+        appointmentList.add(ALICE_APPT);
+        appointmentList.deleteAppointmentsWithNric(ALICE_APPT.getNric());
+        assertEquals(Optional.empty(), appointmentList.findMatchingAppointment(
+                ALICE_APPT.getNric(), ALICE_APPT.getDate(), ALICE_APPT.getStartTime()));
+    }
+
+    @Test
+    public void findMatchingAppointment_nullInput_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> appointmentList.findMatchingAppointment(
+                null, null, null));
+    }
+
     @Test
     public void deleteAppointmentsWithNric_validNric_appointmentsRemoved() {
         appointmentList.add(ALICE_APPT);
@@ -369,6 +405,89 @@ public class AppointmentListTest {
         assertTrue(appointmentList.hasOverlappingAppointmentExcluding(targetAppt, editedAppt));
     }
 
+    @Test
+    public void samePatientHasOverlappingAppointment_overlapWithLaterAppointmentOnSameDate_returnsTrue() {
+        Appointment morningAppt = new AppointmentBuilder().withStartTime("09:00").withEndTime("10:00").build();
+        Appointment afternoonAppt = new AppointmentBuilder().withStartTime("14:00").withEndTime("15:00").build();
+        Appointment overlappingAppt = new AppointmentBuilder().withStartTime("14:30").withEndTime("16:00").build();
+        appointmentList.add(morningAppt);
+        appointmentList.add(afternoonAppt);
+
+        assertTrue(appointmentList.samePatientHasOverlappingAppointment(overlappingAppt));
+    }
+
+    @Test
+    public void samePatientHasOverlappingAppointment_removedAppointment_returnsFalse() {
+        Appointment appointment = new AppointmentBuilder().withStartTime("09:00").withEndTime("10:00").build();
+        appointmentList.add(appointment);
+        appointmentList.remove(appointment);
+
+        assertFalse(appointmentList.samePatientHasOverlappingAppointment(appointment));
+    }
+
+    @Test
+    public void hasOverlappingAppointmentExcluding_overlapWithEarlierAppointmentOnly_returnsTrue() {
+        Appointment earlyAppt = new AppointmentBuilder().withStartTime("09:00").withEndTime("11:00").build();
+        Appointment targetAppt = new AppointmentBuilder().withStartTime("11:00").withEndTime("12:00").build();
+        Appointment editedAppt = new AppointmentBuilder(targetAppt).withStartTime("10:30").build();
+        appointmentList.add(earlyAppt);
+        appointmentList.add(targetAppt);
+
+        assertTrue(appointmentList.hasOverlappingAppointmentExcluding(targetAppt, editedAppt));
+    }
+
+    @Test
+    public void setAppointments_listWithSeveralDuplicateAppointments_reportsEveryDuplicate() {
+        Appointment editedAliceAppt = new AppointmentBuilder(ALICE_APPT).withNote("Rescheduled").build();
+        List<Appointment> listWithDuplicateAppointments =
+                Arrays.asList(ALICE_APPT, BOB_APPT, editedAliceAppt, BOB_APPT, ALICE_APPT);
+        String expectedMessage = "Operation would result in duplicate appointments: "
+                + ALICE_APPT.getNric() + " on " + ALICE_APPT.getDate() + " from " + ALICE_APPT.getTimePeriod() + ", "
+                + BOB_APPT.getNric() + " on " + BOB_APPT.getDate() + " from " + BOB_APPT.getTimePeriod();
+        assertThrows(DuplicateAppointmentException.class, expectedMessage, () ->
+                appointmentList.setAppointments(listWithDuplicateAppointments));
+    }
+
+    @Test
+    public void setAppointments_listWithOverlappingAppointments_throwsOverlappingAppointmentException() {
+        Appointment appointment1 = new AppointmentBuilder().withStartTime("09:00").withEndTime("12:00").build();
+        Appointment appointment2 = new AppointmentBuilder().withStartTime("11:00").withEndTime("13:00").build();
+        List<Appointment> listWithOverlappingAppointments = Arrays.asList(appointment1, appointment2);
+        assertThrows(OverlappingAppointmentException.class, () ->
+                appointmentList.setAppointments(listWithOverlappingAppointments));
+    }
+
+    @Test
+    public void addAll_newAppointments_addedAfterExistingOnesInOneChange() {
+        appointmentList.add(ALICE_APPT);
+        List<Integer> changeCount = new ArrayList<>();
+        appointmentList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Appointment>) change -> changeCount.add(1));
+
+        appointmentList.addAll(Arrays.asList(BOB_APPT, ALICE_APPT_1));
+
+        assertEquals(Arrays.asList(ALICE_APPT, BOB_APPT, ALICE_APPT_1), appointmentList.asUnmodifiableObservableList());
+        assertTrue(appointmentList.contains(ALICE_APPT_1));
+        assertEquals(1, changeCount.size());
+    }
+
+    @Test
+    public void addAll_appointmentAlreadyInList_throwsDuplicateAppointmentException() {
+        appointmentList.add(ALICE_APPT);
+        assertThrows(DuplicateAppointmentException.class, () ->
+                appointmentList.addAll(Arrays.asList(BOB_APPT, ALICE_APPT)));
+        assertEquals(Collections.singletonList(ALICE_APPT), appointmentList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_overlappingAppointments_throwsOverlappingAppointmentException() {
+        Appointment appointment1 = new AppointmentBuilder().withStartTime("09:00").withEndTime("12:00").build();
+        Appointment appointment2 = new AppointmentBuilder().withStartTime("11:00").withEndTime("13:00").build();
+        assertThrows(OverlappingAppointmentException.class, () ->
+                appointmentList.addAll(Arrays.asList(appointment1, appointment2)));
+        assertTrue(appointmentList.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(appointmentList.asUnmodifiableObservableList().toString(), appointmentList.toString());
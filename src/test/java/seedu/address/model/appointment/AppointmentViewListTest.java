@@ -2,17 +2,31 @@ package seedu.address.model.appointment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAppointments.ALICE_APPT;
+import static seedu.address.testutil.TypicalAppointments.ALICE_APPT_1;
+import static seedu.address.testutil.TypicalAppointments.ALICE_APPT_TRUE;
+import static seedu.address.testutil.TypicalAppointments.ALICE_APPT_VIEW;
+import static seedu.address.testutil.TypicalAppointments.ALICE_APPT_VIEW_1;
+import static seedu.address.testutil.TypicalAppointments.BENSON_APPT_VIEW;
 import static seedu.address.testutil.TypicalAppointments.BOB_APPT;
 import static seedu.address.testutil.TypicalPatients.ALICE;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.appointment.exceptions.AppointmentNotFoundException;
+import seedu.address.model.patient.Name;
 import seedu.address.model.patient.UniquePatientList;
+import seedu.address.testutil.AppointmentBuilder;
 
 public class AppointmentViewListTest {
 
@@ -78,6 +92,133 @@ public class AppointmentViewListTest {
         assertTrue(appointmentListView.asUnmodifiableObservableList().isEmpty());
     }
 
+    @Test
+    public void add_appointmentViews_keptInDateTimeOrder() {
+        appointmentListView.add(ALICE_APPT_VIEW_1);
+        appointmentListView.add(ALICE_APPT_VIEW);
+        appointmentListView.add(BENSON_APPT_VIEW);
+
+        assertEquals(Arrays.asList(ALICE_APPT_VIEW, BENSON_APPT_VIEW, ALICE_APPT_VIEW_1),
+                appointmentListView.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_existingAppointment_removesView() {
+        appointmentListView.add(ALICE_APPT_VIEW);
+        appointmentListView.add(BENSON_APPT_VIEW);
+        appointmentListView.remove(ALICE_APPT);
+
+        assertEquals(List.of(BENSON_APPT_VIEW), appointmentListView.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_appointmentNotInList_throwsAppointmentNotFoundException() {
+        appointmentListView.add(ALICE_APPT_VIEW);
+        assertThrows(AppointmentNotFoundException.class, () -> appointmentListView.remove(ALICE_APPT_TRUE));
+    }
+
+    @Test
+    public void setAppointmentView_sameTiming_replacedInPlaceWithSingleChange() {
+        appointmentListView.add(ALICE_APPT_VIEW);
+        appointmentListView.add(BENSON_APPT_VIEW);
+        AppointmentView markedView = new AppointmentView(ALICE_APPT_VIEW.getName(), ALICE_APPT_TRUE);
+        int[] changeCount = new int[1];
+        appointmentListView.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<AppointmentView>) change -> changeCount[0]++);
+
+        appointmentListView.setAppointmentView(ALICE_APPT, markedView);
+
+        assertEquals(Arrays.asList(markedView, BENSON_APPT_VIEW), appointmentListView.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void setAppointmentView_differentDate_movedToSortedPosition() {
+        appointmentListView.add(ALICE_APPT_VIEW);
+        appointmentListView.add(BENSON_APPT_VIEW);
+        Appointment movedAppt = new AppointmentBuilder(ALICE_APPT).withDate("2024-03-05").build();
+        AppointmentView movedView = new AppointmentView(ALICE_APPT_VIEW.getName(), movedAppt);
+
+        appointmentListView.setAppointmentView(ALICE_APPT, movedView);
+
+        assertEquals(Arrays.asList(BENSON_APPT_VIEW, movedView), appointmentListView.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setAppointmentView_targetNotInList_throwsAppointmentNotFoundException() {
+        assertThrows(AppointmentNotFoundException.class, () ->
+                appointmentListView.setAppointmentView(ALICE_APPT, ALICE_APPT_VIEW));
+    }
+
+    @Test
+    public void setPatientName_existingNric_updatesOnlyMatchingViews() {
+        appointmentListView.add(ALICE_APPT_VIEW);
+        appointmentListView.add(ALICE_APPT_VIEW_1);
+        appointmentListView.add(BENSON_APPT_VIEW);
+        Name newName = new Name("Alice Tan");
+
+        appointmentListView.setPatientName(ALICE_APPT.getNric(), newName);
+
+        assertEquals(Arrays.asList(new AppointmentView(newName, ALICE_APPT), BENSON_APPT_VIEW,
+                new AppointmentView(newName, ALICE_APPT_1)), appointmentListView.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAppointmentViewsWithNric_existingNric_removesMatchingViews() {
+        appointmentListView.add(ALICE_APPT_VIEW);
+        appointmentListView.add(ALICE_APPT_VIEW_1);
+        appointmentListView.add(BENSON_APPT_VIEW);
+
+        appointmentListView.removeAppointmentViewsWithNric(ALICE_APPT.getNric());
+
+        assertEquals(List.of(BENSON_APPT_VIEW), appointmentListView.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void pushDown_nricOrDateFilter_sameMatchesAsPredicate() {
+        appointmentListView.add(ALICE_APPT_VIEW);
+        appointmentListView.add(ALICE_APPT_VIEW_1);
+        appointmentListView.add(BENSON_APPT_VIEW);
+        List<Predicate<AppointmentView>> predicates = List.of(
+                new AppointmentContainsKeywordsPredicate(Optional.of(ALICE_APPT.getNric()), Optional.empty(),
+                        Optional.empty()),
+                new AppointmentContainsKeywordsPredicate(Optional.empty(), Optional.of(ALICE_APPT.getDate()),
+                        Optional.empty()),
+                new AppointmentContainsKeywordsPredicate(Optional.of(ALICE_APPT.getNric()),
+                        Optional.of(ALICE_APPT.getDate()), Optional.of(ALICE_APPT.getEndTime())));
+
+        for (Predicate<AppointmentView> predicate : predicates) {
+            assertEquals(new FilteredList<>(appointmentListView.asUnmodifiableObservableList(), predicate),
+                    new FilteredList<>(appointmentListView.asUnmodifiableObservableList(),
+                            appointmentListView.pushDown(predicate)));
+        }
+    }
+
+    @Test
+    public void pushDown_noNricOrDateFilter_returnedUnchanged() {
+        Predicate<AppointmentView> predicate = new AppointmentContainsKeywordsPredicate(Optional.empty(),
+                Optional.empty(), Optional.of(ALICE_APPT.getStartTime()));
+        assertSame(predicate, appointmentListView.pushDown(predicate));
+    }
+
+    @Test
+    public void pushDown_listChangedWhileFiltered_filterStaysCorrect() {
+        appointmentListView.add(ALICE_APPT_VIEW);
+        appointmentListView.add(BENSON_APPT_VIEW);
+        FilteredList<AppointmentView> filteredList = new FilteredList<>(
+                appointmentListView.asUnmodifiableObservableList(),
+                appointmentListView.pushDown(new AppointmentContainsKeywordsPredicate(
+                        Optional.of(ALICE_APPT.getNric()), Optional.empty(), Optional.empty())));
+
+        appointmentListView.add(ALICE_APPT_VIEW_1);
+        appointmentListView.remove(ALICE_APPT);
+
+        assertEquals(List.of(ALICE_APPT_VIEW_1), filteredList);
+
+        appointmentListView.removeAppointmentViewsWithNric(ALICE_APPT.getNric());
+        assertTrue(filteredList.isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> appointmentListView
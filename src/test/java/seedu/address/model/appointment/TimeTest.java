@@ -1,9 +1,13 @@
 package seedu.address.model.appointment;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalTime;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 public class TimeTest {
@@ -53,6 +57,21 @@ public class TimeTest {
         assertTrue(Time.isValidTime("00:00")); // 24-hour clock
     }
 
+    @Test
+    public void parse() {
+        assertThrows(NullPointerException.class, () -> Time.parse(null));
+
+        // invalid time -> returns empty
+        assertEquals(Optional.empty(), Time.parse(""));
+        assertEquals(Optional.empty(), Time.parse("24:00"));
+        assertEquals(Optional.empty(), Time.parse("9:30"));
+        assertEquals(Optional.empty(), Time.parse("12:5a"));
+
+        // valid time -> returns the time
+        assertEquals(LocalTime.of(9, 5), Time.parse("09:05").get().value);
+        assertEquals(Optional.of(new Time("23:59")), Time.parse("23:59"));
+    }
+
     @Test
     public void equals() {
         Time time = new Time("12:00");
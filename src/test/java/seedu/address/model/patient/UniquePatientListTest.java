@@ -2,19 +2,25 @@ package seedu.address.model.patient;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
 import static seedu.address.testutil.TypicalPatients.BOB;
+import static seedu.address.testutil.TypicalPatients.DANIEL;
+import static seedu.address.testutil.TypicalPatients.getTypicalPatients;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.transformation.FilteredList;
 import seedu.address.model.patient.exceptions.DuplicatePatientException;
 import seedu.address.model.patient.exceptions.PatientNotFoundException;
 import seedu.address.testutil.PatientBuilder;
@@ -162,6 +168,17 @@ public class UniquePatientListTest {
         assertThrows(DuplicatePatientException.class, () -> uniquePatientList.setPatients(listWithDuplicatePatients));
     }
 
+    @Test
+    public void setPatients_listWithSeveralDuplicatePatients_reportsEveryDuplicateNric() {
+        Patient editedBob = new PatientBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        List<Patient> listWithDuplicatePatients = Arrays.asList(ALICE, BOB, ALICE, editedBob, ALICE);
+        assertThrows(DuplicatePatientException.class,
+                "Operation would result in duplicate patients with NRIC: "
+                        + ALICE.getNric() + ", " + BOB.getNric(), () ->
+                        uniquePatientList.setPatients(listWithDuplicatePatients));
+        assertTrue(uniquePatientList.asUnmodifiableObservableList().isEmpty());
+    }
+
     @Test
     public void getPatientWithNric_existingPatient_patientReturned() {
         uniquePatientList.add(ALICE);
@@ -173,6 +190,80 @@ public class UniquePatientListTest {
         assertThrows(PatientNotFoundException.class, () -> uniquePatientList.getPatientWithNric(ALICE.getNric()));
     }
 
+    @Test
+    public void getPatientWithNric_afterSetPatient_editedPatientReturned() {
+        uniquePatientList.add(ALICE);
+        Patient editedAlice = new PatientBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePatientList.setPatient(ALICE, editedAlice);
+        assertEquals(editedAlice, uniquePatientList.getPatientWithNric(ALICE.getNric()));
+    }
+
+    @Test
+    public void hasPatientWithNric_nullNric_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePatientList.hasPatientWithNric(null));
+    }
+
+    @Test
+    public void hasPatientWithNric_afterRemoval_returnsFalse() {
+        uniquePatientList.add(ALICE);
+        assertTrue(uniquePatientList.hasPatientWithNric(ALICE.getNric()));
+        uniquePatientList.remove(ALICE);
+        assertFalse(uniquePatientList.hasPatientWithNric(ALICE.getNric()));
+    }
+
+    @Test
+    public void hasPatientWithNric_afterSetPatients_reflectsReplacement() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.setPatients(Collections.singletonList(BOB));
+        assertFalse(uniquePatientList.hasPatientWithNric(ALICE.getNric()));
+        assertTrue(uniquePatientList.hasPatientWithNric(BOB.getNric()));
+    }
+
+    @Test
+    public void deletePatientWithNric_existingPatient_removesPatient() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.deletePatientWithNric(ALICE.getNric());
+        assertFalse(uniquePatientList.hasPatientWithNric(ALICE.getNric()));
+        assertEquals(new UniquePatientList(), uniquePatientList);
+    }
+
+    @Test
+    public void pushDown_indexablePredicates_sameMatchesAsPredicate() {
+        uniquePatientList.setPatients(getTypicalPatients());
+        List<Predicate<Patient>> predicates = List.of(
+                new NameContainsKeywordsPredicate(List.of("meier", "KU")),
+                new NameContainsKeywordsPredicate(List.of("eier")),
+                new NricContainsMatchPredicate("t0123456"),
+                new NricContainsMatchPredicate("T0123456E"));
+
+        for (Predicate<Patient> predicate : predicates) {
+            assertEquals(new FilteredList<>(uniquePatientList.asUnmodifiableObservableList(), predicate),
+                    new FilteredList<>(uniquePatientList.asUnmodifiableObservableList(),
+                            uniquePatientList.pushDown(predicate)));
+        }
+    }
+
+    @Test
+    public void pushDown_otherPredicate_returnedUnchanged() {
+        Predicate<Patient> predicate = patient -> true;
+        assertSame(predicate, uniquePatientList.pushDown(predicate));
+    }
+
+    @Test
+    public void pushDown_listChangedWhileFiltered_filterStaysCorrect() {
+        uniquePatientList.setPatients(getTypicalPatients());
+        FilteredList<Patient> filteredList = new FilteredList<>(uniquePatientList.asUnmodifiableObservableList(),
+                uniquePatientList.pushDown(new NameContainsKeywordsPredicate(List.of("Meier"))));
+        Patient renamedBenson = new PatientBuilder(BENSON).withName("Benson Tan").build();
+        Patient newMeier = new PatientBuilder(BOB).withName("Bob Meier").withNric("T0123456Z").build();
+
+        uniquePatientList.setPatient(BENSON, renamedBenson);
+        uniquePatientList.add(newMeier);
+        uniquePatientList.deletePatientWithNric(DANIEL.getNric());
+
+        assertEquals(List.of(newMeier), filteredList);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,23 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void copyOf_addressBook_contentsCopiedWithoutViews() {
+        AddressBook addressBook = getTypicalAddressBookWithAppointments();
+        AddressBookSnapshot snapshot = AddressBookSnapshot.copyOf(addressBook, null);
+
+        assertEquals(addressBook.getPatientList(), snapshot.getPatientList());
+        assertEquals(addressBook.getAppointmentList(), snapshot.getAppointmentList());
+        assertTrue(snapshot.getAppointmentViewList().isEmpty());
+        assertEquals(addressBook, new AddressBook(snapshot));
+    }
+}
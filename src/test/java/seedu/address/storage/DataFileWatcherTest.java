@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DataFileWatcherTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void start_fileReplaced_callbackRun() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        CountDownLatch changed = new CountDownLatch(1);
+
+        try (DataFileWatcher watcher = new DataFileWatcher(filePath, 50, changed::countDown)) {
+            watcher.start();
+            // Saves write to a temporary file and move it over the data file
+            new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBookWithAppointments());
+
+            assertTrue(changed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void start_otherFileChanged_callbackNotRun() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        CountDownLatch changed = new CountDownLatch(1);
+
+        try (DataFileWatcher watcher = new DataFileWatcher(filePath, 50, changed::countDown)) {
+            watcher.start();
+            Files.writeString(testFolder.resolve("other.json"), "{}");
+
+            assertFalse(changed.await(1, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.ALICE_APPT;
+import static seedu.address.testutil.TypicalAppointments.HOON_APPT;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.HOON;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.JournalSettings;
+import seedu.address.commons.core.JournalSettings.SyncPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PatientBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    private static final JournalSettings JOURNAL_SETTINGS =
+            new JournalSettings(true, SyncPolicy.ALWAYS, 1000, 1000, 2);
+
+    @TempDir
+    public Path testFolder;
+
+    private final SettableClock clock = new SettableClock();
+
+    private JournalAddressBookStorage storage;
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (storage != null) {
+            storage.close();
+        }
+    }
+
+    private JournalAddressBookStorage reopenStorage() throws IOException {
+        if (storage != null) {
+            storage.close();
+        }
+        storage = new JournalAddressBookStorage(testFolder.resolve("CLInic.json"), JOURNAL_SETTINGS, false, clock);
+        return storage;
+    }
+
+    @Test
+    public void readAddressBook_missingSnapshotAndJournal_emptyResult() throws Exception {
+        assertFalse(reopenStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_changesJournaled_success() throws Exception {
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        reopenStorage().saveAddressBook(original);
+
+        // Modify data, journal only the changes, and read back with a new storage
+        original.addPatient(HOON);
+        original.addAppointment(HOON_APPT);
+        original.deletePatientWithNric(ALICE.getNric());
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(reopenStorage().readAddressBook().get());
+        assertEquals(original, readBack);
+        assertFalse(Files.exists(storage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_endTimeEdited_appointmentReplaced() throws Exception {
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        reopenStorage().saveAddressBook(original);
+
+        // Same key as the original appointment, so it is journaled as an edit of it
+        original.setAppointment(ALICE_APPT, new AppointmentBuilder(ALICE_APPT).withEndTime("23:59").build());
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(reopenStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalNotAppended() throws Exception {
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        reopenStorage().saveAddressBook(original);
+        long journalSize = Files.size(storage.getJournalFilePath());
+
+        storage.saveAddressBook(original);
+
+        assertEquals(journalSize, Files.size(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void compact_journalWithChanges_changesMovedIntoSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        reopenStorage().saveAddressBook(original);
+        original.deletePatientWithNric(ALICE.getNric());
+        storage.saveAddressBook(original);
+
+        storage.compact();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        JsonAddressBookStorage snapshotStorage = new JsonAddressBookStorage(storage.getAddressBookFilePath());
+        assertEquals(original, new AddressBook(snapshotStorage.readAddressBook().get()));
+
+        // Changes after the compaction are journaled on top of the new snapshot
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(reopenStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void compact_journalWithChanges_snapshotChecksumRecorded() throws Exception {
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        reopenStorage().saveAddressBook(original);
+        original.deletePatientWithNric(ALICE.getNric());
+        storage.saveAddressBook(original);
+
+        storage.compact();
+
+        assertTrue(JsonAdaptedSnapshotChecksum.isVerified(storage.getAddressBookFilePath()));
+        assertEquals(original, new AddressBook(reopenStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void compact_compressedStorage_snapshotCompressed() throws Exception {
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        storage = new JournalAddressBookStorage(testFolder.resolve("CLInic.json"), JOURNAL_SETTINGS, true, clock);
+        storage.saveAddressBook(original);
+        original.deletePatientWithNric(ALICE.getNric());
+        storage.saveAddressBook(original);
+
+        storage.compact();
+
+        assertTrue(FileUtil.isGzipFile(storage.getAddressBookFilePath()));
+        assertTrue(JsonAdaptedSnapshotChecksum.isVerified(storage.getAddressBookFilePath()));
+        assertEquals(original, new AddressBook(reopenStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_interruptedCompaction_sameContents() throws Exception {
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        reopenStorage().saveAddressBook(original);
+        original.deletePatientWithNric(ALICE.getNric());
+        storage.saveAddressBook(original);
+        storage.close();
+
+        // Snapshot written, but the journal it covers was not yet deleted
+        Path journalFilePath = storage.getJournalFilePath();
+        new JsonAddressBookStorage(storage.getAddressBookFilePath()).saveAddressBook(original);
+        Files.move(journalFilePath, journalFilePath.resolveSibling(
+                "CLInic.json" + JournalAddressBookStorage.COMPACTING_JOURNAL_FILE_SUFFIX));
+
+        assertEquals(original, new AddressBook(reopenStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordDiscarded() throws Exception {
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        reopenStorage().saveAddressBook(original);
+        storage.close();
+        long journalSize = Files.size(storage.getJournalFilePath());
+        Files.write(storage.getJournalFilePath(), "{\"type\":\"PUT_PA".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(reopenStorage().readAddressBook().get()));
+        assertEquals(journalSize, Files.size(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        reopenStorage().saveAddressBook(getTypicalAddressBookWithAppointments());
+        storage.close();
+        Files.write(storage.getJournalFilePath(), "{\"type\":\"RENAME_PATIENT\"}\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> reopenStorage().readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_recordForMissingPatient_throwsDataLoadingException() throws Exception {
+        reopenStorage().saveAddressBook(new AddressBook());
+        String record = JsonUtil.toCompactJsonString(
+                JsonAdaptedJournalRecord.appointmentSaved(null, HOON_APPT, 0)) + "\n";
+        Files.write(storage.getJournalFilePath(), record.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> reopenStorage().readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_changes_typedEventsJournaled() throws Exception {
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        original.addPatient(HOON);
+        original.addAppointment(HOON_APPT);
+        reopenStorage().saveAddressBook(original);
+
+        original.setPatient(HOON, new PatientBuilder(HOON).withPhone("91234567").build());
+        original.setAppointment(HOON_APPT, new AppointmentBuilder(HOON_APPT).withMark(true).build());
+        original.deletePatientWithNric(ALICE.getNric());
+        storage.saveAddressBook(original);
+
+        String journal = Files.readString(storage.getJournalFilePath());
+        assertTrue(journal.contains("\"PATIENT_ADDED\""));
+        assertTrue(journal.contains("\"APPOINTMENT_ADDED\""));
+        assertTrue(journal.contains("\"PATIENT_EDITED\""));
+        assertTrue(journal.contains("\"APPOINTMENT_MARKED\""));
+        assertTrue(journal.contains("\"PATIENT_DELETED\""));
+        assertTrue(journal.contains("\"APPOINTMENT_DELETED\""));
+    }
+
+    @Test
+    public void readAddressBookAt_acrossCompactions_stateAtEachTime() throws Exception {
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        clock.setMillis(1000);
+        reopenStorage().saveAddressBook(original);
+        AddressBook atFirstSave = new AddressBook(original);
+
+        clock.setMillis(2000);
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+        AddressBook atSecondSave = new AddressBook(original);
+        clock.setMillis(2500);
+        storage.compact();
+
+        clock.setMillis(3000);
+        original.deletePatientWithNric(ALICE.getNric());
+        storage.saveAddressBook(original);
+        AddressBook atThirdSave = new AddressBook(original);
+
+        clock.setMillis(4000);
+        original.addAppointment(HOON_APPT);
+        storage.saveAddressBook(original);
+
+        JournalAddressBookStorage rereadStorage = reopenStorage();
+        assertEquals(new AddressBook(), readAt(rereadStorage, 500));
+        assertEquals(atFirstSave, readAt(rereadStorage, 1999));
+        assertEquals(atSecondSave, readAt(rereadStorage, 2000));
+        assertEquals(atSecondSave, readAt(rereadStorage, 2999));
+        assertEquals(atThirdSave, readAt(rereadStorage, 3000));
+        assertEquals(original, readAt(rereadStorage, 5000));
+    }
+
+    @Test
+    public void readAddressBookAt_beforeOldestKeptSnapshot_emptyResult() throws Exception {
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        reopenStorage().saveAddressBook(original);
+        for (long time = 1000; time <= 3000; time += 1000) {
+            clock.setMillis(time);
+            original.addPatient(new PatientBuilder(HOON).withNric("T000000" + time / 1000 + "A").build());
+            storage.saveAddressBook(original);
+            storage.compact();
+        }
+
+        // Only the snapshots of the last two compactions are kept
+        assertFalse(storage.readAddressBookAt(Instant.ofEpochMilli(1500)).isPresent());
+        assertEquals(original, readAt(storage, 3000));
+    }
+
+    @Test
+    public void readAddressBookAt_noHistoryBeforeCompaction_emptyResult() throws Exception {
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        storage = new JournalAddressBookStorage(testFolder.resolve("CLInic.json"),
+                new JournalSettings(true, SyncPolicy.ALWAYS, 1000, 1000, 0), false, clock);
+        clock.setMillis(1000);
+        storage.saveAddressBook(original);
+        clock.setMillis(2000);
+        storage.compact();
+
+        clock.setMillis(3000);
+        original.addPatient(HOON);
+        storage.saveAddressBook(original);
+        AddressBook atCompaction = getTypicalAddressBookWithAppointments();
+
+        // Only the times since the compaction that wrote the current snapshot can be rebuilt
+        assertFalse(storage.readAddressBookAt(Instant.ofEpochMilli(1500)).isPresent());
+        assertEquals(atCompaction, readAt(storage, 2500));
+        assertEquals(original, readAt(storage, 3000));
+    }
+
+    private static AddressBook readAt(JournalAddressBookStorage storage, long millis) throws Exception {
+        ReadOnlyAddressBook read = storage.readAddressBookAt(Instant.ofEpochMilli(millis)).get();
+        return new AddressBook(read);
+    }
+
+    /**
+     * A clock that stays at the time it was last set to.
+     */
+    private static class SettableClock extends Clock {
+        private Instant instant = Instant.EPOCH;
+
+        void setMillis(long millis) {
+            instant = Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -2,7 +2,9 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.ALICE_APPT;
 import static seedu.address.testutil.TypicalAppointments.HOON_APPT;
 import static seedu.address.testutil.TypicalAppointments.IDA_APPT;
 import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
@@ -11,13 +13,19 @@ import static seedu.address.testutil.TypicalPatients.HOON;
 import static seedu.address.testutil.TypicalPatients.IDA;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Checksum;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -52,6 +60,53 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("notJsonFormatAddressBook.json"));
     }
 
+    @Test
+    public void read_notJsonObject_exceptionThrown() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("notJsonObjectAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_appointmentsBeforePatients_success() throws Exception {
+        ReadOnlyAddressBook addressBook = readAddressBook("appointmentsBeforePatientsAddressBook.json").get();
+
+        assertEquals(List.of(ALICE), addressBook.getPatientList());
+        assertEquals(List.of(ALICE_APPT), addressBook.getAppointmentList());
+    }
+
+    @Test
+    public void readAddressBook_progressListener_reportsCompletion() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        List<long[]> progress = new ArrayList<>();
+        jsonAddressBookStorage.setProgressListener((recordsRead, bytesRead, totalBytes) ->
+                progress.add(new long[] {recordsRead, bytesRead, totalBytes}));
+
+        jsonAddressBookStorage.readAddressBook();
+
+        assertFalse(progress.isEmpty());
+        long[] last = progress.get(progress.size() - 1);
+        assertEquals(original.getPatientList().size() + original.getAppointmentList().size(), last[0]);
+        assertEquals(Files.size(filePath), last[1]);
+        assertEquals(Files.size(filePath), last[2]);
+        assertTrue(progress.stream().allMatch(entry -> entry[1] <= entry[2]));
+    }
+
+    @Test
+    public void readAddressBook_fewerRecordsThanProgressInterval_onlyCompletionReported() throws Exception {
+        JsonAddressBookStorage jsonAddressBookStorage =
+                new JsonAddressBookStorage(addToTestDataPathIfNotNull("appointmentsBeforePatientsAddressBook.json"));
+        List<long[]> progress = new ArrayList<>();
+        jsonAddressBookStorage.setProgressListener((recordsRead, bytesRead, totalBytes) ->
+                progress.add(new long[] {recordsRead, bytesRead, totalBytes}));
+
+        jsonAddressBookStorage.readAddressBook();
+
+        assertEquals(1, progress.size());
+        assertEquals(2, progress.get(0)[0]);
+    }
+
     @Test
     public void readAddressBook_invalidPatientAddressBook_throwDataLoadingException() {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidPatientAddressBook.json"));
@@ -90,6 +145,91 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_compactOutput_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_checksumRecorded_readBackVerified() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertTrue(JsonAdaptedSnapshotChecksum.isVerified(filePath));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_fileChangedAfterSave_validated() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBookWithAppointments());
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidPatientAddressBook.json"), filePath,
+                StandardCopyOption.REPLACE_EXISTING);
+
+        assertFalse(JsonAdaptedSnapshotChecksum.isVerified(filePath));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_fileChangedKeepingLength_validated() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBookWithAppointments());
+        // An invalid phone number of the same length leaves the recorded length matching
+        Files.writeString(filePath, Files.readString(filePath).replace("94351253", "9435125!"));
+
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_verifiedSnapshotViolatesConstraints_fallsBackToValidation() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidPatientAddressBook.json"), filePath);
+        Checksum checksum = JsonAdaptedSnapshotChecksum.newChecksum();
+        byte[] contents = Files.readAllBytes(filePath);
+        checksum.update(contents, 0, contents.length);
+        JsonAdaptedSnapshotChecksum.write(filePath, checksum);
+
+        assertTrue(JsonAdaptedSnapshotChecksum.isVerified(filePath));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_checksumOfOlderSchema_notVerified() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        Path checksumFilePath = JsonAdaptedSnapshotChecksum.getChecksumFilePath(filePath);
+        Files.writeString(checksumFilePath, Files.readString(checksumFilePath).replace(
+                "\"schemaVersion\":" + JsonAdaptedSnapshotChecksum.SCHEMA_VERSION, "\"schemaVersion\":0"));
+
+        assertFalse(JsonAdaptedSnapshotChecksum.isVerified(filePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        new JsonAddressBookStorage(filePath, true, true).saveAddressBook(original);
+
+        assertTrue(FileUtil.isGzipFile(filePath));
+        assertTrue(JsonAdaptedSnapshotChecksum.isVerified(filePath));
+        // The compressed file is detected by storages that write plain json too
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        Files.delete(JsonAdaptedSnapshotChecksum.getChecksumFilePath(filePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
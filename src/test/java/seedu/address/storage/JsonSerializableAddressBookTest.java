@@ -68,6 +68,15 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalAppointmentsAddressBookWithAppointments);
     }
 
+    @Test
+    public void toModelType_typicalAppointmentsFile_appointmentViewsBuilt() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_APPOINTMENTS_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        assertEquals(TypicalAppointments.getTypicalAddressBookWithAppointments().getAppointmentViewList(),
+                addressBookFromFile.getAppointmentViewList());
+    }
+
     @Test
     public void toModelType_invalidAppointmentsFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_APPOINTMENT_FILE,
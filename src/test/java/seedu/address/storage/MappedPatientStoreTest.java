@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.CARL;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPatients.getTypicalPatients;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.UniquePatientList;
+import seedu.address.testutil.PatientBuilder;
+
+public class MappedPatientStoreTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private MappedPatientStore store;
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    public void add_patients_retrievableByIndexAndNric() throws Exception {
+        store = new MappedPatientStore(testFolder.resolve("patients.db"));
+
+        store.add(ALICE);
+        store.add(BENSON);
+
+        assertEquals(2, store.size());
+        assertEquals(BENSON, store.get(1));
+        assertEquals(ALICE, store.get(ALICE.getNric()));
+        assertEquals(1, store.indexOf(BENSON.getNric()));
+        assertTrue(store.contains(ALICE.getNric()));
+        assertFalse(store.contains(CARL.getNric()));
+        assertNull(store.get(CARL.getNric()));
+        assertEquals(-1, store.indexOf(CARL.getNric()));
+    }
+
+    @Test
+    public void set_sameAndDifferentNric_replacedInPlace() throws Exception {
+        store = new MappedPatientStore(testFolder.resolve("patients.db"));
+        store.setAll(List.of(ALICE, BENSON, CARL));
+        Patient editedAlice = new PatientBuilder(ALICE).withPhone("99999999").build();
+        Patient editedBenson = new PatientBuilder(BENSON).withNric("S1234567Z").build();
+
+        store.set(0, editedAlice);
+        store.set(1, editedBenson);
+
+        assertEquals(List.of(editedAlice, editedBenson, CARL), toList(store));
+        assertFalse(store.contains(BENSON.getNric()));
+        assertEquals(1, store.indexOf(editedBenson.getNric()));
+    }
+
+    @Test
+    public void remove_patient_laterPatientsMoveUp() throws Exception {
+        store = new MappedPatientStore(testFolder.resolve("patients.db"));
+        store.setAll(List.of(ALICE, BENSON, CARL));
+
+        store.remove(0);
+
+        assertEquals(List.of(BENSON, CARL), toList(store));
+        assertEquals(1, store.indexOf(CARL.getNric()));
+        assertFalse(store.contains(ALICE.getNric()));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.remove(2));
+    }
+
+    @Test
+    public void reopen_afterChanges_samePatientsInSameOrder() throws Exception {
+        Path filePath = testFolder.resolve("patients.db");
+        store = new MappedPatientStore(filePath);
+        store.setAll(getTypicalPatients());
+        store.remove(1);
+        store.set(0, new PatientBuilder(ALICE).withNric("S7654321A").build());
+        List<Patient> expected = toList(store);
+        store.close();
+
+        store = new MappedPatientStore(filePath);
+
+        assertEquals(expected, toList(store));
+    }
+
+    @Test
+    public void add_manyPatientsWithSmallCache_tableGrowsAndOrderKept() throws Exception {
+        Path filePath = testFolder.resolve("patients.db");
+        store = new MappedPatientStore(filePath, 4);
+        List<Patient> patients = IntStream.range(0, 500)
+                .mapToObj(i -> new PatientBuilder().withNric(String.format("S%07dA", i)).build())
+                .collect(Collectors.toList());
+
+        patients.forEach(store::add);
+        for (int i = 0; i < 250; i++) {
+            store.remove(0);
+        }
+
+        assertEquals(patients.subList(250, 500), toList(store));
+        assertEquals(patients.get(400), store.get(patients.get(400).getNric()));
+        store.close();
+        store = new MappedPatientStore(filePath, 4);
+        assertEquals(patients.subList(250, 500), toList(store));
+        assertEquals(150, store.indexOf(patients.get(400).getNric()));
+    }
+
+    @Test
+    public void constructor_notPatientFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("patients.db");
+        Files.writeString(filePath, "not a patient record file, but long enough to hold a header");
+
+        assertThrows(IOException.class, () -> new MappedPatientStore(filePath));
+    }
+
+    @Test
+    public void uniquePatientList_backedByStore_behavesAsInMemoryList() throws Exception {
+        store = new MappedPatientStore(testFolder.resolve("patients.db"));
+        UniquePatientList mappedList = new UniquePatientList(store);
+        UniquePatientList inMemoryList = new UniquePatientList();
+        List<String> changes = new ArrayList<>();
+        mappedList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Patient>) change -> changes.add(change.toString()));
+
+        for (UniquePatientList list : List.of(mappedList, inMemoryList)) {
+            list.setPatients(getTypicalPatients());
+            list.setPatient(BENSON, new PatientBuilder(BENSON).withPhone("91234567").build());
+            list.remove(ALICE);
+            list.deletePatientWithNric(CARL.getNric());
+        }
+
+        assertEquals(inMemoryList, mappedList);
+        assertEquals(4, changes.size());
+    }
+
+    @Test
+    public void modelManager_backedByStore_sameAsInMemoryModel() throws Exception {
+        Path filePath = testFolder.resolve("patients.db");
+        store = new MappedPatientStore(filePath);
+        store.add(ALICE);
+
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs(), store);
+        modelManager.deletePatientWithNric(BENSON.getNric());
+        ModelManager expectedModelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModelManager.deletePatientWithNric(BENSON.getNric());
+
+        assertEquals(expectedModelManager.getFilteredPatientList(), modelManager.getFilteredPatientList());
+        assertEquals(expectedModelManager.getFilteredPatientList(), toList(store));
+    }
+
+    private static List<Patient> toList(MappedPatientStore store) {
+        return IntStream.range(0, store.size()).mapToObj(store::get).collect(Collectors.toList());
+    }
+}
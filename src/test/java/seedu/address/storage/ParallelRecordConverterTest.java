@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelRecordConverterTest {
+
+    private static final int RECORD_COUNT = ParallelRecordConverter.CHUNK_SIZE * 8 + 3;
+
+    private final List<Integer> records = IntStream.range(0, RECORD_COUNT).boxed().collect(Collectors.toList());
+
+    @Test
+    public void convertInOrder_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                ParallelRecordConverter.convertInOrder(null, record -> record, record -> { }));
+    }
+
+    @Test
+    public void convertInOrder_manyRecords_resultsInOriginalOrder() throws Exception {
+        List<String> converted = new ArrayList<>();
+
+        ParallelRecordConverter.convertInOrder(records, String::valueOf, converted::add);
+
+        assertEquals(records.stream().map(String::valueOf).collect(Collectors.toList()), converted);
+    }
+
+    @Test
+    public void convertInOrder_severalInvalidRecords_firstErrorThrown() {
+        ParallelRecordConverter.Conversion<Integer, Integer> conversion = record -> {
+            if (record == 300 || record == 1500) {
+                throw new IllegalValueException("invalid " + record);
+            }
+            return record;
+        };
+        List<Integer> converted = new ArrayList<>();
+
+        assertThrows(IllegalValueException.class, "invalid 300", () ->
+                ParallelRecordConverter.convertInOrder(records, conversion, converted::add));
+        assertEquals(records.subList(0, 300), converted);
+    }
+
+    @Test
+    public void convertInOrder_sinkRejectsEarlierRecord_sinkErrorThrown() {
+        ParallelRecordConverter.Conversion<Integer, Integer> conversion = record -> {
+            if (record == 1500) {
+                throw new IllegalValueException("invalid " + record);
+            }
+            return record;
+        };
+
+        assertThrows(IllegalValueException.class, "rejected 10", () ->
+                ParallelRecordConverter.convertInOrder(records, conversion, record -> {
+                    if (record == 10) {
+                        throw new IllegalValueException("rejected " + record);
+                    }
+                }));
+    }
+}
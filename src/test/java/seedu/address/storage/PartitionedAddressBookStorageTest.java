@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.ALICE_APPT;
+import static seedu.address.testutil.TypicalAppointments.ALICE_APPT_1;
+import static seedu.address.testutil.TypicalAppointments.BENSON_APPT;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAppointments;
+import static seedu.address.testutil.TypicalPatients.getTypicalPatients;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.PartitionSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.testutil.AppointmentBuilder;
+
+public class PartitionedAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final PartitionSettings PARTITION_SETTINGS = new PartitionSettings(true, 3);
+
+    // The typical appointments are all in March and April 2024, which is outside the recent months
+    private static final Path MARCH_PARTITION = Paths.get("2024-03.json");
+    private static final Path APRIL_PARTITION = Paths.get("2024-04.json");
+
+    @TempDir
+    public Path testFolder;
+
+    private final Appointment recentAppointment = new AppointmentBuilder(ALICE_APPT)
+            .withDate(LocalDate.now().toString()).build();
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PartitionedAddressBookStorage(null, PARTITION_SETTINGS));
+        assertThrows(NullPointerException.class, () ->
+                new PartitionedAddressBookStorage(testFolder.resolve("addressbook.json"), null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(newStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_afterSave_onlyRecentAppointmentsRead() throws Exception {
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        original.addAppointment(recentAppointment);
+        newStorage().saveAddressBook(original);
+
+        PartitionedAddressBookStorage storage = newStorage();
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+
+        assertEquals(getTypicalPatients(), read.getPatientList());
+        assertEquals(List.of(recentAppointment), read.getAppointmentList());
+        assertEquals(List.of(ALICE_APPT, BENSON_APPT), storage.loadAppointmentsInMonthOf(ALICE_APPT.getDate().value,
+                read.getModificationVersion()));
+        assertEquals(Collections.emptyList(), storage.loadAppointmentsInMonthOf(ALICE_APPT.getDate().value,
+                read.getModificationVersion()));
+        assertEquals(List.of(ALICE_APPT_1), storage.loadAllAppointments(read.getModificationVersion()));
+    }
+
+    @Test
+    public void saveAddressBook_compressedStorage_patientFileCompressed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        new PartitionedAddressBookStorage(filePath, PARTITION_SETTINGS, true).saveAddressBook(original);
+
+        assertTrue(FileUtil.isGzipFile(filePath));
+        assertEquals(getTypicalPatients(), new AddressBook(newStorage().readAddressBook().get()).getPatientList());
+    }
+
+    @Test
+    public void readAddressBook_fullJsonFile_allAppointmentsReadAndPartitionedOnSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("typicalAppointmentsAddressBook.json"), filePath);
+
+        PartitionedAddressBookStorage storage = newStorage();
+        AddressBook read = new AddressBook(storage.readAddressBook().get());
+        assertEquals(getTypicalAddressBookWithAppointments(), read);
+
+        storage.saveAddressBook(read);
+        assertTrue(Files.exists(storage.getPartitionFolderPath().resolve(MARCH_PARTITION)));
+        assertTrue(Files.exists(storage.getPartitionFolderPath().resolve(APRIL_PARTITION)));
+        assertTrue(new JsonAddressBookStorage(filePath).readAddressBook().get().getAppointmentList().isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedMonth_partitionNotRewritten() throws Exception {
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        PartitionedAddressBookStorage storage = newStorage();
+        storage.saveAddressBook(original);
+        Files.delete(storage.getPartitionFolderPath().resolve(MARCH_PARTITION));
+
+        original.deleteAppointment(ALICE_APPT_1);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getPartitionFolderPath().resolve(MARCH_PARTITION)));
+        assertFalse(Files.exists(storage.getPartitionFolderPath().resolve(APRIL_PARTITION)));
+    }
+
+    @Test
+    public void saveAddressBook_copiedBeforeMonthLoaded_partitionKept() throws Exception {
+        newStorage().saveAddressBook(getTypicalAddressBookWithAppointments());
+        PartitionedAddressBookStorage storage = newStorage();
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        List<Appointment> loaded = storage.loadAppointmentsInMonthOf(ALICE_APPT.getDate().value,
+                addressBook.getModificationVersion());
+
+        // The address book has not been given the loaded appointments yet, like a copy made before the load
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(storage.getPartitionFolderPath().resolve(MARCH_PARTITION)));
+
+        loaded.forEach(addressBook::addAppointment);
+        addressBook.deleteAppointment(BENSON_APPT);
+        storage.saveAddressBook(addressBook);
+
+        PartitionedAddressBookStorage rereadStorage = newStorage();
+        AddressBook read = new AddressBook(rereadStorage.readAddressBook().get());
+        assertEquals(List.of(ALICE_APPT), rereadStorage.loadAppointmentsInMonthOf(ALICE_APPT.getDate().value,
+                read.getModificationVersion()));
+    }
+
+    @Test
+    public void discardUnloadedAppointments_thenSave_partitionsDeleted() throws Exception {
+        newStorage().saveAddressBook(getTypicalAddressBookWithAppointments());
+        PartitionedAddressBookStorage storage = newStorage();
+        storage.readAddressBook();
+
+        storage.discardUnloadedAppointments();
+        storage.saveAddressBook(new AddressBook());
+
+        assertFalse(Files.exists(storage.getPartitionFolderPath().resolve(MARCH_PARTITION)));
+        assertFalse(Files.exists(storage.getPartitionFolderPath().resolve(APRIL_PARTITION)));
+        assertEquals(Collections.emptyList(), storage.loadAllAppointments(0));
+    }
+
+    @Test
+    public void loadAppointmentsInMonthOf_appointmentInWrongPartition_throwsDataLoadingException() throws Exception {
+        PartitionedAddressBookStorage storage = newStorage();
+        storage.saveAddressBook(getTypicalAddressBookWithAppointments());
+        Files.move(storage.getPartitionFolderPath().resolve(APRIL_PARTITION),
+                storage.getPartitionFolderPath().resolve("2023-04.json"));
+        storage.readAddressBook();
+
+        assertThrows(DataLoadingException.class, () -> storage.loadAllAppointments(0));
+    }
+
+    @Test
+    public void modelManager_withArchive_loadsArchivedAppointmentsOnDemand() throws Exception {
+        newStorage().saveAddressBook(getTypicalAddressBookWithAppointments());
+        PartitionedAddressBookStorage storage = newStorage();
+        ModelManager modelManager = new ModelManager(storage.readAddressBook().get(), new UserPrefs());
+        modelManager.setAppointmentArchive(storage);
+
+        modelManager.loadArchivedAppointments(ALICE_APPT_1.getDate());
+        assertEquals(List.of(ALICE_APPT_1), modelManager.getAddressBook().getAppointmentList());
+
+        modelManager.loadAllArchivedAppointments();
+        assertEquals(getTypicalAddressBookWithAppointments().getAppointmentList().size(),
+                modelManager.getAddressBook().getAppointmentList().size());
+        assertTrue(modelManager.getAddressBook().getAppointmentList().containsAll(getTypicalAppointments()));
+    }
+
+    private PartitionedAddressBookStorage newStorage() {
+        return new PartitionedAddressBookStorage(testFolder.resolve("addressbook.json"), PARTITION_SETTINGS);
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAppointments.HOON_APPT;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
+import static seedu.address.testutil.TypicalPatients.HOON;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.storage.AddressBookSnapshot.Changes;
+import seedu.address.storage.AddressBookSnapshot.RecordChange;
+
+public class SqlAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SqlAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new SqlAddressBookStorage(testFolder.resolve("NonExistentFile.db"))
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_readAsJson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertFalse(SqlAddressBookStorage.isSqlDatabase(filePath));
+        assertEquals(original, new AddressBook(new SqlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changesNotBasedOnLastSave_throwsIoException() {
+        AddressBook addressBook = getTypicalAddressBookWithAppointments();
+        Changes changes = new Changes(addressBook.getModificationVersion(), List.of(), List.of());
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(testFolder.resolve("TempAddressBook.db"));
+
+        assertThrows(IOException.class, () -> storage.saveAddressBook(
+                AddressBookSnapshot.changesOf(addressBook, changes)));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        assumeTrue(isDriverAvailable());
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(SqlAddressBookStorage.isSqlDatabase(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        // Other storages detect the database too
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        storage.close();
+    }
+
+    @Test
+    public void saveAddressBook_changesOnly_changedRowsWritten() throws Exception {
+        assumeTrue(isDriverAvailable());
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        SqlAddressBookStorage storage = new SqlAddressBookStorage(filePath);
+        storage.saveAddressBook(AddressBookSnapshot.copyOf(original, null));
+
+        long baseVersion = original.getModificationVersion();
+        original.addPatient(HOON);
+        original.addAppointment(HOON_APPT);
+        Changes changes = new Changes(baseVersion, List.of(new RecordChange<>(HOON, true)),
+                List.of(new RecordChange<>(HOON_APPT, true)));
+        storage.saveAddressBook(AddressBookSnapshot.changesOf(original, changes));
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        storage.close();
+    }
+
+    private static boolean isDriverAvailable() {
+        try {
+            DriverManager.getDriver("jdbc:sqlite:");
+            return true;
+        } catch (SQLException sqle) {
+            return false;
+        }
+    }
+}
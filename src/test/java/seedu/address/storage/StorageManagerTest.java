@@ -1,19 +1,26 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
+import static seedu.address.testutil.TypicalPatients.HOON;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PatientBuilder;
 
 public class StorageManagerTest {
 
@@ -60,6 +67,76 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unchangedSinceLastSave_writeSkipped() throws Exception {
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        storageManager.saveAddressBook(original);
+        assertEquals(original.getModificationVersion(), storageManager.getLastSavedAddressBookVersion());
+
+        Files.delete(storageManager.getAddressBookFilePath());
+        storageManager.saveAddressBook(original);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        original.addPatient(HOON);
+        storageManager.saveAddressBook(original);
+        assertTrue(Files.exists(storageManager.getAddressBookFilePath()));
+        assertEquals(original.getModificationVersion(), storageManager.getLastSavedAddressBookVersion());
+    }
+
+    @Test
+    public void isAddressBookFileUnchangedSinceSave_fileChangedKeepingModifiedTime_returnsFalse() throws Exception {
+        assertFalse(storageManager.isAddressBookFileUnchangedSinceSave());
+
+        storageManager.saveAddressBook(getTypicalAddressBookWithAppointments());
+        Path filePath = storageManager.getAddressBookFilePath();
+        assertTrue(storageManager.isAddressBookFileUnchangedSinceSave());
+
+        FileTime savedTime = Files.getLastModifiedTime(filePath);
+        Files.write(filePath, new byte[] {'{', '}'});
+        Files.setLastModifiedTime(filePath, savedTime);
+        assertFalse(storageManager.isAddressBookFileUnchangedSinceSave());
+    }
+
+    @Test
+    public void close_addressBookStorageClosed() throws Exception {
+        boolean[] isClosed = {false};
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void close() {
+                isClosed[0] = true;
+            }
+        };
+        new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs"))).close();
+        assertTrue(isClosed[0]);
+    }
+
+    @Test
+    public void saveAddressBook_withBackups_dataFileBackedUpOncePerRun() throws Exception {
+        Path filePath = getTempFilePath("ab");
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        AddressBook original = getTypicalAddressBookWithAppointments();
+        AddressBook firstRun = new AddressBook(original);
+        storageManager.saveAddressBook(firstRun);
+
+        for (int run = 0; run < 3; run++) {
+            StorageManager manager = new StorageManager(new JsonAddressBookStorage(filePath), userPrefsStorage,
+                    new CompressedBackups(2));
+            original.addPatient(new PatientBuilder(HOON).withNric("T000000" + run + "A").build());
+            manager.saveAddressBook(original);
+            original.addPatient(new PatientBuilder(HOON).withNric("T000001" + run + "A").build());
+            manager.saveAddressBook(original);
+        }
+
+        Path newestBackup = CompressedBackups.getBackupFilePath(filePath, 1);
+        Path oldestBackup = CompressedBackups.getBackupFilePath(filePath, 2);
+        assertTrue(FileUtil.isGzipFile(newestBackup));
+        assertFalse(Files.exists(CompressedBackups.getBackupFilePath(filePath, 3)));
+        assertEquals(original.getPatientList().size() - 2,
+                new JsonAddressBookStorage(newestBackup).readAddressBook().get().getPatientList().size());
+        assertEquals(original.getPatientList().size() - 4,
+                new JsonAddressBookStorage(oldestBackup).readAddressBook().get().getPatientList().size());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
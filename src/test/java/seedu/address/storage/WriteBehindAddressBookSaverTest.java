@@ -0,0 +1,220 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAppointments.getTypicalAddressBookWithAppointments;
+import static seedu.address.testutil.TypicalPatients.HOON;
+import static seedu.address.testutil.TypicalPatients.IDA;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.JournalSettings;
+import seedu.address.commons.core.JournalSettings.SyncPolicy;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private WriteBehindAddressBookSaver saver;
+
+    @AfterEach
+    public void tearDown() {
+        if (saver != null) {
+            saver.close();
+        }
+    }
+
+    @Test
+    public void requestSave_thenFlush_addressBookWritten() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("CLInic.json"));
+        saver = new WriteBehindAddressBookSaver(storage);
+        AddressBook original = getTypicalAddressBookWithAppointments();
+
+        saver.requestSave(original);
+        saver.flush();
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void requestSave_burstWhileWriting_coalescedIntoLatestSnapshot() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage(testFolder.resolve("CLInic.json"),
+                firstWriteStarted, firstWriteReleased);
+        saver = new WriteBehindAddressBookSaver(storage);
+        AddressBook original = getTypicalAddressBookWithAppointments();
+
+        saver.requestSave(original);
+        firstWriteStarted.await();
+        original.addPatient(HOON);
+        saver.requestSave(original);
+        original.addPatient(IDA);
+        saver.requestSave(original);
+        firstWriteReleased.countDown();
+        saver.flush();
+
+        assertEquals(2, storage.savedAddressBooks.size());
+        assertEquals(original, new AddressBook(storage.savedAddressBooks.get(1)));
+    }
+
+    @Test
+    public void requestSave_unchangedAddressBook_notWrittenAgain() throws Exception {
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage(testFolder.resolve("CLInic.json"),
+                new CountDownLatch(1), new CountDownLatch(0));
+        saver = new WriteBehindAddressBookSaver(storage);
+        AddressBook original = getTypicalAddressBookWithAppointments();
+
+        saver.requestSave(original);
+        saver.flush();
+        saver.requestSave(original);
+        saver.flush();
+
+        assertEquals(1, storage.savedAddressBooks.size());
+    }
+
+    @Test
+    public void markSaved_unchangedAddressBook_notWritten() throws Exception {
+        RecordingAddressBookStorage storage = new RecordingAddressBookStorage(testFolder.resolve("CLInic.json"),
+                new CountDownLatch(1), new CountDownLatch(0));
+        saver = new WriteBehindAddressBookSaver(storage);
+        AddressBook original = getTypicalAddressBookWithAppointments();
+
+        saver.markSaved(original);
+        saver.requestSave(original);
+        saver.flush();
+        assertTrue(storage.savedAddressBooks.isEmpty());
+
+        original.addPatient(HOON);
+        saver.requestSave(original);
+        saver.flush();
+        assertEquals(1, storage.savedAddressBooks.size());
+    }
+
+    @Test
+    public void requestSave_incrementalStorage_onlyChangesSavedAfterFirstWrite() throws Exception {
+        Path filePath = testFolder.resolve("CLInic.json");
+        JournalSettings journalSettings = new JournalSettings(true, SyncPolicy.ALWAYS, 1000, 1000, 0);
+        List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, journalSettings) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                savedAddressBooks.add(addressBook);
+                super.saveAddressBook(addressBook);
+            }
+        };
+        saver = new WriteBehindAddressBookSaver(storage);
+        AddressBook original = getTypicalAddressBookWithAppointments();
+
+        saver.requestSave(original);
+        saver.flush();
+        original.addPatient(HOON);
+        saver.requestSave(original);
+        saver.flush();
+        original.deletePatientWithNric(HOON.getNric());
+        original.addPatient(IDA);
+        saver.requestSave(original);
+        saver.close();
+        storage.close();
+
+        assertEquals(3, savedAddressBooks.size());
+        assertTrue(((AddressBookSnapshot) savedAddressBooks.get(0)).hasContents());
+        assertFalse(((AddressBookSnapshot) savedAddressBooks.get(1)).hasContents());
+        assertFalse(((AddressBookSnapshot) savedAddressBooks.get(2)).hasContents());
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath, journalSettings);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+        reopened.close();
+    }
+
+    @Test
+    public void requestSave_writeFails_errorHandlerCalled() throws Exception {
+        IOException exception = new IOException("dummy IO exception");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("CLInic.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw exception;
+            }
+        };
+        List<IOException> errors = new ArrayList<>();
+        saver = new WriteBehindAddressBookSaver(storage);
+        saver.setErrorHandler(errors::add);
+
+        saver.requestSave(getTypicalAddressBookWithAppointments());
+        saver.flush();
+
+        assertEquals(List.of(exception), errors);
+    }
+
+    @Test
+    public void requestSave_writeFailsUnexpectedly_errorReportedAndLaterSavesWritten() throws Exception {
+        IllegalStateException exception = new IllegalStateException("dummy runtime exception");
+        Path filePath = testFolder.resolve("CLInic.json");
+        boolean[] isFailing = {true};
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                if (isFailing[0]) {
+                    throw exception;
+                }
+                super.saveAddressBook(addressBook);
+            }
+        };
+        List<IOException> errors = new ArrayList<>();
+        saver = new WriteBehindAddressBookSaver(storage);
+        saver.setErrorHandler(errors::add);
+
+        AddressBook addressBook = getTypicalAddressBookWithAppointments();
+        saver.requestSave(addressBook);
+        saver.flush();
+
+        assertEquals(1, errors.size());
+        assertEquals(exception, errors.get(0).getCause());
+
+        // The saving thread carries on with later saves
+        isFailing[0] = false;
+        addressBook.addPatient(HOON);
+        saver.requestSave(addressBook);
+        saver.flush();
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    /**
+     * A storage that records the address books it saves, and holds back its first save until released.
+     */
+    private static class RecordingAddressBookStorage extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        private final CountDownLatch firstWriteStarted;
+        private final CountDownLatch firstWriteReleased;
+
+        RecordingAddressBookStorage(Path filePath, CountDownLatch firstWriteStarted,
+                                    CountDownLatch firstWriteReleased) {
+            super(filePath);
+            this.firstWriteStarted = firstWriteStarted;
+            this.firstWriteReleased = firstWriteReleased;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            firstWriteStarted.countDown();
+            try {
+                firstWriteReleased.await();
+            } catch (InterruptedException ie) {
+                throw new IOException(ie);
+            }
+            savedAddressBooks.add(addressBook);
+            super.saveAddressBook(addressBook);
+        }
+    }
+}